@@ -0,0 +1,86 @@
+package org.example.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.example.model.chaosgame.ChaosGameDescription;
+import org.example.model.factory.ChaosGameDescriptionFactory;
+import org.example.model.math.Complex;
+import org.example.model.math.Matrix2x2;
+import org.example.model.math.Vector2D;
+import org.example.model.transform.AffineTransform2D;
+import org.example.model.transform.JuliaTransform;
+import org.example.model.transform.Transform2D;
+
+/**
+ * <h2>BenchmarkDescriptions.</h2>
+ * <p>
+ * Creates the descriptions used by the benchmarks. The named descriptions come from
+ * {@link ChaosGameDescriptionFactory}. The random description has a fixed seed, so every run of a
+ * benchmark uses the same transforms and weights. The rabbit description is a Julia set with a
+ * large interior, where the orbits end in an attracting cycle.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+final class BenchmarkDescriptions {
+
+  static final String RANDOM_30 = "Random30";
+  static final String RANDOM_5000 = "Random5000";
+  static final String RABBIT = "Rabbit";
+
+  private BenchmarkDescriptions() {
+  }
+
+  /**
+   * Creates the description with the given name. The name is either a type known by
+   * {@link ChaosGameDescriptionFactory}, {@link #RANDOM_30} for a random description with 30
+   * affine transforms, {@link #RANDOM_5000} for one with 5000, like a generated file, or
+   * {@link #RABBIT} for the Julia set of c = -0.123 + 0.745i.
+   *
+   * @param name the name of the description
+   * @return the description
+   */
+  static ChaosGameDescription create(String name) {
+    if (RANDOM_30.equals(name)) {
+      return createRandomAffineDescription(30, 42);
+    }
+    if (RANDOM_5000.equals(name)) {
+      return createRandomAffineDescription(5000, 42);
+    }
+    if (RABBIT.equals(name)) {
+      List<Transform2D> transforms = new ArrayList<>();
+      transforms.add(new JuliaTransform(new Complex(-0.123, 0.745), 1));
+      transforms.add(new JuliaTransform(new Complex(-0.123, 0.745), -1));
+      return new ChaosGameDescription(new Vector2D(-1.6, -1.2), new Vector2D(1.6, 1.2),
+          transforms);
+    }
+    return new ChaosGameDescriptionFactory().createDescription(name);
+  }
+
+  /**
+   * Creates a description with the given number of random contractive affine transforms and
+   * random weights.
+   *
+   * @param transformCount the number of transforms
+   * @param seed           the seed of the random number generator
+   * @return the description
+   */
+  static ChaosGameDescription createRandomAffineDescription(int transformCount, long seed) {
+    Random random = new Random(seed);
+    List<Transform2D> transforms = new ArrayList<>();
+    List<Integer> weights = new ArrayList<>();
+    for (int i = 0; i < transformCount; i++) {
+      double scale = 0.2 + random.nextDouble() * 0.4;
+      double angle = random.nextDouble() * 2 * Math.PI;
+      Matrix2x2 matrix = new Matrix2x2(scale * Math.cos(angle), -scale * Math.sin(angle),
+          scale * Math.sin(angle), scale * Math.cos(angle));
+      Vector2D vector = new Vector2D(random.nextDouble(), random.nextDouble());
+      transforms.add(new AffineTransform2D(matrix, vector));
+      weights.add(random.nextInt(10) + 1);
+    }
+    return new ChaosGameDescription(new Vector2D(-1, -1), new Vector2D(2, 2), transforms,
+        weights);
+  }
+}
@@ -0,0 +1,73 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.example.model.chaosgame.ChaosGame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h2>ChaosGameBenchmark.</h2>
+ * <p>
+ * Measures {@link ChaosGame#runSteps(int)} for the Sierpinski triangle, the Barnsley fern and a
+ * random description with 30 transforms, on one thread and on all available processors.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChaosGameBenchmark {
+
+  @Param({"Sierpinski", "Barnsley", BenchmarkDescriptions.RANDOM_30})
+  private String description;
+
+  @Param({"1000000"})
+  private int steps;
+
+  @Param({"1", "0"})
+  private int threads;
+
+  private ChaosGame chaosGame;
+
+  /**
+   * Creates the chaos game. A thread count of 0 uses all available processors.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    chaosGame = new ChaosGame(BenchmarkDescriptions.create(description), 1000, 1000);
+    if (threads > 0) {
+      chaosGame.setThreadCount(threads);
+    }
+  }
+
+  /**
+   * Clears the canvas, so every invocation starts from the same state.
+   */
+  @Setup(Level.Invocation)
+  public void clearCanvas() {
+    chaosGame.clearCanvas();
+  }
+
+  /**
+   * Runs the chaos game.
+   */
+  @Benchmark
+  public void runSteps() {
+    chaosGame.runSteps(steps);
+  }
+}
@@ -0,0 +1,75 @@
+package org.example.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.example.model.chaosgame.ChaosGameDescription;
+import org.example.model.transform.Transform2D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h2>ChaosGameDescriptionBenchmark.</h2>
+ * <p>
+ * Measures how fast a {@link ChaosGameDescription} selects transforms, both through
+ * {@link ChaosGameDescription#getTransformWithWeight(int)} and through
+ * {@link ChaosGameDescription#sampleTransformIndex(double)}.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChaosGameDescriptionBenchmark {
+
+  @Param({"Barnsley", BenchmarkDescriptions.RANDOM_30})
+  private String description;
+
+  private ChaosGameDescription chaosGameDescription;
+  private Random random;
+  private int weightSum;
+
+  /**
+   * Creates the description and the random number generator.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    chaosGameDescription = BenchmarkDescriptions.create(description);
+    weightSum = chaosGameDescription.getWeights().stream().mapToInt(Integer::intValue).sum();
+    random = new Random(42);
+  }
+
+  /**
+   * Selects a transform with a random weight index.
+   *
+   * @return the transform, so it is not removed as dead code
+   */
+  @Benchmark
+  public Transform2D getTransformWithWeight() {
+    return chaosGameDescription.getTransformWithWeight(random.nextInt(weightSum));
+  }
+
+  /**
+   * Selects a transform index with the alias table.
+   *
+   * @return the transform index, so it is not removed as dead code
+   */
+  @Benchmark
+  public int sampleTransformIndex() {
+    return chaosGameDescription.sampleTransformIndex(random.nextDouble());
+  }
+}
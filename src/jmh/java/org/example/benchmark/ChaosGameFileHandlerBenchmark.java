@@ -0,0 +1,107 @@
+package org.example.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.example.model.chaosgame.ChaosGameDescription;
+import org.example.model.chaosgame.ChaosGameFileHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h2>ChaosGameFileHandlerBenchmark.</h2>
+ * <p>
+ * Measures {@link ChaosGameFileHandler#readFromFile(String)} against the
+ * {@link ScannerDescriptionReader} it replaced, and against reading the same description from
+ * a binary file. The description is written to temporary text and binary files before the
+ * benchmark starts, and the files are deleted afterwards.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChaosGameFileHandlerBenchmark {
+
+  @Param({"Barnsley", BenchmarkDescriptions.RANDOM_30, BenchmarkDescriptions.RANDOM_5000})
+  private String description;
+
+  private ChaosGameFileHandler fileHandler;
+  private ScannerDescriptionReader scannerReader;
+  private Path file;
+  private Path binaryFile;
+
+  /**
+   * Writes the description to a temporary file.
+   *
+   * @throws IOException if the file could not be written
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    fileHandler = new ChaosGameFileHandler();
+    scannerReader = new ScannerDescriptionReader();
+    file = Files.createTempFile("chaos-benchmark", ".txt");
+    binaryFile = Files.createTempFile("chaos-benchmark", ".cgb");
+    ChaosGameDescription chaosGameDescription = BenchmarkDescriptions.create(description);
+    fileHandler.writeToFile(chaosGameDescription, file.toString());
+    fileHandler.writeToFile(chaosGameDescription, binaryFile.toString());
+  }
+
+  /**
+   * Deletes the temporary files.
+   *
+   * @throws IOException if a file could not be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+    Files.deleteIfExists(binaryFile);
+  }
+
+  /**
+   * Reads the description from the file.
+   *
+   * @return the description, so it is not removed as dead code
+   */
+  @Benchmark
+  public ChaosGameDescription readFromFile() {
+    return fileHandler.readFromFile(file.toString());
+  }
+
+  /**
+   * Reads the description from the file with the old reader based on {@link java.util.Scanner}.
+   *
+   * @return the description, so it is not removed as dead code
+   */
+  @Benchmark
+  public ChaosGameDescription readFromFileWithScanner() {
+    return scannerReader.readFromFile(file.toString());
+  }
+
+  /**
+   * Reads the description from the binary file.
+   *
+   * @return the description, so it is not removed as dead code
+   */
+  @Benchmark
+  public ChaosGameDescription readFromBinaryFile() {
+    return fileHandler.readFromFile(binaryFile.toString());
+  }
+}
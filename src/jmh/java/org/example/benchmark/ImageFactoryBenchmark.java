@@ -0,0 +1,66 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import javafx.scene.image.Image;
+import org.example.model.chaosgame.ChaosCanvas;
+import org.example.model.chaosgame.ChaosGame;
+import org.example.model.factory.ImageFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h2>ImageFactoryBenchmark.</h2>
+ * <p>
+ * Measures {@link ImageFactory#createImage(ChaosCanvas)} for a canvas filled by a chaos game.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageFactoryBenchmark {
+
+  @Param({"1920x1080"})
+  private String resolution;
+
+  private ImageFactory imageFactory;
+  private ChaosCanvas canvas;
+
+  /**
+   * Creates the image factory and a canvas with a Barnsley fern on it.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    String[] size = resolution.split("x");
+    ChaosGame chaosGame = new ChaosGame(BenchmarkDescriptions.create("Barnsley"),
+        Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+    chaosGame.runSteps(2_000_000);
+    canvas = chaosGame.getCanvas();
+    imageFactory = new ImageFactory();
+  }
+
+  /**
+   * Creates an image of the canvas.
+   *
+   * @return the image, so it is not removed as dead code
+   */
+  @Benchmark
+  public Image createImage() {
+    return imageFactory.createImage(canvas);
+  }
+}
@@ -0,0 +1,84 @@
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.example.model.chaosgame.JuliaSetGame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h2>JuliaSetGameBenchmark.</h2>
+ * <p>
+ * Measures {@link JuliaSetGame#runSteps(int)} at several resolutions and iteration counts, with
+ * and without period checking, rectangle subdivision and the vector kernel.
+ * </p>
+ * <p>
+ * By default only the two descriptions are measured at 1920x1080 with 255 iterations and the
+ * default settings of the game, which takes well under a minute. The full sweep has 144
+ * combinations and takes more than 20 minutes. It is run by giving all values with the -p option
+ * of JMH, for example
+ * {@code -p resolution=640x360,1920x1080,3840x2160 -p maxIterations=100,255,1000
+ * -p periodChecking=true,false -p rectangleSubdivision=false,true -p vectorKernel=true,false}.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JuliaSetGameBenchmark {
+
+  @Param({"1920x1080"})
+  private String resolution;
+
+  @Param({"255"})
+  private int maxIterations;
+
+  @Param({"Julia", "Rabbit"})
+  private String description;
+
+  @Param({"true"})
+  private boolean periodChecking;
+
+  @Param({"false"})
+  private boolean rectangleSubdivision;
+
+  @Param({"true"})
+  private boolean vectorKernel;
+
+  private JuliaSetGame juliaSetGame;
+
+  /**
+   * Creates the Julia set game with the resolution and description of the benchmark.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    String[] size = resolution.split("x");
+    juliaSetGame = new JuliaSetGame(BenchmarkDescriptions.create(description),
+        Integer.parseInt(size[0]), Integer.parseInt(size[1]), maxIterations, 2.0);
+    juliaSetGame.setPeriodChecking(periodChecking);
+    juliaSetGame.setRectangleSubdivision(rectangleSubdivision);
+    juliaSetGame.setVectorKernel(vectorKernel);
+  }
+
+  /**
+   * Renders the Julia set.
+   */
+  @Benchmark
+  public void runSteps() {
+    juliaSetGame.runSteps(maxIterations);
+  }
+}
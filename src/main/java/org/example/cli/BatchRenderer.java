@@ -0,0 +1,206 @@
+package org.example.cli;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * <h2>BatchRenderer.</h2>
+ * <p>
+ * Renders many description files to images at once with a fixed number of workers. Each file is
+ * rendered by a {@link HeadlessRenderer} with the settings of a template {@link RenderJob}, and
+ * written to the output folder with the same name and a png extension. Files that only differ in
+ * their extension, like fern.txt and fern.cgb, keep the extension in the image name, like
+ * fern.txt.png and fern.cgb.png, so no two workers write the same image.
+ * </p>
+ * <p>
+ * A file that can not be rendered, for example because it is empty or is missing data, is
+ * reported as a failed {@link BatchResult}, and does not stop the other files.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class BatchRenderer {
+
+  private final HeadlessRenderer renderer = new HeadlessRenderer();
+  private final int workerCount;
+
+  /**
+   * Verifies that the number of workers is positive.
+   *
+   * @param workerCount the number of workers to verify
+   * @throws IllegalArgumentException if the number of workers is not positive
+   */
+  private void verifyPositiveWorkerCount(int workerCount) {
+    if (workerCount <= 0) {
+      throw new IllegalArgumentException("Worker count must be positive");
+    }
+  }
+
+  /**
+   * Constructs a batch renderer that renders up to the given number of files at once.
+   *
+   * @param workerCount the number of files to render at once
+   * @throws IllegalArgumentException if the number of workers is not positive
+   */
+  public BatchRenderer(int workerCount) {
+    verifyPositiveWorkerCount(workerCount);
+    this.workerCount = workerCount;
+  }
+
+  /**
+   * Finds the description files matching the given folder or glob. A folder matches all txt and
+   * cgb files in it, and a glob like {@code chaosFiles/*.txt} matches the files in its folder with
+   * names matching the last part. The files are sorted by name.
+   *
+   * @param pattern the folder or glob
+   * @return the matching files
+   * @throws IllegalArgumentException if the folder does not exist
+   * @throws IOException              if the folder can not be read
+   */
+  public static List<Path> findDescriptions(String pattern) throws IOException {
+    Path folder;
+    String glob;
+    if (Files.isDirectory(Path.of(pattern))) {
+      folder = Path.of(pattern);
+      glob = "*.{txt,cgb}";
+    } else {
+      int separator = Math.max(pattern.lastIndexOf('/'), pattern.lastIndexOf('\\'));
+      folder = Path.of(separator < 0 ? "." : pattern.substring(0, separator + 1));
+      glob = pattern.substring(separator + 1);
+    }
+    if (!Files.isDirectory(folder)) {
+      throw new IllegalArgumentException("Folder not found: " + folder);
+    }
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, glob)) {
+      for (Path file : stream) {
+        if (Files.isRegularFile(file)) {
+          files.add(file);
+        }
+      }
+    }
+    files.sort(null);
+    return files;
+  }
+
+  /**
+   * Renders the given files to the output folder with the settings of the template. The paths of
+   * the template are ignored. Each result is passed to the listener when its file is done, from the
+   * worker that rendered it.
+   *
+   * @param files        the description files to render
+   * @param outputFolder the folder to write the images to
+   * @param template     the settings to render each file with
+   * @param listener     the listener that is told about each result as it finishes
+   * @return the report of the batch, with the results in the order of the files
+   * @throws IllegalArgumentException if two files would be written to the same image
+   * @throws InterruptedException     if the calling thread is interrupted while waiting
+   */
+  public BatchReport render(List<Path> files, Path outputFolder, RenderJob template,
+      Consumer<BatchResult> listener) throws InterruptedException {
+    long start = System.nanoTime();
+    List<Path> imageFiles = createImageFiles(files, outputFolder);
+    List<BatchResult> results = new ArrayList<>();
+    try (ExecutorService executor = Executors.newFixedThreadPool(workerCount)) {
+      List<Future<BatchResult>> futures = new ArrayList<>();
+      for (int i = 0; i < files.size(); i++) {
+        Path file = files.get(i);
+        Path imageFile = imageFiles.get(i);
+        futures.add(executor.submit(() -> {
+          BatchResult result = renderFile(file, imageFile, template);
+          listener.accept(result);
+          return result;
+        }));
+      }
+      try {
+        for (Future<BatchResult> future : futures) {
+          results.add(future.get());
+        }
+      } catch (InterruptedException e) {
+        executor.shutdownNow();
+        throw e;
+      } catch (ExecutionException e) {
+        executor.shutdownNow();
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    return new BatchReport(results, System.nanoTime() - start,
+        (long) template.getWidth() * template.getHeight());
+  }
+
+  /**
+   * Returns the image file of each of the given files, in the same order. The image of a file has
+   * the name of the file without its extension and a png extension. If several files have the
+   * same name without their extension, their images keep the extension.
+   *
+   * @param files        the description files to render
+   * @param outputFolder the folder to write the images to
+   * @return the image files
+   * @throws IllegalArgumentException if two files would still be written to the same image, for
+   *                                  example files with the same name in different folders
+   */
+  private static List<Path> createImageFiles(List<Path> files, Path outputFolder) {
+    Map<String, Integer> baseNameCounts = new HashMap<>();
+    for (Path file : files) {
+      baseNameCounts.merge(getBaseName(file), 1, Integer::sum);
+    }
+    Set<Path> used = new HashSet<>();
+    List<Path> imageFiles = new ArrayList<>();
+    for (Path file : files) {
+      String baseName = getBaseName(file);
+      Path imageFile = outputFolder.resolve((baseNameCounts.get(baseName) > 1
+          ? file.getFileName().toString() : baseName) + ".png");
+      if (!used.add(imageFile)) {
+        throw new IllegalArgumentException("Several files would be written to: " + imageFile);
+      }
+      imageFiles.add(imageFile);
+    }
+    return imageFiles;
+  }
+
+  /**
+   * Returns the name of the given file without its extension.
+   *
+   * @param file the file
+   * @return the name of the file without its extension
+   */
+  private static String getBaseName(Path file) {
+    String name = file.getFileName().toString();
+    int extension = name.lastIndexOf('.');
+    return extension > 0 ? name.substring(0, extension) : name;
+  }
+
+  /**
+   * Renders one file and returns its result. Exceptions are caught and returned as a failed
+   * result.
+   *
+   * @param file      the description file to render
+   * @param imageFile the image file to write
+   * @param template  the settings to render the file with
+   * @return the result of the file
+   */
+  private BatchResult renderFile(Path file, Path imageFile, RenderJob template) {
+    long start = System.nanoTime();
+    try {
+      renderer.render(template.withPaths(file.toString(), imageFile.toString()));
+      return new BatchResult(file, imageFile, System.nanoTime() - start, null);
+    } catch (Exception e) {
+      String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+      return new BatchResult(file, imageFile, System.nanoTime() - start, message);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package org.example.cli;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <h2>BatchReport.</h2>
+ * <p>
+ * The results of a batch render, in the order of the description files, together with the total
+ * time the batch took and the throughput.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class BatchReport {
+
+  private final List<BatchResult> results;
+  private final long nanos;
+  private final long pixelsPerImage;
+
+  /**
+   * Constructs a new report.
+   *
+   * @param results        the results of the files, in order
+   * @param nanos          the total time of the batch, in nanoseconds
+   * @param pixelsPerImage the number of pixels in each image
+   */
+  public BatchReport(List<BatchResult> results, long nanos, long pixelsPerImage) {
+    this.results = List.copyOf(results);
+    this.nanos = nanos;
+    this.pixelsPerImage = pixelsPerImage;
+  }
+
+  /**
+   * Returns the results of the files, in order.
+   *
+   * @return the results
+   */
+  public List<BatchResult> getResults() {
+    return results;
+  }
+
+  /**
+   * Returns the number of files that were rendered.
+   *
+   * @return the number of successful renders
+   */
+  public int getSucceededCount() {
+    return (int) results.stream().filter(BatchResult::isSuccessful).count();
+  }
+
+  /**
+   * Returns the number of files that could not be rendered.
+   *
+   * @return the number of failed renders
+   */
+  public int getFailedCount() {
+    return results.size() - getSucceededCount();
+  }
+
+  /**
+   * Returns the total time of the batch, in seconds.
+   *
+   * @return the time in seconds
+   */
+  public double getSeconds() {
+    return nanos / 1_000_000_000.0;
+  }
+
+  /**
+   * Returns the number of images that were written per second.
+   *
+   * @return the throughput in images per second
+   */
+  public double getImagesPerSecond() {
+    return nanos > 0 ? getSucceededCount() / getSeconds() : 0;
+  }
+
+  /**
+   * Returns a summary of the batch, for example
+   * {@code "Rendered 3 of 4 files in 1.20 s (2.50 images/s, 4.8 megapixels/s), 1 failed"}.
+   *
+   * @return the summary
+   */
+  @Override
+  public String toString() {
+    double imagesPerSecond = getImagesPerSecond();
+    return String.format(Locale.ROOT,
+        "Rendered %d of %d files in %.2f s (%.2f images/s, %.1f megapixels/s), %d failed",
+        getSucceededCount(), results.size(), getSeconds(), imagesPerSecond,
+        imagesPerSecond * pixelsPerImage / 1_000_000.0, getFailedCount());
+  }
+}
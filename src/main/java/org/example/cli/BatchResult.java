@@ -0,0 +1,98 @@
+package org.example.cli;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * <h2>BatchResult.</h2>
+ * <p>
+ * The result of rendering one description file in a batch: the file, the image that was written,
+ * how long it took, and the error message if the render failed.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class BatchResult {
+
+  private final Path descriptionFile;
+  private final Path imageFile;
+  private final long nanos;
+  private final String error;
+
+  /**
+   * Constructs a new result.
+   *
+   * @param descriptionFile the description file that was rendered
+   * @param imageFile       the image file that was written
+   * @param nanos           the time the render took, in nanoseconds
+   * @param error           the error message, or null if the render succeeded
+   */
+  public BatchResult(Path descriptionFile, Path imageFile, long nanos, String error) {
+    this.descriptionFile = descriptionFile;
+    this.imageFile = imageFile;
+    this.nanos = nanos;
+    this.error = error;
+  }
+
+  /**
+   * Returns the description file that was rendered.
+   *
+   * @return the description file
+   */
+  public Path getDescriptionFile() {
+    return descriptionFile;
+  }
+
+  /**
+   * Returns the image file that was written, or would have been written if the render failed.
+   *
+   * @return the image file
+   */
+  public Path getImageFile() {
+    return imageFile;
+  }
+
+  /**
+   * Returns the time the render took, in milliseconds.
+   *
+   * @return the time in milliseconds
+   */
+  public double getMillis() {
+    return nanos / 1_000_000.0;
+  }
+
+  /**
+   * Returns whether the render succeeded.
+   *
+   * @return true if the image was written, false otherwise
+   */
+  public boolean isSuccessful() {
+    return error == null;
+  }
+
+  /**
+   * Returns the error message of a failed render.
+   *
+   * @return the error message, or null if the render succeeded
+   */
+  public String getError() {
+    return error;
+  }
+
+  /**
+   * Returns a line describing the result, for example
+   * {@code "OK     Barnsley.txt -> Barnsley.png (123.4 ms)"}.
+   *
+   * @return the result as a string
+   */
+  @Override
+  public String toString() {
+    String timing = String.format(Locale.ROOT, "(%.1f ms)", getMillis());
+    if (isSuccessful()) {
+      return "OK     " + descriptionFile.getFileName() + " -> " + imageFile.getFileName() + " "
+          + timing;
+    }
+    return "FAILED " + descriptionFile.getFileName() + " " + timing + ": " + error;
+  }
+}
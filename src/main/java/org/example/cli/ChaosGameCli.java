@@ -0,0 +1,277 @@
+package org.example.cli;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.example.model.factory.ToneMapper;
+
+/**
+ * <h2>ChaosGameCli.</h2>
+ * <p>
+ * A command line entry point that renders a description file to a PNG file without starting the
+ * JavaFX application, for example on build servers without a display. Options are given as
+ * {@code --name value} pairs:
+ * </p>
+ * <pre>
+ * --input file.txt --output image.png [--width 800] [--height 600] [--steps 1000000]
+ * [--iterations 255] [--escape-radius 3] [--color 1,0,0] [--seed 42] [--threads 8]
+ * </pre>
+ * <p>
+ * With {@code --batch <folder or glob>} instead of {@code --input}, every matching description
+ * file is rendered to the folder given by {@code --output}, with {@code --jobs} files rendered at
+ * once. The time of each file and the throughput of the batch are printed.
+ * </p>
+ * <p>
+ * With {@code --gamma <gamma>} or {@code --percentile <percentile>}, chaos games count raw hits
+ * and the image is tone mapped with a {@link ToneMapper}, so longer runs keep adding detail.
+ * </p>
+ * <p>
+ * With {@code --checkpoint <file>}, a chaos game render is continued from the checkpoint file if
+ * it exists, and saved to it after the steps have been run, so long renders can be split across
+ * several runs.
+ * </p>
+ * <p>
+ * The exit code is 0 when all images are written, and 1 if the options are invalid or a render
+ * fails.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class ChaosGameCli {
+
+  static final String USAGE = "Usage: --input <file> --output <png> [--width <pixels>]"
+      + " [--height <pixels>] [--steps <steps>] [--iterations <iterations>]"
+      + " [--escape-radius <radius>] [--color <red,green,blue>] [--seed <seed>]"
+      + " [--threads <threads>] [--gamma <gamma>] [--percentile <percentile>]"
+      + " [--checkpoint <file>]\n"
+      + "       --batch <folder or glob> --output <folder> [--jobs <files at once>]"
+      + " [other options]";
+
+  private static final Set<String> OPTIONS = Set.of("input", "output", "width", "height", "steps",
+      "iterations", "escape-radius", "color", "seed", "threads", "batch", "jobs", "checkpoint",
+      "gamma", "percentile");
+
+  private ChaosGameCli() {
+  }
+
+  /**
+   * Renders the description given by the arguments.
+   *
+   * @param args the command line options
+   */
+  public static void main(String[] args) {
+    System.setProperty("java.awt.headless", "true");
+    try {
+      Map<String, String> options = parseOptions(args);
+      if (options.containsKey("batch")) {
+        if (!renderBatch(options)) {
+          System.exit(1);
+        }
+      } else {
+        RenderJob job = parseJob(options, options.get("input"),
+            Runtime.getRuntime().availableProcessors());
+        if (options.containsKey("checkpoint")) {
+          long steps = new HeadlessRenderer().renderCheckpoint(job, options.get("checkpoint"));
+          System.out.println("Wrote " + job.getOutputPath() + " after " + steps + " steps");
+        } else {
+          new HeadlessRenderer().render(job);
+          System.out.println("Wrote " + job.getOutputPath());
+        }
+      }
+    } catch (Exception e) {
+      System.err.println("Error: " + e.getMessage());
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Parses the command line options to a render job. Options that are not given use the same
+   * defaults as the application.
+   *
+   * @param args the command line options
+   * @return the render job
+   * @throws IllegalArgumentException if an option is unknown, is missing a value, or has an
+   *                                  invalid value
+   */
+  public static RenderJob parseJob(String[] args) {
+    Map<String, String> options = parseOptions(args);
+    return parseJob(options, options.get("input"), Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Renders the files of a batch, and prints the result of each file and a summary.
+   *
+   * @param options the values of the options
+   * @return true if all files were rendered, false otherwise
+   * @throws IllegalArgumentException if an option is invalid
+   * @throws IOException              if the files can not be listed
+   * @throws InterruptedException     if the batch is interrupted
+   */
+  private static boolean renderBatch(Map<String, String> options)
+      throws IOException, InterruptedException {
+    if (options.containsKey("input")) {
+      throw new IllegalArgumentException("Use either --input or --batch");
+    }
+    if (options.containsKey("checkpoint")) {
+      throw new IllegalArgumentException("--checkpoint can not be used with --batch");
+    }
+    int processors = Runtime.getRuntime().availableProcessors();
+    int jobs = parseInt(options, "jobs", processors);
+    BatchRenderer batchRenderer = new BatchRenderer(jobs);
+    RenderJob template = parseJob(options, options.get("batch"), Math.max(1, processors / jobs));
+    List<Path> files = BatchRenderer.findDescriptions(template.getDescriptionPath());
+    BatchReport report = batchRenderer.render(files,
+        Path.of(template.getOutputPath()), template, System.out::println);
+    System.out.println(report);
+    return report.getFailedCount() == 0;
+  }
+
+  /**
+   * Creates a render job from the options. Options that are not given use the same defaults as
+   * the application.
+   *
+   * @param options        the values of the options
+   * @param input          the description file, or the folder or glob of a batch
+   * @param defaultThreads the number of threads each render uses if none is given
+   * @return the render job
+   * @throws IllegalArgumentException if an option has an invalid value
+   */
+  private static RenderJob parseJob(Map<String, String> options, String input,
+      int defaultThreads) {
+    return new RenderJob(input, options.get("output"),
+        parseInt(options, "width", 800),
+        parseInt(options, "height", 600),
+        parseInt(options, "steps", 1_000_000),
+        parseInt(options, "iterations", 255),
+        parseDouble(options, "escape-radius", 3.0),
+        parseColor(options.getOrDefault("color", "1,0,0")),
+        parseSeed(options),
+        parseInt(options, "threads", defaultThreads))
+        .withToneMapper(parseToneMapper(options));
+  }
+
+  /**
+   * Returns the tone mapper given by the gamma and percentile options, or null if neither is
+   * given.
+   *
+   * @param options the values of the options
+   * @return the tone mapper, or null
+   * @throws IllegalArgumentException if a value is not a number, or is out of range
+   */
+  private static ToneMapper parseToneMapper(Map<String, String> options) {
+    if (!options.containsKey("gamma") && !options.containsKey("percentile")) {
+      return null;
+    }
+    return new ToneMapper(parseDouble(options, "gamma", ToneMapper.DEFAULT_GAMMA),
+        parseDouble(options, "percentile", ToneMapper.DEFAULT_PERCENTILE));
+  }
+
+  /**
+   * Splits the arguments into option names and values.
+   *
+   * @param args the command line options
+   * @return the values of the options, by name
+   * @throws IllegalArgumentException if an option is unknown or is missing a value
+   */
+  static Map<String, String> parseOptions(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (int i = 0; i < args.length; i += 2) {
+      String name = args[i];
+      if (!name.startsWith("--") || !OPTIONS.contains(name.substring(2))) {
+        throw new IllegalArgumentException("Unknown option " + name);
+      }
+      if (i + 1 >= args.length) {
+        throw new IllegalArgumentException("Missing value for " + name);
+      }
+      options.put(name.substring(2), args[i + 1]);
+    }
+    return options;
+  }
+
+  /**
+   * Returns the value of the given option as an integer.
+   *
+   * @param options      the values of the options
+   * @param name         the name of the option
+   * @param defaultValue the value to use if the option is not given
+   * @return the value of the option
+   * @throws IllegalArgumentException if the value is not an integer
+   */
+  private static int parseInt(Map<String, String> options, String name, int defaultValue) {
+    if (!options.containsKey(name)) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(options.get(name).replace("_", ""));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid value for --" + name);
+    }
+  }
+
+  /**
+   * Returns the seed option, or null if it is not given.
+   *
+   * @param options the values of the options
+   * @return the seed, or null
+   * @throws IllegalArgumentException if the value is not a long
+   */
+  private static Long parseSeed(Map<String, String> options) {
+    if (!options.containsKey("seed")) {
+      return null;
+    }
+    try {
+      return Long.parseLong(options.get("seed"));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid value for --seed");
+    }
+  }
+
+  /**
+   * Returns the value of the given option as a double.
+   *
+   * @param options      the values of the options
+   * @param name         the name of the option
+   * @param defaultValue the value to use if the option is not given
+   * @return the value of the option
+   * @throws IllegalArgumentException if the value is not a number
+   */
+  private static double parseDouble(Map<String, String> options, String name,
+      double defaultValue) {
+    if (!options.containsKey(name)) {
+      return defaultValue;
+    }
+    try {
+      return Double.parseDouble(options.get(name));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid value for --" + name);
+    }
+  }
+
+  /**
+   * Parses a color given as three comma separated components.
+   *
+   * @param value the color to parse
+   * @return the red, green and blue components
+   * @throws IllegalArgumentException if the color is not three numbers
+   */
+  private static double[] parseColor(String value) {
+    String[] parts = value.split(",");
+    if (parts.length != 3) {
+      throw new IllegalArgumentException("Color must have three components");
+    }
+    double[] color = new double[3];
+    try {
+      for (int i = 0; i < 3; i++) {
+        color[i] = Double.parseDouble(parts[i].trim());
+      }
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid value for --color");
+    }
+    return color;
+  }
+}
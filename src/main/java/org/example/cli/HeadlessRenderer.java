@@ -0,0 +1,193 @@
+package org.example.cli;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.example.model.chaosgame.ChaosCanvas;
+import org.example.model.chaosgame.ChaosGame;
+import org.example.model.chaosgame.ChaosGameDescription;
+import org.example.model.chaosgame.ChaosGameFileHandler;
+import org.example.model.chaosgame.JuliaSetGame;
+import org.example.model.factory.ColorPalette;
+import org.example.model.factory.ToneMapper;
+
+/**
+ * <h2>HeadlessRenderer.</h2>
+ * <p>
+ * Renders descriptions to PNG files without the JavaFX toolkit, so renders can run on machines
+ * without a display. The canvas is converted with the same {@link ColorPalette} as the
+ * {@link org.example.model.factory.ImageFactory}, so the files look the same as the images shown
+ * in the application, and written with {@link ImageIO}. Canvases in high dynamic range mode are
+ * tone mapped with a {@link ToneMapper} first.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class HeadlessRenderer {
+
+  private final ChaosGameFileHandler fileHandler = new ChaosGameFileHandler();
+
+  /**
+   * Verifies that the given job is not null.
+   *
+   * @param job the job to verify
+   * @throws IllegalArgumentException if the job is null
+   */
+  private void verifyNotNullJob(RenderJob job) {
+    if (job == null) {
+      throw new IllegalArgumentException("Job cannot be null");
+    }
+  }
+
+  /**
+   * Reads the description of the job, renders it and writes the image to the output path.
+   *
+   * @param job the job to render
+   * @throws IllegalArgumentException if the job is null or the description can not be read
+   * @throws IOException              if the image can not be written
+   */
+  public void render(RenderJob job) throws IOException {
+    verifyNotNullJob(job);
+    ChaosGameDescription description = fileHandler.readFromFile(job.getDescriptionPath());
+    ChaosCanvas canvas = renderCanvas(description, job);
+    writeImage(toImage(canvas, job.getColor(), job.getToneMapper()), job.getOutputPath());
+  }
+
+  /**
+   * Runs the steps of the job on the chaos game saved in the given checkpoint file, saves the game
+   * to the checkpoint file again and writes the image to the output path. If the checkpoint file
+   * does not exist, the game is started from the description of the job, so the same command can
+   * be run again and again to add more steps to a long render.
+   *
+   * @param job            the job to render
+   * @param checkpointPath the path of the checkpoint file
+   * @return the total number of steps that have been run on the canvas
+   * @throws IllegalArgumentException if the job is null, the checkpoint or the description can not
+   *                                  be read, or the description is a Julia set
+   * @throws IOException              if the checkpoint or the image can not be written
+   */
+  public long renderCheckpoint(RenderJob job, String checkpointPath) throws IOException {
+    verifyNotNullJob(job);
+    ChaosGame game;
+    if (Files.exists(Path.of(checkpointPath))) {
+      game = ChaosGame.fromCheckpoint(checkpointPath);
+    } else {
+      ChaosGameDescription description = fileHandler.readFromFile(job.getDescriptionPath());
+      if (description.getTransformType().equals("Julia")) {
+        throw new IllegalArgumentException("Checkpoints can not be used with Julia sets");
+      }
+      game = createChaosGame(description, job);
+    }
+    try (game) {
+      game.setThreadCount(job.getThreadCount());
+      game.runSteps(job.getSteps());
+      game.saveCheckpoint(checkpointPath);
+      writeImage(toImage(game.getCanvas(), job.getColor(), job.getToneMapper()),
+          job.getOutputPath());
+      return game.getStepCount();
+    }
+  }
+
+  /**
+   * Runs the game of the given description with the settings of the job, and returns the canvas.
+   * Julia descriptions are rendered with a {@link JuliaSetGame}, and all other descriptions with a
+   * {@link ChaosGame}, in high dynamic range mode if the job has a tone mapper.
+   *
+   * @param description the description to render
+   * @param job         the settings of the render
+   * @return the rendered canvas
+   */
+  public ChaosCanvas renderCanvas(ChaosGameDescription description, RenderJob job) {
+    verifyNotNullJob(job);
+    if (description.getTransformType().equals("Julia")) {
+      try (JuliaSetGame game = new JuliaSetGame(description, job.getWidth(), job.getHeight(),
+          job.getMaxIterations(), job.getEscapeRadius())) {
+        game.setThreadCount(job.getThreadCount());
+        game.runSteps(job.getMaxIterations());
+        return game.getCanvas();
+      }
+    }
+    try (ChaosGame game = createChaosGame(description, job)) {
+      game.setThreadCount(job.getThreadCount());
+      game.runSteps(job.getSteps());
+      return game.getCanvas();
+    }
+  }
+
+  /**
+   * Creates a chaos game for the given description with the size, seed and mode of the job.
+   *
+   * @param description the description of the game
+   * @param job         the settings of the render
+   * @return the chaos game
+   */
+  private ChaosGame createChaosGame(ChaosGameDescription description, RenderJob job) {
+    ChaosGame game = new ChaosGame(description, job.getWidth(), job.getHeight());
+    if (job.getSeed() != null) {
+      game.setSeed(job.getSeed());
+    }
+    if (job.getToneMapper() != null) {
+      game.setHighDynamicRange(true);
+    }
+    return game;
+  }
+
+  /**
+   * Converts the canvas to an ARGB image with the given base color. Canvases in high dynamic range
+   * mode are tone mapped with the default {@link ToneMapper}.
+   *
+   * @param canvas the canvas to convert
+   * @param color  the red, green and blue components of the base color
+   * @return the image
+   * @throws IllegalArgumentException if the color is invalid
+   */
+  public BufferedImage toImage(ChaosCanvas canvas, double[] color) {
+    return toImage(canvas, color, null);
+  }
+
+  /**
+   * Converts the canvas to an ARGB image with the given base color. Canvases in high dynamic range
+   * mode are tone mapped with the given tone mapper, or the default one if it is null.
+   *
+   * @param canvas     the canvas to convert
+   * @param color      the red, green and blue components of the base color
+   * @param toneMapper the tone mapper to use, or null
+   * @return the image
+   * @throws IllegalArgumentException if the color is invalid
+   */
+  public BufferedImage toImage(ChaosCanvas canvas, double[] color, ToneMapper toneMapper) {
+    ColorPalette palette = new ColorPalette(color[0], color[1], color[2]);
+    BufferedImage image = new BufferedImage(canvas.getWidth(), canvas.getHeight(),
+        BufferedImage.TYPE_INT_ARGB);
+    int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    int[] values = canvas.getPixels();
+    if (canvas.isHighDynamicRange()) {
+      (toneMapper == null ? new ToneMapper() : toneMapper).map(values, values);
+    }
+    palette.toArgb(values, data);
+    return image;
+  }
+
+  /**
+   * Writes the image to the given path as a PNG file. Missing parent folders are created.
+   *
+   * @param image the image to write
+   * @param path  the path to write to
+   * @throws IOException if the image can not be written
+   */
+  private void writeImage(BufferedImage image, String path) throws IOException {
+    File file = new File(path);
+    File parent = file.getAbsoluteFile().getParentFile();
+    if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+      throw new IOException("Could not create folder " + parent);
+    }
+    if (!ImageIO.write(image, "png", file)) {
+      throw new IOException("No PNG writer is available");
+    }
+  }
+}
@@ -0,0 +1,270 @@
+package org.example.cli;
+
+import org.example.model.factory.ToneMapper;
+
+/**
+ * <h2>RenderJob.</h2>
+ * <p>
+ * The settings of one headless render: the description file to read, the image file to write, the
+ * size of the image, and how long to run the game. Chaos games run the given number of steps, and
+ * Julia sets use the given maximum number of iterations and escape radius.
+ * </p>
+ * <p>
+ * The base color is given as red, green and blue components between 0 and 1, the same way as in
+ * {@link org.example.model.factory.ColorPalette}. A seed can be given to make chaos game renders
+ * repeatable.
+ * </p>
+ * <p>
+ * Jobs with a {@link ToneMapper} run chaos games in high dynamic range mode, and tone map the
+ * raw hit counts when the image is made.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class RenderJob {
+
+  private final String descriptionPath;
+  private final String outputPath;
+  private final int width;
+  private final int height;
+  private final int steps;
+  private final int maxIterations;
+  private final double escapeRadius;
+  private final double[] color;
+  private final Long seed;
+  private final int threadCount;
+  private final ToneMapper toneMapper;
+
+  /**
+   * Verifies that the given path is not null or blank.
+   *
+   * @param path the path to verify
+   * @param name the name of the path, used in the error message
+   * @throws IllegalArgumentException if the path is null or blank
+   */
+  private void verifyValidPath(String path, String name) {
+    if (path == null || path.isBlank()) {
+      throw new IllegalArgumentException(name + " cannot be empty");
+    }
+  }
+
+  /**
+   * Verifies that the given value is positive.
+   *
+   * @param value the value to verify
+   * @param name  the name of the value, used in the error message
+   * @throws IllegalArgumentException if the value is not positive
+   */
+  private void verifyPositiveValue(double value, String name) {
+    if (!(value > 0)) {
+      throw new IllegalArgumentException(name + " must be positive");
+    }
+  }
+
+  /**
+   * Verifies that the color has three components between 0 and 1.
+   *
+   * @param color the color to verify
+   * @throws IllegalArgumentException if the color is invalid
+   */
+  private void verifyValidColor(double[] color) {
+    if (color == null || color.length != 3) {
+      throw new IllegalArgumentException("Color must have three components");
+    }
+    for (double component : color) {
+      if (!(component >= 0 && component <= 1)) {
+        throw new IllegalArgumentException("Color components must be between 0 and 1");
+      }
+    }
+  }
+
+  /**
+   * Constructs a new render job.
+   *
+   * @param descriptionPath the path of the description file to read
+   * @param outputPath      the path of the PNG file to write
+   * @param width           the width of the image
+   * @param height          the height of the image
+   * @param steps           the number of steps to run a chaos game for
+   * @param maxIterations   the maximum number of iterations of a Julia set
+   * @param escapeRadius    the escape radius of a Julia set
+   * @param color           the red, green and blue components of the base color
+   * @param seed            the seed of the chaos game, or null for a random seed
+   * @param threadCount     the number of threads each render uses
+   * @throws IllegalArgumentException if a path is empty, a number is not positive, or the color
+   *                                  is invalid
+   */
+  public RenderJob(String descriptionPath, String outputPath, int width, int height, int steps,
+      int maxIterations, double escapeRadius, double[] color, Long seed, int threadCount) {
+    this(descriptionPath, outputPath, width, height, steps, maxIterations, escapeRadius, color,
+        seed, threadCount, null);
+  }
+
+  /**
+   * Constructs a new render job with the given tone mapper.
+   *
+   * @param descriptionPath the path of the description file to read
+   * @param outputPath      the path of the PNG file to write
+   * @param width           the width of the image
+   * @param height          the height of the image
+   * @param steps           the number of steps to run a chaos game for
+   * @param maxIterations   the maximum number of iterations of a Julia set
+   * @param escapeRadius    the escape radius of a Julia set
+   * @param color           the red, green and blue components of the base color
+   * @param seed            the seed of the chaos game, or null for a random seed
+   * @param threadCount     the number of threads each render uses
+   * @param toneMapper      the tone mapper of a high dynamic range render, or null
+   * @throws IllegalArgumentException if a path is empty, a number is not positive, or the color
+   *                                  is invalid
+   */
+  private RenderJob(String descriptionPath, String outputPath, int width, int height, int steps,
+      int maxIterations, double escapeRadius, double[] color, Long seed, int threadCount,
+      ToneMapper toneMapper) {
+    verifyValidPath(descriptionPath, "Description path");
+    verifyValidPath(outputPath, "Output path");
+    verifyPositiveValue(width, "Width");
+    verifyPositiveValue(height, "Height");
+    verifyPositiveValue(steps, "Steps");
+    verifyPositiveValue(maxIterations, "Max iterations");
+    verifyPositiveValue(escapeRadius, "Escape radius");
+    verifyValidColor(color);
+    verifyPositiveValue(threadCount, "Thread count");
+    this.descriptionPath = descriptionPath;
+    this.outputPath = outputPath;
+    this.width = width;
+    this.height = height;
+    this.steps = steps;
+    this.maxIterations = maxIterations;
+    this.escapeRadius = escapeRadius;
+    this.color = color.clone();
+    this.seed = seed;
+    this.threadCount = threadCount;
+    this.toneMapper = toneMapper;
+  }
+
+  /**
+   * Returns a copy of this job that reads and writes the given paths, with the same settings.
+   *
+   * @param descriptionPath the path of the description file to read
+   * @param outputPath      the path of the PNG file to write
+   * @return the new job
+   * @throws IllegalArgumentException if a path is empty
+   */
+  public RenderJob withPaths(String descriptionPath, String outputPath) {
+    return new RenderJob(descriptionPath, outputPath, width, height, steps, maxIterations,
+        escapeRadius, color, seed, threadCount, toneMapper);
+  }
+
+  /**
+   * Returns a copy of this job that renders chaos games in high dynamic range mode and tone maps
+   * them with the given tone mapper, with the same settings.
+   *
+   * @param toneMapper the tone mapper to use, or null to render without high dynamic range
+   * @return the new job
+   */
+  public RenderJob withToneMapper(ToneMapper toneMapper) {
+    return new RenderJob(descriptionPath, outputPath, width, height, steps, maxIterations,
+        escapeRadius, color, seed, threadCount, toneMapper);
+  }
+
+  /**
+   * Returns the path of the description file to read.
+   *
+   * @return the path of the description file
+   */
+  public String getDescriptionPath() {
+    return descriptionPath;
+  }
+
+  /**
+   * Returns the path of the PNG file to write.
+   *
+   * @return the path of the output file
+   */
+  public String getOutputPath() {
+    return outputPath;
+  }
+
+  /**
+   * Returns the width of the image.
+   *
+   * @return the width of the image
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * Returns the height of the image.
+   *
+   * @return the height of the image
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * Returns the number of steps to run a chaos game for.
+   *
+   * @return the number of steps
+   */
+  public int getSteps() {
+    return steps;
+  }
+
+  /**
+   * Returns the maximum number of iterations of a Julia set.
+   *
+   * @return the maximum number of iterations
+   */
+  public int getMaxIterations() {
+    return maxIterations;
+  }
+
+  /**
+   * Returns the escape radius of a Julia set.
+   *
+   * @return the escape radius
+   */
+  public double getEscapeRadius() {
+    return escapeRadius;
+  }
+
+  /**
+   * Returns the red, green and blue components of the base color.
+   *
+   * @return a copy of the color components
+   */
+  public double[] getColor() {
+    return color.clone();
+  }
+
+  /**
+   * Returns the seed of the chaos game, or null if no seed is given.
+   *
+   * @return the seed, or null
+   */
+  public Long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns the number of threads each render uses.
+   *
+   * @return the number of threads
+   */
+  public int getThreadCount() {
+    return threadCount;
+  }
+
+  /**
+   * Returns the tone mapper of a high dynamic range render, or null if the job is rendered
+   * without high dynamic range.
+   *
+   * @return the tone mapper, or null
+   */
+  public ToneMapper getToneMapper() {
+    return toneMapper;
+  }
+}
@@ -1,6 +1,7 @@
 package org.example.controller;
 
 
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.scene.layout.VBox;
@@ -25,12 +26,20 @@ import org.example.view.ChaosGameView;
  * such as updating the image if the canvas is updated, or auto running the Chaos Game if the
  * description is changed.
  * </p>
+ * <p>
+ * The games are run on a background thread by a {@link RenderService}, so the interface stays
+ * responsive while they run. Every other change to the games also goes through the service, so
+ * the games are never used by two threads at once. The chaos game runs in progressive mode, so
+ * the image is updated while it runs.
+ * </p>
  *
  * @version 1.0.0
  * @since 0.3.0
  */
 public class ChaosGameController implements ChaosGameObserver {
 
+  private static final int FRAME_RATE = 30;
+
   private final MainController mainController;
 
   private final ChaosGame chaosGame;
@@ -38,6 +47,7 @@ public class ChaosGameController implements ChaosGameObserver {
   private final ChaosGameView chaosGameView;
 
   private final ImageFactory imageFactory;
+  private final RenderService renderService;
 
   private boolean autoRunOnDescriptionChange = false;
   private int steps;
@@ -64,9 +74,12 @@ public class ChaosGameController implements ChaosGameObserver {
     this.chaosGame = chaosGame;
     this.juliaSetGame = juliaSetGame;
     this.currentCanvas = chaosGame.getCanvas();
+    this.currentCanvas.retain();
     this.currentDescription = chaosGame.getDescription();
     this.chaosGameView = new ChaosGameView(this, mainController);
     this.imageFactory = new ImageFactory();
+    this.renderService = new RenderService();
+    this.chaosGame.setFrameRate(FRAME_RATE);
   }
 
   /**
@@ -113,23 +126,21 @@ public class ChaosGameController implements ChaosGameObserver {
    * Runs the Chaos Game for a set number of iterations.
    */
   public void runIterations() {
-    if (useJuliaSet()) {
-      juliaSetGame.runSteps(maxIterations);
-    } else {
-      chaosGame.runSteps(steps);
-    }
+    runIterations(steps);
   }
 
   /**
-   * Runs the Chaos Game for a set number of iterations.
+   * Runs the Chaos Game for a set number of iterations on the background thread. A run that is
+   * already in progress is cancelled.
    *
    * @param iterations the number of iterations to run the Chaos Game for.
    */
   public void runIterations(int iterations) {
+    int juliaIterations = maxIterations;
     if (useJuliaSet()) {
-      juliaSetGame.runSteps(maxIterations);
+      renderService.render(() -> juliaSetGame.runSteps(juliaIterations));
     } else {
-      chaosGame.runSteps(iterations);
+      renderService.render(() -> chaosGame.runSteps(iterations));
     }
   }
 
@@ -171,8 +182,11 @@ public class ChaosGameController implements ChaosGameObserver {
    * Clears the canvas of the Chaos Game.
    */
   public void clearCanvas() {
-    currentCanvas.clear();
-    chaosGameView.setImage(imageFactory.createImage(currentCanvas, color));
+    if (useJuliaSet()) {
+      renderService.runExclusive(juliaSetGame::clearCanvas);
+    } else {
+      renderService.runExclusive(chaosGame::clearCanvas);
+    }
   }
 
   /**
@@ -242,7 +256,7 @@ public class ChaosGameController implements ChaosGameObserver {
     if (escapeRadius < 0) {
       return;
     }
-    juliaSetGame.setEscapeRadius(escapeRadius);
+    renderService.runExclusive(() -> juliaSetGame.setEscapeRadius(escapeRadius));
   }
 
 
@@ -254,8 +268,10 @@ public class ChaosGameController implements ChaosGameObserver {
    * @param height the height
    */
   public void setCanvasSize(int width, int height) {
-    chaosGame.setCanvasSize(width - 10, height - 85);
-    juliaSetGame.setCanvasSize(width, height - 10 - 85);
+    renderService.runExclusive(() -> {
+      chaosGame.setCanvasSize(width - 10, height - 85);
+      juliaSetGame.setCanvasSize(width, height - 10 - 85);
+    });
     if (autoRunOnDescriptionChange) {
       runIterations(steps / 5);
     }
@@ -267,7 +283,7 @@ public class ChaosGameController implements ChaosGameObserver {
    * changed.
    */
   private void refreshImage() {
-    chaosGameView.setImage(imageFactory.createImage(currentCanvas, color));
+    chaosGameView.setImage(imageFactory.updateImage(currentCanvas, color));
   }
 
   /**
@@ -277,9 +293,9 @@ public class ChaosGameController implements ChaosGameObserver {
    */
   public void changeZoom(double multiplier) {
     if (useJuliaSet()) {
-      juliaSetGame.changeZoom(multiplier);
+      renderService.runExclusive(() -> juliaSetGame.changeZoom(multiplier));
     } else {
-      chaosGame.changeZoom(multiplier);
+      renderService.runExclusive(() -> chaosGame.changeZoom(multiplier));
     }
   }
 
@@ -300,9 +316,9 @@ public class ChaosGameController implements ChaosGameObserver {
    */
   public void moveCanvas(double x0, double x1) {
     if (useJuliaSet()) {
-      juliaSetGame.moveCanvas(new Vector2D(x0, x1));
+      renderService.runExclusive(() -> juliaSetGame.moveCanvas(new Vector2D(x0, x1)));
     } else {
-      chaosGame.moveCanvas(new Vector2D(x0, x1));
+      renderService.runExclusive(() -> chaosGame.moveCanvas(new Vector2D(x0, x1)));
     }
   }
 
@@ -321,14 +337,32 @@ public class ChaosGameController implements ChaosGameObserver {
   }
 
   /**
-   * Updates the canvas of the Chaos Game.
+   * Updates the canvas of the Chaos Game. The canvas is the front buffer of the game, which is
+   * retained until a newer canvas is shown, so it can be shown while the game keeps drawing. When
+   * called from the background thread, the canvas is shown on the JavaFX application thread,
+   * unless a newer run has been started, in which case it is released again.
    *
    * @param canvas the new canvas.
    */
   @Override
   public void updateCanvas(ChaosCanvas canvas) {
+    canvas.retain();
+    if (Platform.isFxApplicationThread()) {
+      showCanvas(canvas);
+    } else {
+      renderService.publish(() -> showCanvas(canvas), canvas::release);
+    }
+  }
+
+  /**
+   * Shows the given canvas in the view, and releases the canvas that was shown before.
+   *
+   * @param canvas the canvas to show.
+   */
+  private void showCanvas(ChaosCanvas canvas) {
+    currentCanvas.release();
     currentCanvas = canvas;
-    chaosGameView.setImage(imageFactory.createImage(canvas, color));
+    chaosGameView.setImage(imageFactory.updateImage(canvas, color));
   }
 
   /**
@@ -338,10 +372,12 @@ public class ChaosGameController implements ChaosGameObserver {
    */
   public void setDescription(ChaosGameDescription currentDescription) {
     this.currentDescription = currentDescription;
-    if (currentDescription.getTransformType().equals("Julia")) {
-      juliaSetGame.setDescription(currentDescription);
-    }
-    chaosGame.setDescription(currentDescription);
+    renderService.runExclusive(() -> {
+      if (currentDescription.getTransformType().equals("Julia")) {
+        juliaSetGame.setDescription(currentDescription);
+      }
+      chaosGame.setDescription(currentDescription);
+    });
 
   }
 
@@ -353,4 +389,13 @@ public class ChaosGameController implements ChaosGameObserver {
   public Image getImage() {
     return imageFactory.createImage(currentCanvas, color);
   }
+
+  /**
+   * Stops the background thread that runs the Chaos Game, and the thread pools of the games.
+   */
+  public void shutdown() {
+    renderService.shutdown();
+    chaosGame.close();
+    juliaSetGame.close();
+  }
 }
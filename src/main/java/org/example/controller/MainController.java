@@ -95,7 +95,10 @@ public class MainController {
       }
       changeScale(currentWidth, newVal.intValue());
     });
-    stage.setOnCloseRequest(e -> popupController.closePopup());
+    stage.setOnCloseRequest(e -> {
+      popupController.closePopup();
+      chaosGameController.shutdown();
+    });
   }
 
   /**
@@ -0,0 +1,120 @@
+package org.example.controller;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import javafx.application.Platform;
+
+/**
+ * <h2>RenderService.</h2>
+ * <p>
+ * Runs the games on a background thread, so long runs do not freeze the interface. Only one
+ * render runs at a time. Requesting a new render cancels the one that is running by interrupting
+ * it, and renders that are replaced before they start are skipped.
+ * </p>
+ * <p>
+ * The games are not thread safe, so every change to a game from the JavaFX application thread
+ * goes through {@link #runExclusive(Runnable)}, which cancels the running render and waits for it
+ * to stop before making the change. Results are handed back to the JavaFX application thread with
+ * {@link #publish(Runnable)}, and are dropped if a newer render has been requested in the
+ * meantime.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class RenderService {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "chaos-game-render");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final ReentrantLock gameLock = new ReentrantLock();
+  private final AtomicLong generation = new AtomicLong();
+  private Future<?> currentRender;
+
+  /**
+   * Runs the given render on the background thread. The render that is running is cancelled.
+   *
+   * @param render the render to run
+   */
+  public void render(Runnable render) {
+    long renderGeneration = generation.incrementAndGet();
+    cancelCurrentRender();
+    currentRender = executor.submit(() -> {
+      gameLock.lock();
+      try {
+        if (renderGeneration == generation.get()) {
+          render.run();
+        }
+      } finally {
+        gameLock.unlock();
+      }
+    });
+  }
+
+  /**
+   * Runs the given action on the calling thread while no render is running. The render that is
+   * running is cancelled first.
+   *
+   * @param action the action to run
+   */
+  public void runExclusive(Runnable action) {
+    generation.incrementAndGet();
+    cancelCurrentRender();
+    gameLock.lock();
+    try {
+      action.run();
+    } finally {
+      gameLock.unlock();
+    }
+  }
+
+  /**
+   * Runs the given update on the JavaFX application thread, unless a newer render or change has
+   * been requested before it runs. Called from the background thread when a render has finished.
+   *
+   * @param update the update to run
+   */
+  public void publish(Runnable update) {
+    publish(update, () -> { });
+  }
+
+  /**
+   * Runs the given update on the JavaFX application thread like {@link #publish(Runnable)}, or
+   * the given cleanup instead if the update is dropped.
+   *
+   * @param update  the update to run
+   * @param dropped the cleanup to run if the update is dropped
+   */
+  public void publish(Runnable update, Runnable dropped) {
+    long publishGeneration = generation.get();
+    Platform.runLater(() -> {
+      if (publishGeneration == generation.get()) {
+        update.run();
+      } else {
+        dropped.run();
+      }
+    });
+  }
+
+  /**
+   * Cancels the render that is running, or waiting to run.
+   */
+  private void cancelCurrentRender() {
+    if (currentRender != null) {
+      currentRender.cancel(true);
+      currentRender = null;
+    }
+  }
+
+  /**
+   * Stops the background thread. Renders that have not finished are cancelled.
+   */
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
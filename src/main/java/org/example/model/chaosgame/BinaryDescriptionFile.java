@@ -0,0 +1,246 @@
+package org.example.model.chaosgame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.model.exceptions.MissingDataException;
+import org.example.model.math.Complex;
+import org.example.model.math.Matrix2x2;
+import org.example.model.math.Vector2D;
+import org.example.model.transform.AffineTransform2D;
+import org.example.model.transform.JuliaTransform;
+import org.example.model.transform.Transform2D;
+
+/**
+ * <h2>BinaryDescriptionFile.</h2>
+ * <p>
+ * Reads and writes chaos game descriptions in a compact binary format, used by
+ * {@link ChaosGameFileHandler} for files with the {@value #EXTENSION} extension. Binary files are
+ * much faster to read than text files, since the values are stored as doubles and do not have to
+ * be parsed.
+ * </p>
+ * <p>
+ * All values are little-endian. The file starts with a header of {@value #HEADER_SIZE} bytes:
+ * </p>
+ * <ul>
+ *   <li>the magic number "CGBF" (4 bytes)</li>
+ *   <li>the version of the format, currently {@value #VERSION} (2 bytes)</li>
+ *   <li>the transform type, 0 for affine and 1 for Julia (1 byte), and one unused byte</li>
+ *   <li>the number of transforms (4 bytes), and four unused bytes</li>
+ *   <li>the minimum and maximum coordinates (4 doubles)</li>
+ * </ul>
+ * <p>
+ * The header is followed by the values of the transforms, six doubles (a00, a01, a10, a11, b0,
+ * b1) for each affine transform and three doubles (real, imaginary, sign) for each Julia
+ * transform, and then one int weight per transform.
+ * </p>
+ * <p>
+ * Files are read by mapping them into memory, and written with one bulk write of a buffer that
+ * holds the whole file.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+class BinaryDescriptionFile {
+
+  static final String EXTENSION = ".cgb";
+  static final int MAGIC = 0x46424743;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 48;
+
+  private static final int AFFINE_TYPE = 0;
+  private static final int JULIA_TYPE = 1;
+  private static final int AFFINE_VALUES = 6;
+  private static final int JULIA_VALUES = 3;
+
+  /**
+   * Returns whether the file starts with the magic number of the binary format. The position of
+   * the channel is not changed.
+   *
+   * @param channel the channel of the file
+   * @return true if the file is a binary description file, false otherwise
+   * @throws IOException if the file can not be read
+   */
+  static boolean isBinaryFile(FileChannel channel) throws IOException {
+    ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+    while (magic.hasRemaining() && channel.read(magic, magic.position()) >= 0) {
+      // Reads until the magic number is read or the file ends.
+    }
+    return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+  }
+
+  /**
+   * Reads the description in the given binary file.
+   *
+   * @param channel the channel of the file
+   * @return the description in the file
+   * @throws MissingDataException     if the file is shorter than its header says, or has an
+   *                                  unknown transform type
+   * @throws IllegalArgumentException if the file has an unsupported version, or the values do not
+   *                                  make a valid description
+   * @throws IOException              if the file can not be read
+   */
+  ChaosGameDescription read(FileChannel channel) throws IOException {
+    long size = channel.size();
+    if (size < HEADER_SIZE) {
+      throw new MissingDataException("Description file is missing data");
+    }
+    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    return decode(mapped.order(ByteOrder.LITTLE_ENDIAN));
+  }
+
+  /**
+   * Decodes a description in the binary format. The description starts at index 0 of the buffer,
+   * and the buffer must not be longer than the description, so that a description can also be
+   * stored inside other files, like the checkpoints of {@link ChaosGameCheckpoint}.
+   *
+   * @param buffer the little-endian buffer with the description
+   * @return the description in the buffer
+   * @throws MissingDataException     if the buffer is shorter than its header says, or has an
+   *                                  unknown transform type
+   * @throws IllegalArgumentException if the buffer has an unsupported version, or the values do
+   *                                  not make a valid description
+   */
+  static ChaosGameDescription decode(ByteBuffer buffer) {
+    long size = buffer.limit();
+    if (size < HEADER_SIZE) {
+      throw new MissingDataException("Description file is missing data");
+    }
+    if (buffer.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException("Not a binary description file");
+    }
+    if (buffer.getShort(4) != VERSION) {
+      throw new IllegalArgumentException("Unsupported binary file version");
+    }
+    int type = buffer.get(6);
+    if (type != AFFINE_TYPE && type != JULIA_TYPE) {
+      throw new MissingDataException("Invalid transform type");
+    }
+    int count = buffer.getInt(8);
+    int valuesPerTransform = type == AFFINE_TYPE ? AFFINE_VALUES : JULIA_VALUES;
+    if (count <= 0) {
+      throw new MissingDataException(
+          "Description file is missing transform data, and cannot be used to create a "
+              + "ChaosGameDescription.");
+    }
+    if (size < fileSize(count, valuesPerTransform)) {
+      throw new MissingDataException("Description file is missing data");
+    }
+    Vector2D minCoords = new Vector2D(buffer.getDouble(16), buffer.getDouble(24));
+    Vector2D maxCoords = new Vector2D(buffer.getDouble(32), buffer.getDouble(40));
+
+    double[] values = new double[count * valuesPerTransform];
+    buffer.position(HEADER_SIZE);
+    buffer.asDoubleBuffer().get(values);
+    int[] weights = new int[count];
+    buffer.position(HEADER_SIZE + values.length * Double.BYTES);
+    buffer.asIntBuffer().get(weights);
+
+    List<Transform2D> transforms = new ArrayList<>(count);
+    List<Integer> weightList = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int offset = i * valuesPerTransform;
+      if (type == AFFINE_TYPE) {
+        transforms.add(new AffineTransform2D(new Matrix2x2(values[offset], values[offset + 1],
+            values[offset + 2], values[offset + 3]),
+            new Vector2D(values[offset + 4], values[offset + 5])));
+      } else {
+        transforms.add(new JuliaTransform(new Complex(values[offset], values[offset + 1]),
+            (int) values[offset + 2]));
+      }
+      weightList.add(weights[i]);
+    }
+    return new ChaosGameDescription(minCoords, maxCoords, transforms, weightList);
+  }
+
+  /**
+   * Writes the description to the given file in the binary format. The whole file is put in one
+   * buffer, and written with as few writes as the channel allows.
+   *
+   * @param description the description to write
+   * @param path        the path of the file
+   * @throws IllegalArgumentException if the description mixes affine and Julia transforms
+   * @throws IOException              if the file can not be written
+   */
+  void write(ChaosGameDescription description, Path path) throws IOException {
+    ByteBuffer buffer = encode(description);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  /**
+   * Encodes the description in the binary format.
+   *
+   * @param description the description to encode
+   * @return a little-endian buffer with the whole description, positioned at the start
+   * @throws IllegalArgumentException if the description mixes affine and Julia transforms
+   */
+  static ByteBuffer encode(ChaosGameDescription description) {
+    List<Transform2D> transforms = description.getTransforms();
+    List<Integer> weights = description.getWeights();
+    int count = transforms.size();
+    boolean julia = transforms.get(0) instanceof JuliaTransform;
+    int valuesPerTransform = julia ? JULIA_VALUES : AFFINE_VALUES;
+
+    double[] values = new double[count * valuesPerTransform];
+    int[] weightValues = new int[count];
+    for (int i = 0; i < count; i++) {
+      int offset = i * valuesPerTransform;
+      Transform2D transform = transforms.get(i);
+      if (julia && transform instanceof JuliaTransform juliaTransform) {
+        values[offset] = juliaTransform.getPoint().getReal();
+        values[offset + 1] = juliaTransform.getPoint().getImaginary();
+        values[offset + 2] = juliaTransform.getSign();
+      } else if (!julia && transform instanceof AffineTransform2D affineTransform) {
+        System.arraycopy(affineTransform.getMatrix().getValues(), 0, values, offset, 4);
+        values[offset + 4] = affineTransform.getVector().getX0();
+        values[offset + 5] = affineTransform.getVector().getX1();
+      } else {
+        throw new IllegalArgumentException("Transforms must all have the same type");
+      }
+      weightValues[i] = weights.get(i);
+    }
+
+    Vector2D minCoords = description.getMinCoords();
+    Vector2D maxCoords = description.getMaxCoords();
+    ByteBuffer buffer = ByteBuffer.allocate((int) fileSize(count, valuesPerTransform))
+        .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC)
+        .putShort((short) VERSION)
+        .put((byte) (julia ? JULIA_TYPE : AFFINE_TYPE))
+        .put((byte) 0)
+        .putInt(count)
+        .putInt(0)
+        .putDouble(minCoords.getX0())
+        .putDouble(minCoords.getX1())
+        .putDouble(maxCoords.getX0())
+        .putDouble(maxCoords.getX1());
+    buffer.asDoubleBuffer().put(values);
+    buffer.position(HEADER_SIZE + values.length * Double.BYTES);
+    buffer.asIntBuffer().put(weightValues);
+    return buffer.rewind();
+  }
+
+  /**
+   * Returns the size of a file with the given number of transforms.
+   *
+   * @param count              the number of transforms
+   * @param valuesPerTransform the number of doubles per transform
+   * @return the size of the file in bytes
+   */
+  private static long fileSize(int count, int valuesPerTransform) {
+    return HEADER_SIZE + (long) count * valuesPerTransform * Double.BYTES
+        + (long) count * Integer.BYTES;
+  }
+}
@@ -1,5 +1,9 @@
 package org.example.model.chaosgame;
 
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.example.model.math.Matrix2x2;
 import org.example.model.math.Vector2D;
 import org.example.model.transform.AffineTransform2D;
@@ -12,6 +16,30 @@ import org.example.model.transform.AffineTransform2D;
  * and for clearing the canvas.
  * </p>
  * <p>
+ * The pixels are stored row by row in a single array, so the pixel at a column and row has the
+ * index row * width + column. Rows can be read in bulk, which is how images are made from the
+ * canvas.
+ * </p>
+ * <p>
+ * A canvas can be reset with new coordinates, or resized, without creating a new canvas. The
+ * array of pixels is reused, and is only replaced when it is too small for the new size.
+ * </p>
+ * <p>
+ * A read-only snapshot of the canvas can be taken without copying the pixels. The snapshot shares
+ * the array of pixels with the canvas until the canvas is changed the next time. The canvas then
+ * copies the array before it writes to it, so the snapshot never changes.
+ * </p>
+ * <p>
+ * Canvases given to observers are buffers of a {@link DoubleBufferedCanvas}. An observer that keeps
+ * such a canvas after it has been notified calls {@link #retain()}, and {@link #release()} when it
+ * is done with it, so the buffer is not reused in the meantime.
+ * </p>
+ * <p>
+ * A canvas in high dynamic range mode holds the raw number of hits of each pixel instead of
+ * values capped at 755, so long runs keep adding detail instead of saturating. Such canvases are
+ * tone mapped with a {@link org.example.model.factory.ToneMapper} when images are made from them.
+ * </p>
+ * <p>
  * The canvas has a toString method that returns a ascii representation of the canvas, and a
  * getInfoString method that returns the details of the canvas.
  * </p>
@@ -21,12 +49,20 @@ import org.example.model.transform.AffineTransform2D;
  */
 public class ChaosCanvas {
 
-  private final int[][] canvas;
-  private final int width;
-  private final int height;
-  private final Vector2D minCoords;
-  private final Vector2D maxCoords;
-  private final AffineTransform2D transformCoordsToIndices;
+  private int[] canvas;
+  private int width;
+  private int height;
+  private Vector2D minCoords;
+  private Vector2D maxCoords;
+  private AffineTransform2D transformCoordsToIndices;
+  private double rowScale;
+  private double rowOffset;
+  private double columnScale;
+  private double columnOffset;
+  private boolean shared;
+  private boolean readOnly;
+  private boolean highDynamicRange;
+  private final AtomicInteger retainCount = new AtomicInteger();
 
 
   /**
@@ -118,6 +154,20 @@ public class ChaosCanvas {
     }
   }
 
+  /**
+   * Verifies that the given column and row are within the canvas.
+   *
+   * @param column the column to verify
+   * @param row    the row to verify
+   * @throws IllegalArgumentException if the column or row is outside the canvas
+   */
+  private void verifyWithinCanvas(int column, int row) {
+    if (column < 0 || column >= width || row < 0 || row >= height) {
+      throw new IllegalArgumentException(
+          "Pixel " + column + ", " + row + " is outside the canvas");
+    }
+  }
+
   /**
    * Returns whether the given point is outside the canvas.
    *
@@ -145,18 +195,8 @@ public class ChaosCanvas {
     verifyNotNull(minCoords);
     verifyNotNull(maxCoords);
     minMaxCoordsValid(minCoords, maxCoords);
-    this.width = width;
-    this.height = height;
-    this.minCoords = minCoords;
-    this.maxCoords = maxCoords;
-    this.canvas = new int[width][height];
-    this.transformCoordsToIndices = new AffineTransform2D(
-        new Matrix2x2(0, (height - 1) / (minCoords.getX1() - maxCoords.getX1()),
-            (width - 1) / (maxCoords.getX0() - minCoords.getX0()), 0),
-
-        new Vector2D(((height - 1) * maxCoords.getX1()) / (maxCoords.getX1() - minCoords.getX1()),
-            ((width - 1) * minCoords.getX0()) / (minCoords.getX0() - maxCoords.getX0()))
-    );
+    this.canvas = new int[width * height];
+    setParameters(width, height, minCoords, maxCoords);
   }
 
   /**
@@ -168,18 +208,275 @@ public class ChaosCanvas {
    */
   public ChaosCanvas(ChaosCanvas canvas) {
     verifyNotNull(canvas);
-    this.width = canvas.getWidth();
-    this.height = canvas.getHeight();
-    this.minCoords = new Vector2D(canvas.minCoords);
-    this.maxCoords = new Vector2D(canvas.maxCoords);
-    this.canvas = canvas.getCanvasArray();
+    this.canvas = Arrays.copyOf(canvas.canvas, canvas.width * canvas.height);
+    this.highDynamicRange = canvas.highDynamicRange;
+    setParameters(canvas.width, canvas.height, new Vector2D(canvas.minCoords),
+        new Vector2D(canvas.maxCoords));
+  }
+
+  /**
+   * Constructor for read-only snapshots. The snapshot uses the given array of pixels without
+   * copying it.
+   *
+   * @param pixels           the array of pixels to share
+   * @param width            the width of the canvas
+   * @param height           the height of the canvas
+   * @param minCoords        the minimum coordinates of the canvas
+   * @param maxCoords        the maximum coordinates of the canvas
+   * @param highDynamicRange whether the pixels are raw hit counts
+   */
+  private ChaosCanvas(int[] pixels, int width, int height, Vector2D minCoords,
+      Vector2D maxCoords, boolean highDynamicRange) {
+    this.canvas = pixels;
+    this.readOnly = true;
+    this.highDynamicRange = highDynamicRange;
+    setParameters(width, height, new Vector2D(minCoords), new Vector2D(maxCoords));
+  }
+
+  /**
+   * Returns a read-only snapshot of the canvas. The pixels are not copied, so taking a snapshot is
+   * cheap. The snapshot keeps the current pixels even if the canvas is changed later. A snapshot
+   * of a snapshot is the snapshot itself.
+   *
+   * @return a read-only snapshot of the canvas
+   */
+  public ChaosCanvas snapshot() {
+    if (readOnly) {
+      return this;
+    }
+    shared = true;
+    return new ChaosCanvas(canvas, width, height, minCoords, maxCoords, highDynamicRange);
+  }
+
+  /**
+   * Creates a read-only buffer with a copy of the pixels and parameters of the given canvas. Used
+   * by {@link DoubleBufferedCanvas}.
+   *
+   * @param source the canvas to copy
+   * @return the new buffer
+   */
+  static ChaosCanvas createBuffer(ChaosCanvas source) {
+    return new ChaosCanvas(Arrays.copyOf(source.canvas, source.width * source.height),
+        source.width, source.height, source.minCoords, source.maxCoords,
+        source.highDynamicRange);
+  }
+
+  /**
+   * Creates a read-only buffer with the parameters of the given canvas and no pixels. Used by
+   * {@link DoubleBufferedCanvas} for buffers that get their pixels with
+   * {@link #swapPixels(ChaosCanvas)}.
+   *
+   * @param source the canvas to take the parameters from
+   * @return the new buffer
+   */
+  static ChaosCanvas createEmptyBuffer(ChaosCanvas source) {
+    return new ChaosCanvas(new int[0], source.width, source.height, source.minCoords,
+        source.maxCoords, source.highDynamicRange);
+  }
+
+  /**
+   * Takes the array of pixels and the parameters of the given canvas without copying them, and
+   * gives the given canvas the previous array of this canvas in return, so the arrays are swapped.
+   * The pixels of the given canvas are undefined afterwards, and must all be drawn again before
+   * they are read. If the previous array is too small, or may still be read through a snapshot, the
+   * given canvas gets a new array instead. Used by {@link DoubleBufferedCanvas} for games that draw
+   * every pixel again for each frame.
+   *
+   * @param source the canvas to take the pixels from
+   */
+  void swapPixels(ChaosCanvas source) {
+    int size = source.width * source.height;
+    int[] previous = canvas.length < size || shared ? new int[size] : canvas;
+    canvas = source.canvas;
+    shared = source.shared;
+    source.canvas = previous;
+    source.shared = false;
+    highDynamicRange = source.highDynamicRange;
+    setParameters(source.width, source.height, new Vector2D(source.minCoords),
+        new Vector2D(source.maxCoords));
+  }
+
+  /**
+   * Returns a read-only canvas that shares the pixels of this buffer. The pixels are marked as
+   * shared, so the buffer does not write to them or give them away again, and the returned canvas
+   * never changes. Used by {@link DoubleBufferedCanvas}.
+   *
+   * @return a read-only canvas with the pixels of this buffer
+   */
+  ChaosCanvas shareSnapshot() {
+    shared = true;
+    return new ChaosCanvas(canvas, width, height, minCoords, maxCoords, highDynamicRange);
+  }
+
+  /**
+   * Copies the pixels and parameters of the given canvas into this canvas, even if this canvas is
+   * read-only. The array of pixels is only replaced if it is too small. Used by
+   * {@link DoubleBufferedCanvas} to update its buffers.
+   *
+   * @param source the canvas to copy
+   */
+  void copyFrom(ChaosCanvas source) {
+    int size = source.width * source.height;
+    if (canvas.length < size || shared) {
+      canvas = new int[size];
+      shared = false;
+    }
+    System.arraycopy(source.canvas, 0, canvas, 0, size);
+    highDynamicRange = source.highDynamicRange;
+    setParameters(source.width, source.height, new Vector2D(source.minCoords),
+        new Vector2D(source.maxCoords));
+  }
+
+  /**
+   * Marks the canvas as in use, so a {@link DoubleBufferedCanvas} does not reuse it until it is
+   * released. Each call must be matched by a call to {@link #release()}.
+   */
+  public void retain() {
+    retainCount.incrementAndGet();
+  }
+
+  /**
+   * Marks the canvas as no longer in use by the caller.
+   *
+   * @throws IllegalStateException if the canvas has not been retained
+   */
+  public void release() {
+    if (retainCount.getAndUpdate(count -> Math.max(count - 1, 0)) == 0) {
+      throw new IllegalStateException("Canvas is not retained");
+    }
+  }
+
+  /**
+   * Returns whether the canvas has been retained and not released.
+   *
+   * @return true if the canvas is in use, false otherwise
+   */
+  boolean isRetained() {
+    return retainCount.get() > 0;
+  }
+
+  /**
+   * Sets whether the canvas holds raw hit counts. The pixels are not changed, so the canvas should
+   * be cleared when the mode changes.
+   *
+   * @param highDynamicRange true if the pixels are raw hit counts, false if they are values up to
+   *                         755
+   * @throws UnsupportedOperationException if the canvas is read-only
+   */
+  public void setHighDynamicRange(boolean highDynamicRange) {
+    if (readOnly) {
+      throw new UnsupportedOperationException("Canvas is read-only");
+    }
+    this.highDynamicRange = highDynamicRange;
+  }
+
+  /**
+   * Returns whether the canvas holds raw hit counts that must be tone mapped before they are
+   * shown.
+   *
+   * @return true if the canvas is in high dynamic range mode, false otherwise
+   */
+  public boolean isHighDynamicRange() {
+    return highDynamicRange;
+  }
+
+  /**
+   * Returns whether the canvas is a read-only snapshot.
+   *
+   * @return true if the canvas is read-only, false otherwise
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Prepares the canvas to be changed. Copies the array of pixels if it is shared with a snapshot.
+   *
+   * @throws UnsupportedOperationException if the canvas is read-only
+   */
+  private void prepareWrite() {
+    if (readOnly) {
+      throw new UnsupportedOperationException("Canvas is read-only");
+    }
+    if (shared) {
+      canvas = canvas.clone();
+      shared = false;
+    }
+  }
+
+  /**
+   * Prepares the canvas to be cleared. If the array of pixels is shared with a snapshot, a new
+   * array is created instead of copying the shared one.
+   *
+   * @param size the number of pixels the array must have room for
+   * @throws UnsupportedOperationException if the canvas is read-only
+   */
+  private void prepareClear(int size) {
+    if (readOnly) {
+      throw new UnsupportedOperationException("Canvas is read-only");
+    }
+    if (shared || canvas.length < size) {
+      canvas = new int[size];
+      shared = false;
+    } else {
+      Arrays.fill(canvas, 0, width * height, 0);
+    }
+  }
+
+  /**
+   * Sets the size and coordinates of the canvas, and calculates the transform from coordinates to
+   * indices. The array of pixels must already have room for the given size.
+   *
+   * @param width     the width to use
+   * @param height    the height to use
+   * @param minCoords the minimum coordinates to use
+   * @param maxCoords the maximum coordinates to use
+   */
+  private void setParameters(int width, int height, Vector2D minCoords, Vector2D maxCoords) {
+    this.width = width;
+    this.height = height;
+    this.minCoords = minCoords;
+    this.maxCoords = maxCoords;
+    this.rowScale = (height - 1) / (minCoords.getX1() - maxCoords.getX1());
+    this.rowOffset = ((height - 1) * maxCoords.getX1()) / (maxCoords.getX1() - minCoords.getX1());
+    this.columnScale = (width - 1) / (maxCoords.getX0() - minCoords.getX0());
+    this.columnOffset = ((width - 1) * minCoords.getX0()) / (minCoords.getX0() - maxCoords.getX0());
     this.transformCoordsToIndices = new AffineTransform2D(
-        new Matrix2x2(0, (height - 1) / (minCoords.getX1() - maxCoords.getX1()),
-            (width - 1) / (maxCoords.getX0() - minCoords.getX0()), 0),
+        new Matrix2x2(0, rowScale, columnScale, 0), new Vector2D(rowOffset, columnOffset));
+  }
 
-        new Vector2D(((height - 1) * maxCoords.getX1()) / (maxCoords.getX1() - minCoords.getX1()),
-            ((width - 1) * minCoords.getX0()) / (minCoords.getX0() - maxCoords.getX0()))
-    );
+  /**
+   * Clears the canvas and sets new minimum and maximum coordinates, keeping the size and the array
+   * of pixels.
+   *
+   * @param minCoords the new minimum coordinates
+   * @param maxCoords the new maximum coordinates
+   * @throws IllegalArgumentException if the given coordinates are null, or if the minimum
+   *                                  coordinates are not less than the maximum coordinates
+   */
+  public void reset(Vector2D minCoords, Vector2D maxCoords) {
+    resize(width, height, minCoords, maxCoords);
+  }
+
+  /**
+   * Clears the canvas and sets a new size and new minimum and maximum coordinates. The array of
+   * pixels is reused if it has room for the new size, and is only replaced if it is too small.
+   *
+   * @param width     the new width
+   * @param height    the new height
+   * @param minCoords the new minimum coordinates
+   * @param maxCoords the new maximum coordinates
+   * @throws IllegalArgumentException if the given width or height is not positive, if the given
+   *                                  coordinates are null, or if the minimum coordinates are not
+   *                                  less than the maximum coordinates
+   */
+  public void resize(int width, int height, Vector2D minCoords, Vector2D maxCoords) {
+    verifyDimensions(width, height);
+    verifyNotNull(minCoords);
+    verifyNotNull(maxCoords);
+    minMaxCoordsValid(minCoords, maxCoords);
+    prepareClear(width * height);
+    setParameters(width, height, minCoords, maxCoords);
   }
 
   /**
@@ -193,7 +490,7 @@ public class ChaosCanvas {
     verifyNotNull(point);
     verifyPointWithinParameters(point);
     Vector2D indices = transformCoords(point);
-    return canvas[(int) indices.getX1()][(int) indices.getX0()];
+    return canvas[(int) indices.getX0() * width + (int) indices.getX1()];
   }
 
   /**
@@ -204,7 +501,60 @@ public class ChaosCanvas {
    */
   public int getPixelFromCanvas(Vector2D pixel) {
     verifyNotNull(pixel);
-    return canvas[(int) pixel.getX0()][(int) pixel.getX1()];
+    return getPixel((int) pixel.getX0(), (int) pixel.getX1());
+  }
+
+  /**
+   * Returns the pixel value at the given column and row of the canvas.
+   *
+   * @param column the column of the pixel, from 0 up to the width
+   * @param row    the row of the pixel, from 0 up to the height
+   * @return the pixel value
+   * @throws IllegalArgumentException if the column or row is outside the canvas
+   */
+  public int getPixel(int column, int row) {
+    verifyWithinCanvas(column, row);
+    return canvas[row * width + column];
+  }
+
+  /**
+   * Returns the pixel value at the given index, where the index is row * width + column.
+   *
+   * @param index the index of the pixel
+   * @return the pixel value
+   * @throws IndexOutOfBoundsException if the index is outside the canvas
+   */
+  public int getPixel(int index) {
+    return canvas[Objects.checkIndex(index, width * height)];
+  }
+
+  /**
+   * Puts the given value at the given index, where the index is row * width + column.
+   *
+   * @param index the index of the pixel
+   * @param value the value to put
+   * @throws IndexOutOfBoundsException if the index is outside the canvas
+   */
+  public void setPixel(int index, int value) {
+    prepareWrite();
+    canvas[Objects.checkIndex(index, width * height)] = value;
+  }
+
+  /**
+   * Copies the given row of the canvas into the given array.
+   *
+   * @param row         the row to copy
+   * @param destination the array to copy the row into, with room for at least width values
+   * @throws IllegalArgumentException if the row is outside the canvas, or the array is too small
+   */
+  public void getRow(int row, int[] destination) {
+    if (row < 0 || row >= height) {
+      throw new IllegalArgumentException("Row " + row + " is outside the canvas");
+    }
+    if (destination == null || destination.length < width) {
+      throw new IllegalArgumentException("Destination must have room for a row");
+    }
+    System.arraycopy(canvas, row * width, destination, 0, width);
   }
 
   /**
@@ -219,7 +569,8 @@ public class ChaosCanvas {
       return;
     }
     Vector2D indices = transformCoords(point);
-    canvas[(int) indices.getX1()][(int) indices.getX0()] = 255;
+    prepareWrite();
+    canvas[(int) indices.getX0() * width + (int) indices.getX1()] = 255;
   }
 
   /**
@@ -239,8 +590,104 @@ public class ChaosCanvas {
     int newValue = getPixelFromCoords(point) + value;
     newValue = Math.min(newValue, 755);
 
-    canvas[(int) indices.getX1()][(int) indices.getX0()] = newValue;
+    prepareWrite();
+    canvas[(int) indices.getX0() * width + (int) indices.getX1()] = newValue;
+
+  }
+
+  /**
+   * Adds the given value to the pixel at the given coordinates, capped at 755. Does the same as
+   * {@link #setPixelWithCoords(Vector2D, int)}, but takes the coordinates as primitives so that no
+   * objects are created. Does nothing if the coordinates are not within the parameters.
+   *
+   * @param x0    the x0 coordinate of the point
+   * @param x1    the x1 coordinate of the point
+   * @param value the value to add
+   */
+  public void addToPixel(double x0, double x1, int value) {
+    if (x0 < minCoords.getX0() || x0 > maxCoords.getX0()
+        || x1 < minCoords.getX1() || x1 > maxCoords.getX1()) {
+      return;
+    }
+    int row = (int) (rowScale * x1 + rowOffset);
+    int column = (int) (columnScale * x0 + columnOffset);
+    int index = row * width + column;
+    prepareWrite();
+    canvas[index] = Math.min(canvas[index] + value, 755);
+  }
+
+  /**
+   * Returns the index of the pixel at the given coordinates, or -1 if the coordinates are not
+   * within the parameters. The index can be used with {@link #addHits(int[], int)}, and lies
+   * between 0 and width * height.
+   *
+   * @param x0 the x0 coordinate of the point
+   * @param x1 the x1 coordinate of the point
+   * @return the index of the pixel, or -1 if the point is not within the parameters
+   */
+  public int indexOf(double x0, double x1) {
+    if (x0 < minCoords.getX0() || x0 > maxCoords.getX0()
+        || x1 < minCoords.getX1() || x1 > maxCoords.getX1()) {
+      return -1;
+    }
+    int row = (int) (rowScale * x1 + rowOffset);
+    int column = (int) (columnScale * x0 + columnOffset);
+    return row * width + column;
+  }
+
+  /**
+   * Verifies that the given array of hits has an entry for every pixel of the canvas. The array can
+   * be longer, so the same array can be reused for canvases of different sizes.
+   *
+   * @param hits the array of hits to verify
+   * @throws IllegalArgumentException if the array is null or shorter than the number of pixels
+   */
+  private void verifyHitsCoverCanvas(int[] hits) {
+    if (hits == null || hits.length < width * height) {
+      throw new IllegalArgumentException("Hits must have one entry per pixel");
+    }
+  }
+
+  /**
+   * Adds a number of hits to every pixel of the canvas. Each hit adds the given value to the pixel,
+   * and the result is capped at 755, which gives the same result as calling
+   * {@link #addToPixel(double, double, int)} once per hit.
+   *
+   * @param hits  the number of hits for each pixel, indexed as by {@link #indexOf(double, double)}.
+   *              Entries after the last pixel are ignored.
+   * @param value the value to add per hit
+   * @throws IllegalArgumentException if the given array does not have an entry for every pixel
+   */
+  public void addHits(int[] hits, int value) {
+    verifyHitsCoverCanvas(hits);
+    prepareWrite();
+    int size = width * height;
+    for (int i = 0; i < size; i++) {
+      int count = hits[i];
+      if (count != 0) {
+        canvas[i] = (int) Math.min(canvas[i] + (long) count * value, 755);
+      }
+    }
+  }
 
+  /**
+   * Adds a number of hits to every pixel of the canvas without any cap, for canvases in high
+   * dynamic range mode. Counts larger than {@link Integer#MAX_VALUE} are kept at that value.
+   *
+   * @param hits the number of hits for each pixel, indexed as by {@link #indexOf(double, double)}.
+   *             Entries after the last pixel are ignored.
+   * @throws IllegalArgumentException if the given array does not have an entry for every pixel
+   */
+  public void addHitCounts(int[] hits) {
+    verifyHitsCoverCanvas(hits);
+    prepareWrite();
+    int size = width * height;
+    for (int i = 0; i < size; i++) {
+      int count = hits[i];
+      if (count != 0) {
+        canvas[i] = (int) Math.min(canvas[i] + (long) count, Integer.MAX_VALUE);
+      }
+    }
   }
 
   /**
@@ -255,7 +702,8 @@ public class ChaosCanvas {
     if (pointOutsideCanvas(point)) {
       return;
     }
-    canvas[(int) point.getX1()][(int) point.getX0()] = value;
+    prepareWrite();
+    canvas[(int) point.getX0() * width + (int) point.getX1()] = value;
 
   }
 
@@ -268,27 +716,64 @@ public class ChaosCanvas {
     verifyNotNull(point);
     verifyPointWithinParameters(point);
     Vector2D indices = transformCoords(point);
-    canvas[(int) indices.getX1()][(int) indices.getX0()] = 0;
+    prepareWrite();
+    canvas[(int) indices.getX0() * width + (int) indices.getX1()] = 0;
   }
 
   /**
-   * Returns a deep copy of the canvas as a 2D array of integers.
+   * Returns a deep copy of the canvas as a 2D array of integers, indexed by column and then row.
    *
    * @return the canvas as a 2D array of integers
    */
   public int[][] getCanvasArray() {
-    return canvas.clone();
+    int[][] copy = new int[width][height];
+    for (int row = 0; row < height; row++) {
+      int offset = row * width;
+      for (int column = 0; column < width; column++) {
+        copy[column][row] = canvas[offset + column];
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * Returns a copy of all pixels of the canvas, stored row by row.
+   *
+   * @return a copy of the pixels of the canvas
+   */
+  public int[] getPixels() {
+    return Arrays.copyOf(canvas, width * height);
+  }
+
+  /**
+   * Returns a read-only view of the pixels of the canvas, stored row by row, without copying them.
+   * The view has one value per pixel, and shows later changes of the canvas, so it should be read
+   * from a read-only snapshot or while the canvas does not change. Used to tone map each frame
+   * without a copy of the canvas.
+   *
+   * @return a read-only view of the pixels of the canvas
+   */
+  public IntBuffer getPixelView() {
+    return IntBuffer.wrap(canvas, 0, width * height).slice().asReadOnlyBuffer();
+  }
+
+  /**
+   * Returns the array the pixels are stored in, without copying it. Used by the games in this
+   * package to write pixels directly. The array can be longer than the number of pixels after the
+   * canvas has been resized. If the array was shared with a snapshot, it is copied first.
+   *
+   * @return the array of pixels of the canvas
+   */
+  int[] getBuffer() {
+    prepareWrite();
+    return canvas;
   }
 
   /**
    * Clears the canvas by setting all pixels to 0.
    */
   public void clear() {
-    for (int i = 0; i < width; i++) {
-      for (int j = 0; j < height; j++) {
-        canvas[i][j] = 0;
-      }
-    }
+    prepareClear(width * height);
   }
 
   /**
@@ -345,7 +830,7 @@ public class ChaosCanvas {
     StringBuilder canvasString = new StringBuilder();
     for (int i = 0; i < height; i++) {
       for (int j = 0; j < width; j++) {
-        if (canvas[j][i] == 0) {
+        if (canvas[i * width + j] == 0) {
           canvasString.append(" ");
         } else {
           canvasString.append("X");
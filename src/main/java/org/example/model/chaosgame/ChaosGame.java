@@ -1,8 +1,16 @@
 package org.example.model.chaosgame;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.example.model.math.Vector2D;
-import org.example.model.transform.Transform2D;
 
 /**
  * <h2>ChaosGame.</h2>
@@ -14,6 +22,26 @@ import org.example.model.transform.Transform2D;
  * selected transforms from a given description. The transformed point increases in value in the
  * canvas, and the canvas is updated after the given number of steps is run.
  * </p>
+ * <p>
+ * Large runs are split between several threads. Each thread runs its own orbit with its own random
+ * number generator, and counts its hits in a private array. The hits are added to the canvas when
+ * all threads are done.
+ * </p>
+ * <p>
+ * In progressive mode the observers are also notified while the game runs, at most as often as
+ * the frame rate set with {@link #setFrameRate(int)}, so long runs show a coarse picture at once
+ * that is refined as the game runs.
+ * </p>
+ * <p>
+ * In high dynamic range mode the canvas counts the raw number of hits of each pixel, instead of
+ * adding a value that depends on the zoom and is capped at 755. The counts are tone mapped when
+ * images are made, so longer runs keep improving the image instead of saturating it.
+ * </p>
+ * <p>
+ * Long renders can be saved with {@link #saveCheckpoint(String)} and continued later with
+ * {@link #fromCheckpoint(String)}. A checkpoint stores the canvas, the current point, the state of
+ * the random number generator, the description and the number of steps that have been run.
+ * </p>
  *
  * @version 1.0.0
  * @since 0.2.0
@@ -22,9 +50,29 @@ public class ChaosGame extends Game {
 
   private final Vector2D currentPoint;
 
-  private final Random random;
+  private final ResumableRandom random;
+
+  private static final int MIN_STEPS_PER_THREAD = 50_000;
+  private static final int STEPS_PER_CHUNK = 1 << 16;
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private int frameRate = 0;
+  private int[][] hitBuffers = new int[0][];
+  private long stepCount = 0;
 
 
+  /**
+   * Verifies that the given frame rate is not negative.
+   *
+   * @param frameRate the frame rate to verify
+   * @throws IllegalArgumentException if the given frame rate is negative
+   */
+  private void verifyNonNegativeFrameRate(int frameRate) {
+    if (frameRate < 0) {
+      throw new IllegalArgumentException("Frame rate cannot be negative");
+    }
+  }
+
   /**
    * Constructs a new ChaosGame object with the given description and creates a canvas based on the
    * values.
@@ -41,11 +89,67 @@ public class ChaosGame extends Game {
     this.canvasWidth = width;
     this.canvasHeight = height;
     this.currentPoint = new Vector2D(0, 0);
-    this.random = new Random();
+    this.random = new ResumableRandom();
     setDescription(description);
 
   }
 
+  /**
+   * Constructs a chaos game that continues from the given checkpoint.
+   *
+   * @param checkpoint the checkpoint to continue from.
+   * @throws IllegalArgumentException if the canvas of the checkpoint does not match its size.
+   */
+  private ChaosGame(ChaosGameCheckpoint checkpoint) {
+    this(checkpoint.description(), checkpoint.width(), checkpoint.height());
+    System.arraycopy(checkpoint.pixels(), 0, canvas.getBuffer(), 0,
+        checkpoint.width() * checkpoint.height());
+    currentPoint.setX0(checkpoint.x0());
+    currentPoint.setX1(checkpoint.x1());
+    random.setState(checkpoint.randomState());
+    canvas.setHighDynamicRange(checkpoint.highDynamicRange());
+    zoom = checkpoint.zoom();
+    stepCount = checkpoint.stepCount();
+  }
+
+  /**
+   * Creates a chaos game that continues from the checkpoint in the given file.
+   *
+   * @param path is the path to the checkpoint file.
+   * @return the chaos game in the checkpoint.
+   * @throws IllegalArgumentException if the file can not be read, or is not a valid checkpoint.
+   */
+  public static ChaosGame fromCheckpoint(String path) {
+    try {
+      return new ChaosGame(ChaosGameCheckpoint.read(Path.of(path)));
+    } catch (IOException e) {
+      throw new IllegalArgumentException(e.getMessage());
+    }
+  }
+
+  /**
+   * Saves the state of the game to the given file, so the render can be continued later with
+   * {@link #fromCheckpoint(String)}. Should not be called while the game runs.
+   *
+   * @param path is the path to the checkpoint file.
+   * @throws IOException if the file can not be written.
+   */
+  public void saveCheckpoint(String path) throws IOException {
+    new ChaosGameCheckpoint(description, canvasWidth, canvasHeight, stepCount,
+        currentPoint.getX0(), currentPoint.getX1(), zoom, random.getState(),
+        canvas.isHighDynamicRange(), canvas.getPixels()).write(Path.of(path));
+  }
+
+  /**
+   * Returns the number of steps that have been run on the current canvas. Runs that were
+   * interrupted are not counted.
+   *
+   * @return the number of steps.
+   */
+  public long getStepCount() {
+    return stepCount;
+  }
+
   /**
    * Sets the description of this chaos game. The canvas is reset to a new canvas based on the
    * description. Notifies all observers that the description has changed.
@@ -59,22 +163,20 @@ public class ChaosGame extends Game {
     currentPoint.setX0(0);
     currentPoint.setX1(0);
     this.description = description;
-    this.canvas = new ChaosCanvas(canvasWidth, canvasHeight, description.getMinCoords(),
-        description.getMaxCoords());
+    resetCanvas(canvasWidth, canvasHeight);
     zoom = 1.0;
     notifyCanvasChanged();
     notifyDescriptionChanged();
   }
 
   /**
-   * Updates the description of this chaos game. The canvas is reset to a new canvas based on the
-   * description. Notifies all observers that the description has changed.
+   * Updates the description of this chaos game. The canvas is cleared and reset to the
+   * coordinates of the description. Notifies all observers that the description has changed.
    */
   public void updateDescription() {
     currentPoint.setX0(0);
     currentPoint.setX1(0);
-    this.canvas = new ChaosCanvas(canvasWidth, canvasHeight, description.getMinCoords(),
-        description.getMaxCoords());
+    resetCanvas(canvasWidth, canvasHeight);
     notifyDescriptionChanged();
     notifyCanvasChanged();
   }
@@ -85,8 +187,9 @@ public class ChaosGame extends Game {
    * @param multiplier the multiplier to change the zoom with.
    */
   public void changeZoom(double multiplier) {
-    zoom += zoom * multiplier;
-    description.changeZoom(multiplier);
+    if (description.changeZoom(multiplier)) {
+      zoom += zoom * multiplier;
+    }
     updateDescription();
   }
 
@@ -102,31 +205,362 @@ public class ChaosGame extends Game {
   }
 
 
+  /**
+   * Sets the seed of the random number generator used to select transforms, so runs can be
+   * repeated.
+   *
+   * @param seed the seed to use.
+   */
+  public void setSeed(long seed) {
+    random.setSeed(seed);
+  }
+
+  /**
+   * Sets the highest number of times per second the observers are notified while the game runs.
+   * A frame rate of 0 turns progressive mode off, so the observers are only notified when all steps
+   * have been run. Progressive mode is off by default.
+   *
+   * @param frameRate the number of frames per second, or 0 to turn progressive mode off.
+   * @throws IllegalArgumentException if the given frame rate is negative.
+   */
+  public void setFrameRate(int frameRate) {
+    verifyNonNegativeFrameRate(frameRate);
+    this.frameRate = frameRate;
+  }
+
+  /**
+   * Turns high dynamic range mode on or off. The canvas is cleared, since the values of the two
+   * modes can not be mixed. High dynamic range mode is off by default.
+   *
+   * @param highDynamicRange true to count raw hits, false to add values capped at 755.
+   */
+  public void setHighDynamicRange(boolean highDynamicRange) {
+    canvas.setHighDynamicRange(highDynamicRange);
+    clearCanvas();
+  }
+
+  /**
+   * Returns whether the canvas counts raw hits.
+   *
+   * @return true if high dynamic range mode is on, false otherwise.
+   */
+  public boolean isHighDynamicRange() {
+    return canvas.isHighDynamicRange();
+  }
+
+  /**
+   * Returns the highest number of times per second the observers are notified while the game
+   * runs, or 0 if progressive mode is off.
+   *
+   * @return the frame rate.
+   */
+  public int getFrameRate() {
+    return frameRate;
+  }
+
   /**
    * Runs the chaos game for the given number of steps. Notifies all observers that the canvas has
-   * changed after all steps have been run.
+   * changed after all steps have been run, and in progressive mode also while the steps are run.
+   * The steps are run by a {@link ChaosGameKernel}, so no objects are created per step. If the
+   * number of steps is large enough, the steps are split between the threads set with
+   * {@link #setThreadCount(int)}. If the calling thread is interrupted, the game stops early, and
+   * the observers are not notified. In high dynamic range mode each hit adds 1 to the pixel, up to
+   * {@link Integer#MAX_VALUE} hits per pixel. The hits are then counted in a separate array, also
+   * on a single thread, and added to the canvas with {@link ChaosCanvas#addHitCounts(int[])}, so
+   * the counts of the canvas stop at the cap instead of wrapping around.
    *
    * @param steps is the number of steps to run.
-   * @throws IllegalArgumentException if the given number of steps is not positive.
+   * @throws IllegalArgumentException if the given number of steps is not positive, or if the
+   *                                  description can not be run.
    */
   @Override
   public void runSteps(int steps) {
     verifyStepsPositive(steps);
-    int sumOfWeights = description.sumOfWeights();
+    ChaosGameKernel kernel = new ChaosGameKernel(description);
     int value = (int) Math.min(10 / zoom + 1, 255);
-    for (int i = 0; i < steps; i++) {
-      try {
-        int randomInt = random.nextInt(sumOfWeights);
-        Transform2D transform = description.getTransformWithWeight(randomInt);
-        Vector2D tmp = transform.transform(currentPoint);
-        currentPoint.setX0(tmp.getX0());
-        currentPoint.setX1(tmp.getX1());
-
-        canvas.setPixelWithCoords(currentPoint, value);
-      } catch (Exception e) {
-        throw new IllegalArgumentException("Invalid description");
+    int threads = Math.min(threadCount, steps / MIN_STEPS_PER_THREAD);
+    FrameTimer frameTimer = new FrameTimer(frameRate);
+
+    kernel.setPoint(currentPoint.getX0(), currentPoint.getX1());
+    if (threads > 1) {
+      runStepsParallel(kernel, steps, threads, value, frameTimer);
+    } else {
+      int[][] hits = canvas.isHighDynamicRange()
+          ? getHitBuffers(1, canvas.getWidth() * canvas.getHeight()) : null;
+      for (int done = 0; done < steps && !Thread.currentThread().isInterrupted();
+          done += STEPS_PER_CHUNK) {
+        int chunk = Math.min(STEPS_PER_CHUNK, steps - done);
+        if (hits != null) {
+          kernel.count(chunk, random, canvas, hits[0]);
+        } else {
+          kernel.run(chunk, random, canvas, value);
+        }
+        if (frameTimer.frameDue() && done + STEPS_PER_CHUNK < steps) {
+          if (hits != null) {
+            addHitsToCanvas(hits, 1, value);
+          }
+          notifyCanvasChanged();
+        }
+      }
+      if (hits != null) {
+        addHitsToCanvas(hits, 1, value);
       }
     }
-    notifyCanvasChanged();
+    currentPoint.setX0(kernel.getX0());
+    currentPoint.setX1(kernel.getX1());
+    if (!Thread.currentThread().isInterrupted()) {
+      stepCount += steps;
+      notifyCanvasChanged();
+    }
+  }
+
+  /**
+   * Runs the steps split between the given number of threads. The given kernel is used by the
+   * first thread, and the other threads get their own kernels starting at the same point. Each
+   * thread gets a random number generator seeded from the random number generator of the game.
+   * The threads run on the thread pool of the game, and check a flag between chunks of steps, so
+   * they stop soon after the calling thread is interrupted.
+   *
+   * <p>In progressive mode the threads run one chunk at a time, and the hits are added to the
+   * canvas whenever a frame is due. The orbits and random number generators continue between the
+   * chunks, so the final canvas is the same as without progressive mode.</p>
+   *
+   * <p>The arrays of hit counts of all threads but the first are released after the run, so a game
+   * at a large size does not keep one full array per thread while it is idle.</p>
+   *
+   * @param kernel     the kernel to use for the first thread.
+   * @param steps      the total number of steps to run.
+   * @param threads    the number of threads to use.
+   * @param value      the value to add to the canvas for each hit.
+   * @param frameTimer the timer that decides when the observers are notified.
+   */
+  private void runStepsParallel(ChaosGameKernel kernel, int steps, int threads, int value,
+      FrameTimer frameTimer) {
+    int pixels = canvas.getWidth() * canvas.getHeight();
+    int[][] hitsPerThread = getHitBuffers(threads, pixels);
+    try {
+      countHitsParallel(kernel, steps, threads, value, frameTimer, hitsPerThread);
+    } finally {
+      releaseHitBuffers();
+    }
+  }
+
+  /**
+   * Runs the steps split between the given number of threads, counting the hits of each thread in
+   * the given arrays.
+   *
+   * @param kernel        the kernel to use for the first thread.
+   * @param steps         the total number of steps to run.
+   * @param threads       the number of threads to use.
+   * @param value         the value to add to the canvas for each hit.
+   * @param frameTimer    the timer that decides when the observers are notified.
+   * @param hitsPerThread the arrays to count the hits of each thread in.
+   */
+  private void countHitsParallel(ChaosGameKernel kernel, int steps, int threads, int value,
+      FrameTimer frameTimer, int[][] hitsPerThread) {
+    int roundSteps = frameTimer.isEnabled() ? STEPS_PER_CHUNK : Integer.MAX_VALUE;
+    ChaosGameKernel[] kernels = new ChaosGameKernel[threads];
+    Random[] randoms = new Random[threads];
+    int[] remainingSteps = new int[threads];
+    for (int i = 0; i < threads; i++) {
+      kernels[i] = i == 0 ? kernel : new ChaosGameKernel(description);
+      kernels[i].setPoint(kernel.getX0(), kernel.getX1());
+      randoms[i] = new Random(random.nextLong());
+      remainingSteps[i] = steps / threads + (i < steps % threads ? 1 : 0);
+    }
+
+    ForkJoinPool pool = getPool();
+    AtomicBoolean cancelled = new AtomicBoolean();
+    List<ForkJoinTask<Void>> workers = new ArrayList<>();
+    try {
+      while (remainingSteps[0] > 0) {
+        workers.clear();
+        for (int i = 0; i < threads; i++) {
+          ChaosGameKernel workerKernel = kernels[i];
+          Random workerRandom = randoms[i];
+          int[] hits = hitsPerThread[i];
+          int workerSteps = Math.min(roundSteps, remainingSteps[i]);
+          remainingSteps[i] -= workerSteps;
+          workers.add(pool.submit(() -> {
+            for (int done = 0; done < workerSteps && !cancelled.get(); done += STEPS_PER_CHUNK) {
+              workerKernel.count(Math.min(STEPS_PER_CHUNK, workerSteps - done), workerRandom,
+                  canvas, hits);
+            }
+            return null;
+          }));
+        }
+        for (ForkJoinTask<Void> worker : workers) {
+          worker.get();
+        }
+        if (remainingSteps[0] > 0 && frameTimer.frameDue()) {
+          addHitsToCanvas(hitsPerThread, threads, value);
+          notifyCanvasChanged();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      stopWorkers(workers, cancelled);
+      clearHits(hitsPerThread, threads);
+      return;
+    } catch (ExecutionException e) {
+      stopWorkers(workers, cancelled);
+      clearHits(hitsPerThread, threads);
+      throw new IllegalStateException("Chaos game failed: " + e.getCause().getMessage());
+    }
+
+    addHitsToCanvas(hitsPerThread, threads, value);
+  }
+
+  /**
+   * Tells the given workers to stop after their current chunk of steps, and waits until they have
+   * stopped, so they no longer count hits when the counts are cleared. The pool of the game is kept
+   * between runs, so the workers are not stopped by shutting it down.
+   *
+   * @param workers   the workers of the current round.
+   * @param cancelled the flag the workers check between chunks.
+   */
+  private static void stopWorkers(List<ForkJoinTask<Void>> workers, AtomicBoolean cancelled) {
+    cancelled.set(true);
+    for (ForkJoinTask<Void> worker : workers) {
+      worker.quietlyJoin();
+    }
+  }
+
+  /**
+   * Resets the canvas, and the number of steps that have been run. The kept array of hit counts is
+   * released if it is larger than the new canvas.
+   *
+   * @param width  the width of the canvas.
+   * @param height the height of the canvas.
+   */
+  @Override
+  protected void resetCanvas(int width, int height) {
+    super.resetCanvas(width, height);
+    stepCount = 0;
+    if (hitBuffers.length > 0 && hitBuffers[0].length > width * height) {
+      hitBuffers = new int[0][];
+    }
+  }
+
+  /**
+   * Clears the canvas, and resets the number of steps that have been run.
+   */
+  @Override
+  public void clearCanvas() {
+    stepCount = 0;
+    super.clearCanvas();
+  }
+
+  /**
+   * Returns arrays of hit counts for at least the given number of threads, each with at least one
+   * entry per pixel. The arrays are reused by capacity like the pixels of {@link ChaosCanvas}
+   * during a run. Between runs only the array of the first thread is kept, see
+   * {@link #releaseHitBuffers()}. All counts are 0 between runs, also after the last pixel.
+   *
+   * @param threads the number of threads.
+   * @param pixels  the number of pixels of the canvas.
+   * @return the arrays of hit counts.
+   */
+  private int[][] getHitBuffers(int threads, int pixels) {
+    if (hitBuffers.length < threads) {
+      hitBuffers = Arrays.copyOf(hitBuffers, threads);
+    }
+    for (int i = 0; i < threads; i++) {
+      if (hitBuffers[i] == null || hitBuffers[i].length < pixels) {
+        hitBuffers[i] = new int[pixels];
+      }
+    }
+    return hitBuffers;
+  }
+
+  /**
+   * Releases the arrays of hit counts of all threads but the first after a parallel run. The array
+   * of the first thread is also used by single-thread runs in high dynamic range mode, so it is
+   * kept, while a game that is not running does not hold one array per thread.
+   */
+  private void releaseHitBuffers() {
+    if (hitBuffers.length > 1) {
+      hitBuffers = Arrays.copyOf(hitBuffers, 1);
+    }
+  }
+
+  /**
+   * Resets the counts of the given hits to 0 without adding them to the canvas.
+   *
+   * @param hitsPerThread the hits counted by each thread.
+   * @param threads       the number of threads that counted hits.
+   */
+  private void clearHits(int[][] hitsPerThread, int threads) {
+    int pixels = canvas.getWidth() * canvas.getHeight();
+    for (int i = 0; i < threads; i++) {
+      Arrays.fill(hitsPerThread[i], 0, pixels, 0);
+    }
+  }
+
+  /**
+   * Adds the hits counted by the threads to the canvas, and resets the counts to 0. In high
+   * dynamic range mode the hits are added as raw counts.
+   *
+   * @param hitsPerThread the hits counted by each thread.
+   * @param threads       the number of threads that counted hits.
+   * @param value         the value to add to the canvas for each hit.
+   */
+  private void addHitsToCanvas(int[][] hitsPerThread, int threads, int value) {
+    int pixels = canvas.getWidth() * canvas.getHeight();
+    for (int i = 0; i < threads; i++) {
+      int[] hits = hitsPerThread[i];
+      if (canvas.isHighDynamicRange()) {
+        canvas.addHitCounts(hits);
+      } else {
+        canvas.addHits(hits, value);
+      }
+      Arrays.fill(hits, 0, pixels, 0);
+    }
+  }
+
+  /**
+   * Keeps track of when the observers should be notified in progressive mode.
+   */
+  private static final class FrameTimer {
+
+    private final long frameInterval;
+    private long lastFrame;
+
+    /**
+     * Creates a timer for the given frame rate. The first frame is due at once.
+     *
+     * @param frameRate the number of frames per second, or 0 if progressive mode is off.
+     */
+    private FrameTimer(int frameRate) {
+      this.frameInterval = frameRate > 0 ? NANOS_PER_SECOND / frameRate : 0;
+      this.lastFrame = System.nanoTime() - frameInterval;
+    }
+
+    /**
+     * Returns true if progressive mode is on.
+     *
+     * @return true if progressive mode is on, false otherwise.
+     */
+    private boolean isEnabled() {
+      return frameInterval > 0;
+    }
+
+    /**
+     * Returns true if progressive mode is on and a frame is due. The next frame is due one frame
+     * interval later.
+     *
+     * @return true if a frame is due, false otherwise.
+     */
+    private boolean frameDue() {
+      if (!isEnabled()) {
+        return false;
+      }
+      long now = System.nanoTime();
+      if (now - lastFrame < frameInterval) {
+        return false;
+      }
+      lastFrame = now;
+      return true;
+    }
   }
 }
@@ -0,0 +1,225 @@
+package org.example.model.chaosgame;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import org.example.model.exceptions.MissingDataException;
+
+/**
+ * <h2>ChaosGameCheckpoint.</h2>
+ * <p>
+ * The state of a {@link ChaosGame} at one point of a render, which can be written to a file and
+ * read again to continue the render later, or in another process. A game that is resumed from a
+ * checkpoint gives the same canvas as a game that was never stopped, as long as it uses the same
+ * number of threads.
+ * </p>
+ * <p>
+ * All values are little-endian. The file starts with a header of {@value #HEADER_SIZE} bytes:
+ * </p>
+ * <ul>
+ *   <li>the magic number "CGCP" (4 bytes)</li>
+ *   <li>the version of the format, currently {@value #VERSION} (2 bytes)</li>
+ *   <li>flags (2 bytes), where bit 0 is set if the canvas holds raw hit counts</li>
+ *   <li>the width and the height of the canvas (2 ints)</li>
+ *   <li>the number of steps that have been run (long)</li>
+ *   <li>the current point of the orbit and the zoom (3 doubles)</li>
+ *   <li>the state of the random number generator (long)</li>
+ *   <li>the length of the description (int), and four unused bytes</li>
+ * </ul>
+ * <p>
+ * The header is followed by the description in the format of {@link BinaryDescriptionFile}, and
+ * then by the pixels of the canvas, one int per pixel, compressed with deflate. Most pixels of a
+ * chaos game are empty or saturated, so the compressed pixels are much smaller than the canvas.
+ * </p>
+ *
+ * @param description      the description of the game
+ * @param width            the width of the canvas
+ * @param height           the height of the canvas
+ * @param stepCount        the number of steps that have been run
+ * @param x0               the x-coordinate of the current point of the orbit
+ * @param x1               the y-coordinate of the current point of the orbit
+ * @param zoom             the zoom of the game
+ * @param randomState      the state of the random number generator of the game
+ * @param highDynamicRange whether the pixels are raw hit counts
+ * @param pixels           the pixels of the canvas, stored row by row
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+record ChaosGameCheckpoint(ChaosGameDescription description, int width, int height,
+    long stepCount, double x0, double x1, double zoom, long randomState, boolean highDynamicRange,
+    int[] pixels) {
+
+  static final int MAGIC = 0x50434743;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 64;
+
+  private static final int PIXEL_CHUNK = 1 << 14;
+  private static final int HIGH_DYNAMIC_RANGE_FLAG = 1;
+
+  /**
+   * Writes the checkpoint to the given file. The file is replaced if it exists. The checkpoint is
+   * first written to a temporary file in the same folder, which is forced to the disk and then
+   * moved over the file in one atomic step, so a process that dies while saving leaves the previous
+   * checkpoint as it was.
+   *
+   * @param path the path of the file
+   * @throws IllegalArgumentException if the description mixes affine and Julia transforms
+   * @throws IOException              if the file can not be written
+   */
+  void write(Path path) throws IOException {
+    ByteBuffer encodedDescription = BinaryDescriptionFile.encode(description);
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt(MAGIC)
+        .putShort((short) VERSION)
+        .putShort((short) (highDynamicRange ? HIGH_DYNAMIC_RANGE_FLAG : 0))
+        .putInt(width)
+        .putInt(height)
+        .putLong(stepCount)
+        .putDouble(x0)
+        .putDouble(x1)
+        .putDouble(zoom)
+        .putLong(randomState)
+        .putInt(encodedDescription.remaining())
+        .putInt(0);
+    header.flip();
+
+    Path target = path.toAbsolutePath();
+    Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(),
+        ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (header.hasRemaining()) {
+          channel.write(header);
+        }
+        while (encodedDescription.hasRemaining()) {
+          channel.write(encodedDescription);
+        }
+        writePixels(Channels.newOutputStream(channel));
+        channel.force(true);
+      }
+      try {
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /**
+   * Compresses the pixels to the given stream, a chunk of pixels at a time.
+   *
+   * @param stream the stream to write to
+   * @throws IOException if the pixels can not be written
+   */
+  private void writePixels(OutputStream stream) throws IOException {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      DeflaterOutputStream output = new DeflaterOutputStream(stream, deflater, 1 << 16);
+      ByteBuffer chunk = ByteBuffer.allocate(PIXEL_CHUNK * Integer.BYTES)
+          .order(ByteOrder.LITTLE_ENDIAN);
+      int count = width * height;
+      for (int start = 0; start < count; start += PIXEL_CHUNK) {
+        int length = Math.min(PIXEL_CHUNK, count - start);
+        chunk.clear();
+        chunk.asIntBuffer().put(pixels, start, length);
+        output.write(chunk.array(), 0, length * Integer.BYTES);
+      }
+      output.finish();
+      output.flush();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Reads a checkpoint from the given file.
+   *
+   * @param path the path of the file
+   * @return the checkpoint in the file
+   * @throws MissingDataException     if the file is shorter than its header says
+   * @throws IllegalArgumentException if the file is not a checkpoint, has an unsupported version,
+   *                                  or has invalid values
+   * @throws IOException              if the file can not be read
+   */
+  static ChaosGameCheckpoint read(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_SIZE) {
+        throw new MissingDataException("Checkpoint file is missing data");
+      }
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+      if (buffer.getInt(0) != MAGIC) {
+        throw new IllegalArgumentException("Not a checkpoint file");
+      }
+      if (buffer.getShort(4) != VERSION) {
+        throw new IllegalArgumentException("Unsupported checkpoint file version");
+      }
+      int width = buffer.getInt(8);
+      int height = buffer.getInt(12);
+      int descriptionLength = buffer.getInt(56);
+      if (width < 0 || height < 0 || (long) width * height > Integer.MAX_VALUE / Integer.BYTES) {
+        throw new IllegalArgumentException("Invalid canvas size");
+      }
+      if (descriptionLength < 0 || HEADER_SIZE + (long) descriptionLength > size) {
+        throw new MissingDataException("Checkpoint file is missing data");
+      }
+      ChaosGameDescription description = BinaryDescriptionFile.decode(
+          buffer.slice(HEADER_SIZE, descriptionLength).order(ByteOrder.LITTLE_ENDIAN));
+      int[] pixels = readPixels(buffer.slice(HEADER_SIZE + descriptionLength,
+          (int) (size - HEADER_SIZE - descriptionLength)), width * height);
+      return new ChaosGameCheckpoint(description, width, height, buffer.getLong(16),
+          buffer.getDouble(24), buffer.getDouble(32), buffer.getDouble(40), buffer.getLong(48),
+          (buffer.getShort(6) & HIGH_DYNAMIC_RANGE_FLAG) != 0, pixels);
+    }
+  }
+
+  /**
+   * Decompresses the given number of pixels.
+   *
+   * @param compressed the compressed pixels
+   * @param count      the number of pixels
+   * @return the pixels
+   * @throws MissingDataException     if there are fewer pixels than the canvas needs
+   * @throws IllegalArgumentException if the pixels are not valid deflate data
+   */
+  private static int[] readPixels(ByteBuffer compressed, int count) {
+    ByteBuffer bytes = ByteBuffer.allocate(count * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      while (bytes.hasRemaining() && !inflater.finished()) {
+        if (inflater.inflate(bytes) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+      }
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("Invalid canvas data in checkpoint file");
+    } finally {
+      inflater.end();
+    }
+    if (bytes.hasRemaining()) {
+      throw new MissingDataException("Checkpoint file is missing data");
+    }
+    int[] pixels = new int[count];
+    bytes.flip().asIntBuffer().get(pixels);
+    return pixels;
+  }
+}
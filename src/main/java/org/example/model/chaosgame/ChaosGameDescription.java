@@ -1,6 +1,7 @@
 package org.example.model.chaosgame;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,17 +18,38 @@ import org.example.model.transform.Transform2D;
  * maximum coordinates of the game, as well as a list of transforms that are used to generate the
  * game.
  * </p>
+ * <p>
+ * Each transform has a weight that decides how often it is selected. The description keeps a
+ * cumulative sum of the weights and an alias table (Vose's alias method), which are rebuilt when
+ * the weights change, so that selecting a transform does not depend on the number of transforms.
+ * </p>
  *
  * @version 1.0.0
  * @since 0.2.0
  */
 public class ChaosGameDescription {
 
+  private static final double MIN_SPAN_ULPS = 65536;
+  private static final double MAX_EXACT_INTEGER = 0x1p53;
+
   private final Vector2D minCoords;
   private final Vector2D maxCoords;
   List<Transform2D> transforms;
   List<Integer> weights;
   int weightSum;
+  private int[] cumulativeWeights;
+  private AliasTable aliasTable;
+
+  /**
+   * The alias table used to select transforms. The probabilities and aliases are kept together, so
+   * that a table is always read as a whole, even if the weights are changed at the same time.
+   *
+   * @param probabilities the probability of keeping each column of the table
+   * @param aliases       the index to use for each column when it is not kept
+   */
+  record AliasTable(double[] probabilities, int[] aliases) {
+
+  }
 
 
   /**
@@ -119,6 +141,19 @@ public class ChaosGameDescription {
     }
   }
 
+  /**
+   * Verifies that there is one weight per transform.
+   *
+   * @param weights the list of weights to verify.
+   * @throws IllegalArgumentException if the list of weights has a different size than the list of
+   *                                  transforms.
+   */
+  private void verifyWeightsMatchTransforms(List<Integer> weights) {
+    if (weights.size() != transforms.size()) {
+      throw new IllegalArgumentException("There must be one weight per transform");
+    }
+  }
+
   /**
    * Verifies that the given minimum and maximum coordinates are valid. Throws an
    * IllegalArgumentException if the given coordinates are not valid.
@@ -157,7 +192,7 @@ public class ChaosGameDescription {
     this.maxCoords = maxCoords;
     this.transforms = transforms;
     this.weights = new ArrayList<>(Collections.nCopies(transforms.size(), 1));
-    calculateWeightSum();
+    calculateSamplingTables();
 
   }
 
@@ -174,7 +209,7 @@ public class ChaosGameDescription {
     this.maxCoords = new Vector2D(description.maxCoords);
     this.transforms = description.getTransforms();
     this.weights = description.getWeights();
-    calculateWeightSum();
+    calculateSamplingTables();
   }
 
   /**
@@ -200,7 +235,7 @@ public class ChaosGameDescription {
     this.maxCoords = maxCoords;
     this.transforms = transforms;
     this.weights = weights;
-    calculateWeightSum();
+    calculateSamplingTables();
 
   }
 
@@ -317,21 +352,23 @@ public class ChaosGameDescription {
   public void setWeight(int index, int weight) {
     verifyWithinBounds(index, weights.size());
     weights.set(index, weight);
-    calculateWeightSum();
+    calculateSamplingTables();
   }
 
   /**
    * Sets the weights of the transforms, replacing the current list of weights. Throws an
-   * IllegalArgumentException if the list of weights is null, empty or contains null objects.
+   * IllegalArgumentException if the list of weights is null, empty, contains null objects, or does
+   * not have one weight per transform.
    *
    * @param weights the list of weights.
-   * @throws IllegalArgumentException if the list of weights is null, empty or contains null
-   *                                  objects.
+   * @throws IllegalArgumentException if the list of weights is null, empty, contains null objects,
+   *                                  or has a different size than the list of transforms.
    */
   public void setWeights(List<Integer> weights) {
     verifyWeightsNotNullAndNotEmpty(weights);
+    verifyWeightsMatchTransforms(weights);
     this.weights = weights;
-    calculateWeightSum();
+    calculateSamplingTables();
   }
 
   /**
@@ -353,10 +390,72 @@ public class ChaosGameDescription {
   }
 
   /**
-   * Recalculates the sum of the weights of all the transforms.
+   * Recalculates the sum of the weights, the cumulative sum of the weights, and the alias table
+   * used to select transforms. The alias table is only made if no weights are negative and the sum
+   * of the weights is positive.
    */
-  private void calculateWeightSum() {
-    weightSum = weights.stream().mapToInt(Integer::intValue).sum();
+  private void calculateSamplingTables() {
+    int count = weights.size();
+    int[] cumulative = new int[count];
+    boolean validWeights = true;
+    int sum = 0;
+    for (int i = 0; i < count; i++) {
+      int weight = weights.get(i);
+      validWeights &= weight >= 0;
+      sum += weight;
+      cumulative[i] = sum;
+    }
+    weightSum = sum;
+    cumulativeWeights = cumulative;
+    aliasTable = validWeights && sum > 0 ? createAliasTable(cumulative, sum) : null;
+  }
+
+  /**
+   * Creates an alias table from the given cumulative weights using Vose's alias method. Every
+   * column of the table has the same chance of being picked. A column is kept with its own
+   * probability, and otherwise replaced by its alias.
+   *
+   * @param cumulative the cumulative sum of the weights.
+   * @param sum        the sum of the weights.
+   * @return the alias table.
+   */
+  private static AliasTable createAliasTable(int[] cumulative, int sum) {
+    int count = cumulative.length;
+    double[] probabilities = new double[count];
+    int[] aliases = new int[count];
+    int[] small = new int[count];
+    int[] large = new int[count];
+    int smallCount = 0;
+    int largeCount = 0;
+
+    for (int i = 0; i < count; i++) {
+      int weight = cumulative[i] - (i == 0 ? 0 : cumulative[i - 1]);
+      probabilities[i] = (double) weight * count / sum;
+      aliases[i] = i;
+      if (probabilities[i] < 1.0) {
+        small[smallCount++] = i;
+      } else {
+        large[largeCount++] = i;
+      }
+    }
+    while (smallCount > 0 && largeCount > 0) {
+      int less = small[--smallCount];
+      int more = large[--largeCount];
+      aliases[less] = more;
+      probabilities[more] = probabilities[more] + probabilities[less] - 1.0;
+      if (probabilities[more] < 1.0) {
+        small[smallCount++] = more;
+      } else {
+        large[largeCount++] = more;
+      }
+    }
+    while (largeCount > 0) {
+      probabilities[large[--largeCount]] = 1.0;
+    }
+    while (smallCount > 0) {
+      probabilities[small[--smallCount]] = 1.0;
+    }
+    return new AliasTable(probabilities, aliases);
   }
 
   /**
@@ -368,11 +467,7 @@ public class ChaosGameDescription {
    */
   public int sumOfWeightsBelowIndex(int index) {
     verifyWithinBounds(index, weights.size() + 1);
-    int sum = 0;
-    for (int i = 0; i < index; i++) {
-      sum += getWeight(i);
-    }
-    return sum;
+    return index == 0 ? 0 : cumulativeWeights[index - 1];
   }
 
   /**
@@ -384,44 +479,151 @@ public class ChaosGameDescription {
    */
   public Transform2D getTransformWithWeight(int index) {
     verifyWithinBounds(index, weightSum);
-    for (int i = 0; i < transforms.size(); i++) {
-      if (index < sumOfWeightsBelowIndex(i + 1)) {
-        return transforms.get(i);
+    int[] cumulative = cumulativeWeights;
+    int transformIndex;
+    if (aliasTable != null) {
+      transformIndex = Arrays.binarySearch(cumulative, index + 1);
+      if (transformIndex < 0) {
+        transformIndex = -transformIndex - 1;
       }
+      while (transformIndex > 0 && cumulative[transformIndex - 1] > index) {
+        transformIndex--;
+      }
+    } else {
+      transformIndex = 0;
+      while (transformIndex < cumulative.length && index >= cumulative[transformIndex]) {
+        transformIndex++;
+      }
+    }
+    if (transformIndex >= transforms.size()) {
+      return null;
+    }
+    return transforms.get(transformIndex);
+  }
+
+  /**
+   * Returns the alias table used to select transforms, or null if the weights can not be used to
+   * select transforms. The table is replaced, never changed, when the weights change, so it can be
+   * kept by {@link ChaosGameKernel}.
+   *
+   * @return the alias table, or null if the weights are invalid.
+   */
+  AliasTable getAliasTable() {
+    return aliasTable;
+  }
+
+  /**
+   * Returns the index of a transform selected with the given uniformly distributed value, taking
+   * into account the weights of the transforms. Runs in constant time using the alias table, and
+   * does not create any objects.
+   *
+   * @param u a value from 0 up to, but not including, 1, for example from
+   *          {@link java.util.Random#nextDouble()}.
+   * @return the index of the selected transform.
+   * @throws IllegalArgumentException if the value is not between 0 and 1, or if the weights can
+   *                                  not be used to select transforms.
+   */
+  public int sampleTransformIndex(double u) {
+    AliasTable table = aliasTable;
+    if (table == null) {
+      throw new IllegalArgumentException("Invalid weights");
+    }
+    if (!(u >= 0 && u < 1)) {
+      throw new IllegalArgumentException("Value must be between 0 and 1");
     }
-    return null;
+    double[] probabilities = table.probabilities();
+    double scaled = u * probabilities.length;
+    int column = Math.min((int) scaled, probabilities.length - 1);
+    return scaled - column < probabilities[column] ? column : table.aliases()[column];
   }
 
   /**
-   * Returns a string representation of the ChaosGameDescription object.
+   * Returns a string representation of the ChaosGameDescription object. This is the format used
+   * when writing to file. If any transform has a weight other than 1, the weight of each transform
+   * is added as the last value on its line. Julia transforms are read back as pairs with opposite
+   * signs, so a pair is written as one line, with one weight if both signs have the same weight,
+   * and with the weight of the positive and then the negative sign otherwise.
    *
    * @return a string representation of the ChaosGameDescription object.
    */
   public String toString() {
-    return String.format("%s    #Transform type\n", getTransformType())
-        + String.format("%s    #minimum coordinates\n", minCoords)
-        + String.format("%s    #maximum coordinates\n", maxCoords)
-        + transforms.stream()
-        .map(transform -> transform.toString() + "    #transform\n")
-        .collect(Collectors.joining());
+    boolean weighted = weights.stream().anyMatch(weight -> weight != 1);
+    StringBuilder builder = new StringBuilder()
+        .append(String.format("%s    #Transform type\n", getTransformType()))
+        .append(String.format("%s    #minimum coordinates\n", minCoords))
+        .append(String.format("%s    #maximum coordinates\n", maxCoords));
+    for (int i = 0; i < transforms.size(); i++) {
+      builder.append(transforms.get(i));
+      if (isJuliaPair(i)) {
+        int positive = weights.get(i);
+        int negative = weights.get(i + 1);
+        if (positive != negative) {
+          builder.append(", ").append(positive).append(", ").append(negative);
+        } else if (weighted) {
+          builder.append(", ").append(positive);
+        }
+        i++;
+      } else if (weighted) {
+        builder.append(", ").append(weights.get(i));
+      }
+      builder.append("    #transform\n");
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Returns whether the transform at the given index and the next one are Julia transforms with the
+   * same point, the first with a positive and the second with a negative sign.
+   *
+   * @param index the index of the first transform.
+   * @return true if the transforms are a Julia pair, false otherwise.
+   */
+  private boolean isJuliaPair(int index) {
+    return index + 1 < transforms.size()
+        && transforms.get(index) instanceof JuliaTransform positive
+        && transforms.get(index + 1) instanceof JuliaTransform negative
+        && positive.getSign() > 0 && negative.getSign() < 0
+        && positive.getPoint().equals(negative.getPoint());
   }
 
   /**
    * Changes the zoom of the description by multiplying the minimum and maximum coordinates by the
-   * given multiplier.
+   * given multiplier. The points of an affine chaos game are doubles, so the view is not zoomed in
+   * further when its width or height would be less than {@value #MIN_SPAN_ULPS} units in the last
+   * place of its coordinates, where the points would only land on a few columns of the canvas.
    *
    * @param multiplier the multiplier to use.
+   * @return true if the zoom was changed, false if the view would be too small
    */
-  public void changeZoom(double multiplier) {
+  public boolean changeZoom(double multiplier) {
     double xdiff = maxCoords.getX0() - minCoords.getX0();
     double ydiff = maxCoords.getX1() - minCoords.getX1();
     Vector2D newDiff = new Vector2D(xdiff * multiplier, ydiff * multiplier);
+    if (multiplier < 0 && (isBelowDoubleResolution(xdiff + newDiff.getX0(), minCoords.getX0(),
+        maxCoords.getX0()) || isBelowDoubleResolution(ydiff + newDiff.getX1(),
+        minCoords.getX1(), maxCoords.getX1()))) {
+      return false;
+    }
 
     minCoords.setX0(minCoords.getX0() - newDiff.getX0() / 2);
     minCoords.setX1(minCoords.getX1() - newDiff.getX1() / 2);
     maxCoords.setX0(maxCoords.getX0() + newDiff.getX0() / 2);
     maxCoords.setX1(maxCoords.getX1() + newDiff.getX1() / 2);
+    return true;
+  }
 
+  /**
+   * Returns whether the given width or height of the view is too small to be told apart from its
+   * coordinates with doubles.
+   *
+   * @param span the width or height of the view
+   * @param min  the minimum coordinate of the view along the same axis
+   * @param max  the maximum coordinate of the view along the same axis
+   * @return true if the span is too small, false otherwise
+   */
+  private static boolean isBelowDoubleResolution(double span, double min, double max) {
+    double largest = Math.max(Math.abs(min), Math.abs(max));
+    return !(span >= MIN_SPAN_ULPS * Math.ulp(largest));
   }
 
   /**
@@ -442,11 +644,20 @@ public class ChaosGameDescription {
   }
 
   /**
-   * Rounds the coordinates to 4 decimals.
+   * Rounds the coordinates to 5 decimals, or to 5 significant digits of the width or height of the
+   * view when it is smaller than 1, so a zoomed in view does not collapse. The coordinates are not
+   * rounded when they have fewer digits than that.
    */
   private void roundCoords() {
-    int amountOfDecimals = 5;
-    int multiplier = (int) Math.pow(10, amountOfDecimals);
+    double span = Math.min(maxCoords.getX0() - minCoords.getX0(),
+        maxCoords.getX1() - minCoords.getX1());
+    double amountOfDecimals = 5 + Math.max(0, -Math.floor(Math.log10(span)));
+    double multiplier = Math.pow(10, amountOfDecimals);
+    double largest = Math.max(Math.max(Math.abs(minCoords.getX0()), Math.abs(minCoords.getX1())),
+        Math.max(Math.abs(maxCoords.getX0()), Math.abs(maxCoords.getX1())));
+    if (!(largest * multiplier < MAX_EXACT_INTEGER)) {
+      return;
+    }
     minCoords.setX0((double) Math.round(minCoords.getX0() * multiplier) / multiplier);
     minCoords.setX1((double) Math.round(minCoords.getX1() * multiplier) / multiplier);
     maxCoords.setX0((double) Math.round(maxCoords.getX0() * multiplier) / multiplier);
@@ -4,17 +4,11 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Scanner;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import org.example.model.exceptions.DescriptionFileEmptyException;
 import org.example.model.exceptions.MissingDataException;
-import org.example.model.math.Complex;
-import org.example.model.math.Matrix2x2;
-import org.example.model.math.Vector2D;
-import org.example.model.transform.AffineTransform2D;
-import org.example.model.transform.JuliaTransform;
-import org.example.model.transform.Transform2D;
 
 /**
  * <h2>ChaosGameFileHandler.</h2>
@@ -23,7 +17,15 @@ import org.example.model.transform.Transform2D;
  * </p>
  * <p>
  * The file handler can read descriptions from txt files, and throw exceptions if the file is not
- * found or if the file is not formatted correctly.
+ * found or if the file is not formatted correctly. Files are read with a
+ * {@link DescriptionFileReader}, which parses the values directly from the bytes of the file.
+ * The weights of the transforms are written as an extra value on each transform line when they are
+ * not all 1, and lines without a weight are read with a weight of 1.
+ * </p>
+ * <p>
+ * Descriptions can also be stored in the binary format of {@link BinaryDescriptionFile}, which is
+ * used when writing to a path with the cgb extension. Binary files are recognised by their magic
+ * number when reading, whatever their name.
  * </p>
  *
  * @version 1.0.0
@@ -37,33 +39,6 @@ public class ChaosGameFileHandler {
   public ChaosGameFileHandler() {
   }
 
-  /**
-   * Verifies that the given transform type is valid.
-   *
-   * @param transformType is the transform type to use.
-   * @throws IllegalArgumentException if the given transform type is invalid.
-   */
-  private void verifyValidTransformType(String transformType) {
-    if (!transformType.contains("Affine") && !transformType.contains("Julia")) {
-      throw new MissingDataException("Invalid transform type");
-    }
-  }
-
-  /**
-   * Verifies that the given string is a double and if true it returns parsed double.
-   *
-   * @param value is the string to verify.
-   * @return the double value of the string.
-   * @throws IllegalArgumentException if the given string is not a double.
-   */
-  private double verifyDouble(String value) {
-    try {
-      return Double.parseDouble(value);
-    } catch (NumberFormatException e) {
-      throw new IllegalArgumentException("Non-double value found in the file");
-    }
-  }
-
   /**
    * Verifies that a file exists.
    *
@@ -77,14 +52,15 @@ public class ChaosGameFileHandler {
   }
 
   /**
-   * Makes a valid path to a file.
+   * Makes a valid path to a file. Paths without the txt or the binary extension get the txt
+   * extension.
    *
    * @param path is the path to the file.
    * @return a valid path to the file.
    * @throws IllegalArgumentException if the file is not found.
    */
   private String makeValidPath(String path) {
-    if (!path.contains(".txt")) {
+    if (!path.contains(".txt") && !path.endsWith(BinaryDescriptionFile.EXTENSION)) {
       path += ".txt";
     }
     return path;
@@ -116,107 +92,23 @@ public class ChaosGameFileHandler {
 
 
   /**
-   * Removes comments from the given string. Comments in the string are everything after #
-   *
-   * @param str the given string
-   * @return the string with comments removed
-   */
-  private String removeCommentsFromString(String str) {
-    if (str.contains("#")) {
-      return str.split("#")[0].trim();
-    } else {
-      return str;
-    }
-  }
-
-
-  /**
-   * Reads a chaos game description from a file.
+   * Reads a chaos game description from a text or binary file.
    *
    * @param path is the path to the file.
    * @return a ChaosGameDescription object.
-   * @throws IllegalArgumentException if the file is not found, or if the file is not formatted
-   *                                  correctly.
+   * @throws IllegalArgumentException      if the file is not found, or if the file contains values
+   *                                       that are not numbers.
+   * @throws MissingDataException          if the file is missing data.
+   * @throws DescriptionFileEmptyException if the file is empty.
    */
   public ChaosGameDescription readFromFile(String path) {
     path = makeValidPath(path);
     verifyValidPath(path);
-    try (Scanner scanner = new Scanner(new File(path))) {
-      if (!scanner.hasNextLine()) {
-        throw new DescriptionFileEmptyException("Description file is empty");
-      }
-      String transformType = removeCommentsFromString(scanner.nextLine());
-      verifyValidTransformType(transformType);
-
-      if (!scanner.hasNextLine()) {
-        throw new MissingDataException("Description file is missing data");
-      }
-      String[] minCoords = removeCommentsFromString(scanner.nextLine()).split(",");
-      if (minCoords.length != 2) {
-        throw new MissingDataException(
-            "Description file is missing coordinate data, and cannot be used to create a "
-                + "ChaosGameDescription.");
+    try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+      if (BinaryDescriptionFile.isBinaryFile(channel)) {
+        return new BinaryDescriptionFile().read(channel);
       }
-      if (!scanner.hasNextLine()) {
-        throw new MissingDataException("Description file is missing data");
-      }
-      String[] maxCoords = removeCommentsFromString(scanner.nextLine()).split(",");
-      if (maxCoords.length != 2) {
-        throw new MissingDataException(
-            "Description file is missing coordinate data, and cannot be used to create a "
-                + "ChaosGameDescription.");
-      }
-
-      List<Transform2D> transforms = new ArrayList<>();
-
-      while (scanner.hasNextLine()) {
-        String nextLine = removeCommentsFromString(scanner.nextLine());
-        if (nextLine.isEmpty()) {
-          continue;
-        }
-
-        String[] transform = nextLine.split(",");
-
-        if (transformType.contains("Affine")) {
-          if (transform.length != 6) {
-            throw new MissingDataException("Invalid transform data");
-          }
-          Matrix2x2 matrix = new Matrix2x2(verifyDouble(transform[0]),
-              verifyDouble(transform[1]), verifyDouble(transform[2]),
-              verifyDouble(transform[3]));
-
-          Vector2D vector = new Vector2D(verifyDouble(transform[4]),
-              verifyDouble(transform[5]));
-
-          transforms.add(new AffineTransform2D(matrix, vector));
-
-        } else if (transformType.contains("Julia")) {
-          if (transform.length != 2) {
-            throw new MissingDataException("Invalid transform data");
-          }
-          double real = verifyDouble(transform[0]);
-          double imaginary = verifyDouble(transform[1]);
-          Complex complex = new Complex(real, imaginary);
-          transforms.add(new JuliaTransform(complex, 1));
-          transforms.add(new JuliaTransform(complex, -1));
-        }
-      }
-      if (transforms.isEmpty()) {
-        throw new MissingDataException(
-            "Description file is missing transform data, and cannot be used to create a "
-                + "ChaosGameDescription.");
-      }
-      Vector2D minCoordsVector = new Vector2D(verifyDouble(minCoords[0]),
-          verifyDouble(minCoords[1]));
-      Vector2D maxCoordsVector = new Vector2D(verifyDouble(maxCoords[0]),
-          verifyDouble(maxCoords[1]));
-
-      return new ChaosGameDescription(minCoordsVector, maxCoordsVector, transforms);
-
-    } catch (MissingDataException e) {
-      throw new MissingDataException(e.getMessage());
-    } catch (DescriptionFileEmptyException e) {
-      throw new DescriptionFileEmptyException(e.getMessage());
+      return new DescriptionFileReader().read(channel);
     } catch (IOException e) {
       throw new IllegalArgumentException(e.getMessage());
     }
@@ -224,7 +116,8 @@ public class ChaosGameFileHandler {
 
 
   /**
-   * Writes a chaos game description to a file.
+   * Writes a chaos game description to a file. Paths with the cgb extension are written in the
+   * binary format, and other paths as text.
    *
    * @param description is the ChaosGameDescription object to write.
    * @param path        is the path to the file.
@@ -233,6 +126,10 @@ public class ChaosGameFileHandler {
   public void writeToFile(ChaosGameDescription description, String path) throws IOException {
     path = makeValidPath(path);
     verifyNotNullDescription(description);
+    if (path.endsWith(BinaryDescriptionFile.EXTENSION)) {
+      new BinaryDescriptionFile().write(description, Path.of(path));
+      return;
+    }
     try (BufferedWriter writer = new BufferedWriter(new FileWriter(path))) {
       writer.write(description.toString());
     } catch (IOException e) {
@@ -0,0 +1,225 @@
+package org.example.model.chaosgame;
+
+import java.util.List;
+import java.util.Random;
+import org.example.model.math.Complex;
+import org.example.model.math.Vector2D;
+import org.example.model.transform.AffineTransform2D;
+import org.example.model.transform.JuliaTransform;
+import org.example.model.transform.Transform2D;
+
+/**
+ * <h2>ChaosGameKernel.</h2>
+ * <p>
+ * A class that runs the iterations of the chaos game on primitive values. The transforms of a
+ * description are compiled into an array of coefficients when the kernel is created, and the
+ * current point is kept as two doubles, so running the kernel does not create any objects.
+ * </p>
+ * <p>
+ * Affine transforms are stored as six coefficients each, (a00, a01, a10, a11, b0, b1), and Julia
+ * transforms as three, (real, imaginary, sign). The results are the same as when using the
+ * transform classes directly. Transforms are selected in the same way as
+ * {@link ChaosGameDescription#sampleTransformIndex(double)}, from a copy of the alias table of the
+ * description, so changing the weights of the description afterwards does not affect the kernel.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class ChaosGameKernel {
+
+  private static final int AFFINE_COEFFICIENTS = 6;
+  private static final int JULIA_COEFFICIENTS = 3;
+
+  private final boolean julia;
+  private final double[] coefficients;
+  private final double[] probabilities;
+  private final int[] aliases;
+
+  private double x0;
+  private double x1;
+
+  /**
+   * Verifies that the given description is not null.
+   *
+   * @param description the description to verify
+   * @throws IllegalArgumentException if the given description is null
+   */
+  private void verifyNotNullDescription(ChaosGameDescription description) {
+    if (description == null) {
+      throw new IllegalArgumentException("Description cannot be null");
+    }
+  }
+
+  /**
+   * Verifies that the weights can be used to select transforms. There has to be one weight per
+   * transform, the weights can not be negative, and their sum has to be positive.
+   *
+   * @param weights the weights to verify
+   * @param count   the number of transforms
+   * @throws IllegalArgumentException if the weights are invalid
+   */
+  private void verifyValidWeights(List<Integer> weights, int count) {
+    if (weights.size() != count) {
+      throw new IllegalArgumentException("Invalid description");
+    }
+    long sum = 0;
+    for (int i = 0; i < count; i++) {
+      if (weights.get(i) < 0) {
+        throw new IllegalArgumentException("Invalid description");
+      }
+      sum += weights.get(i);
+    }
+    if (sum <= 0 || sum > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid description");
+    }
+  }
+
+  /**
+   * Constructs a new kernel from the transforms and weights of the given description. The current
+   * point starts at (0, 0).
+   *
+   * @param description the description to compile
+   * @throws IllegalArgumentException if the given description is null, contains transforms that
+   *                                  are not supported, or has invalid weights
+   */
+  public ChaosGameKernel(ChaosGameDescription description) {
+    verifyNotNullDescription(description);
+    List<Transform2D> transforms = description.getTransforms();
+    List<Integer> weights = description.getWeights();
+    int count = transforms.size();
+    verifyValidWeights(weights, count);
+
+    ChaosGameDescription.AliasTable table = description.getAliasTable();
+    if (table == null || table.probabilities().length != count) {
+      throw new IllegalArgumentException("Invalid description");
+    }
+    this.probabilities = table.probabilities().clone();
+    this.aliases = table.aliases().clone();
+    this.julia = transforms.get(0) instanceof JuliaTransform;
+    this.coefficients = new double[count * (julia ? JULIA_COEFFICIENTS : AFFINE_COEFFICIENTS)];
+
+    for (int i = 0; i < count; i++) {
+      Transform2D transform = transforms.get(i);
+      if (julia && transform instanceof JuliaTransform juliaTransform) {
+        Complex point = juliaTransform.getPoint();
+        int offset = i * JULIA_COEFFICIENTS;
+        coefficients[offset] = point.getReal();
+        coefficients[offset + 1] = point.getImaginary();
+        coefficients[offset + 2] = juliaTransform.getSign();
+      } else if (!julia && transform instanceof AffineTransform2D affineTransform) {
+        double[] matrix = affineTransform.getMatrix().getValues();
+        Vector2D vector = affineTransform.getVector();
+        int offset = i * AFFINE_COEFFICIENTS;
+        System.arraycopy(matrix, 0, coefficients, offset, matrix.length);
+        coefficients[offset + 4] = vector.getX0();
+        coefficients[offset + 5] = vector.getX1();
+      } else {
+        throw new IllegalArgumentException("Invalid description");
+      }
+    }
+  }
+
+  /**
+   * Sets the current point of the kernel.
+   *
+   * @param x0 the x0 value of the point
+   * @param x1 the x1 value of the point
+   */
+  public void setPoint(double x0, double x1) {
+    this.x0 = x0;
+    this.x1 = x1;
+  }
+
+  /**
+   * Returns the x0 value of the current point.
+   *
+   * @return the x0 value of the current point
+   */
+  public double getX0() {
+    return x0;
+  }
+
+  /**
+   * Returns the x1 value of the current point.
+   *
+   * @return the x1 value of the current point
+   */
+  public double getX1() {
+    return x1;
+  }
+
+  /**
+   * Transforms the current point with the transform at the given index.
+   *
+   * @param transformIndex the index of the transform to use
+   */
+  public void step(int transformIndex) {
+    if (julia) {
+      int offset = transformIndex * JULIA_COEFFICIENTS;
+      double real = x0 - coefficients[offset];
+      double imaginary = x1 - coefficients[offset + 1];
+      double sign = coefficients[offset + 2];
+      double r = Math.sqrt(real * real + imaginary * imaginary);
+      x0 = Math.sqrt((r + real) / 2) * sign;
+      x1 = Math.sqrt((r - real) / 2) * Math.signum(imaginary) * sign;
+    } else {
+      int offset = transformIndex * AFFINE_COEFFICIENTS;
+      double newX0 = coefficients[offset] * x0 + coefficients[offset + 1] * x1
+          + coefficients[offset + 4];
+      double newX1 = coefficients[offset + 2] * x0 + coefficients[offset + 3] * x1
+          + coefficients[offset + 5];
+      x0 = newX0;
+      x1 = newX1;
+    }
+  }
+
+  /**
+   * Returns the index of a transform selected with the given uniformly distributed value, from the
+   * alias table of the kernel.
+   *
+   * @param u a value from 0 up to, but not including, 1
+   * @return the index of the selected transform
+   */
+  private int sampleTransformIndex(double u) {
+    double scaled = u * probabilities.length;
+    int column = Math.min((int) scaled, probabilities.length - 1);
+    return scaled - column < probabilities[column] ? column : aliases[column];
+  }
+
+  /**
+   * Runs the given number of steps. Each step selects a random transform based on the weights,
+   * transforms the current point, and adds the given value to the canvas at the new point.
+   *
+   * @param steps  the number of steps to run
+   * @param random the random number generator to select transforms with
+   * @param canvas the canvas to draw on
+   * @param value  the value to add to the canvas for each point
+   */
+  public void run(int steps, Random random, ChaosCanvas canvas, int value) {
+    for (int i = 0; i < steps; i++) {
+      step(sampleTransformIndex(random.nextDouble()));
+      canvas.addToPixel(x0, x1, value);
+    }
+  }
+
+  /**
+   * Runs the given number of steps like {@link #run(int, Random, ChaosCanvas, int)}, but counts
+   * the hits in the given array instead of drawing on the canvas. The canvas is only used to find
+   * the index of each point, so several kernels can count hits for the same canvas at once.
+   *
+   * @param steps  the number of steps to run
+   * @param random the random number generator to select transforms with
+   * @param canvas the canvas to find the pixel indices with
+   * @param hits   the array to count the hits in, with one entry per pixel of the canvas
+   */
+  public void count(int steps, Random random, ChaosCanvas canvas, int[] hits) {
+    for (int i = 0; i < steps; i++) {
+      step(sampleTransformIndex(random.nextDouble()));
+      int index = canvas.indexOf(x0, x1);
+      if (index >= 0) {
+        hits[index]++;
+      }
+    }
+  }
+}
@@ -0,0 +1,556 @@
+package org.example.model.chaosgame;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.example.model.exceptions.DescriptionFileEmptyException;
+import org.example.model.exceptions.MissingDataException;
+import org.example.model.math.Complex;
+import org.example.model.math.Matrix2x2;
+import org.example.model.math.Vector2D;
+import org.example.model.transform.AffineTransform2D;
+import org.example.model.transform.JuliaTransform;
+import org.example.model.transform.Transform2D;
+
+/**
+ * <h2>DescriptionFileReader.</h2>
+ * <p>
+ * Reads chaos game descriptions from txt files for {@link ChaosGameFileHandler}. The file is read
+ * through a {@link FileChannel} into a buffer, and the lines are split into values directly in
+ * the buffer, without creating strings for the lines or the values.
+ * </p>
+ * <p>
+ * Plain decimal numbers with up to 19 significant digits are parsed without
+ * {@link Double#parseDouble(String)}, with the same result. Small numbers with a small exponent
+ * are exact as doubles, and are calculated with a single multiplication or division (Clinger's
+ * fast path). Other numbers are calculated by multiplying the digits with a 128-bit approximation
+ * of the power of ten, which is enough to round correctly in almost all cases (the Eisel-Lemire
+ * algorithm). The rare cases it can not decide, and values like hexadecimal numbers, NaN or
+ * numbers with more digits, are parsed with {@link Double#parseDouble(String)}.
+ * </p>
+ * <p>
+ * The files are read the same way as before: everything after # on a line is a comment, and the
+ * rest of the line is then trimmed. Values are separated by commas, empty values at the end of a
+ * line are ignored, and empty lines between the transforms are skipped. Lines end with \n, \r\n or
+ * \r.
+ * </p>
+ * <p>
+ * A transform line can have the weight of the transform as an extra value at the end. Lines
+ * without a weight get a weight of 1, so files written before weights were saved are read the same
+ * way as before. A Julia line can also have two weights, one for each sign.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+class DescriptionFileReader {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final int MAX_FAST_DIGITS = 19;
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+  private static final double[] POWERS_OF_TEN = {
+      1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+      1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  private static final int SMALLEST_POWER_OF_FIVE = -342;
+  private static final int LARGEST_POWER_OF_FIVE = 308;
+  private static final long[] POWERS_OF_FIVE = createPowersOfFive();
+
+  private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private int[] fieldBounds = new int[16];
+  private int lineCount;
+  private String transformType;
+  private String[] minCoords;
+  private String[] maxCoords;
+  private final List<Transform2D> transforms = new ArrayList<>();
+  private final List<Integer> weights = new ArrayList<>();
+
+  /**
+   * Reads the description in the given file. A reader can only be used once.
+   *
+   * @param channel the channel of the file, positioned at the start
+   * @return the description in the file
+   * @throws DescriptionFileEmptyException if the file is empty
+   * @throws MissingDataException          if the file is missing data
+   * @throws IllegalArgumentException      if the file contains values that are not numbers
+   * @throws IOException                   if the file can not be read
+   */
+  ChaosGameDescription read(FileChannel channel) throws IOException {
+    readLines(channel);
+    if (lineCount == 0) {
+      throw new DescriptionFileEmptyException("Description file is empty");
+    }
+    if (lineCount < 3) {
+      throw new MissingDataException("Description file is missing data");
+    }
+    if (transforms.isEmpty()) {
+      throw new MissingDataException(
+          "Description file is missing transform data, and cannot be used to create a "
+              + "ChaosGameDescription.");
+    }
+    Vector2D minCoordsVector = new Vector2D(parseDouble(minCoords[0]),
+        parseDouble(minCoords[1]));
+    Vector2D maxCoordsVector = new Vector2D(parseDouble(maxCoords[0]),
+        parseDouble(maxCoords[1]));
+    return new ChaosGameDescription(minCoordsVector, maxCoordsVector, transforms, weights);
+  }
+
+  /**
+   * Reads the file one buffer at a time, and handles every complete line in the buffer. A line
+   * that does not fit in the buffer is moved to the start of it, and the buffer is made larger if
+   * the line is longer than the buffer.
+   *
+   * @param channel the channel to read from
+   * @throws IOException if the file can not be read
+   */
+  private void readLines(FileChannel channel) throws IOException {
+    boolean skipLineFeed = false;
+    boolean endOfFile = false;
+    while (!endOfFile) {
+      endOfFile = channel.read(buffer) < 0;
+      byte[] bytes = buffer.array();
+      int limit = buffer.position();
+      int start = 0;
+      if (skipLineFeed && limit > 0) {
+        if (bytes[0] == '\n') {
+          start = 1;
+        }
+        skipLineFeed = false;
+      }
+      for (int i = start; i < limit; i++) {
+        byte b = bytes[i];
+        if (b == '\n' || b == '\r') {
+          handleLine(bytes, start, i);
+          if (b == '\r') {
+            if (i + 1 == limit) {
+              skipLineFeed = true;
+            } else if (bytes[i + 1] == '\n') {
+              i++;
+            }
+          }
+          start = i + 1;
+        }
+      }
+      if (endOfFile) {
+        if (start < limit) {
+          handleLine(bytes, start, limit);
+        }
+      } else {
+        keepUnfinishedLine(start, limit);
+      }
+    }
+  }
+
+  /**
+   * Moves the bytes of the line that has not ended to the start of the buffer, and makes the
+   * buffer larger if the line fills it.
+   *
+   * @param start the start of the line
+   * @param limit the end of the data in the buffer
+   */
+  private void keepUnfinishedLine(int start, int limit) {
+    int remaining = limit - start;
+    if (start == 0 && remaining == buffer.capacity()) {
+      buffer = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.capacity() * 2));
+    } else {
+      System.arraycopy(buffer.array(), start, buffer.array(), 0, remaining);
+    }
+    buffer.position(remaining);
+    buffer.limit(buffer.capacity());
+  }
+
+  /**
+   * Handles one line of the file. The first line is the transform type, the next two lines are
+   * the coordinates, and the other lines are transforms.
+   *
+   * @param bytes the bytes of the file
+   * @param start the start of the line
+   * @param end   the end of the line, not including the line break
+   */
+  private void handleLine(byte[] bytes, int start, int end) {
+    int comment = indexOf(bytes, start, end, (byte) '#');
+    if (comment >= 0) {
+      end = comment;
+      while (start < end && isWhitespace(bytes[start])) {
+        start++;
+      }
+      while (end > start && isWhitespace(bytes[end - 1])) {
+        end--;
+      }
+    }
+    int line = lineCount++;
+    if (line == 0) {
+      transformType = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+      if (!transformType.contains("Affine") && !transformType.contains("Julia")) {
+        throw new MissingDataException("Invalid transform type");
+      }
+    } else if (line <= 2) {
+      String[] coords = readCoords(bytes, start, end);
+      if (line == 1) {
+        minCoords = coords;
+      } else {
+        maxCoords = coords;
+      }
+    } else if (start < end) {
+      readTransform(bytes, start, end);
+    }
+  }
+
+  /**
+   * Reads the two values of a line of coordinates as strings. The values are parsed after the
+   * transforms have been read.
+   *
+   * @param bytes the bytes of the file
+   * @param start the start of the line
+   * @param end   the end of the line
+   * @return the two values
+   * @throws MissingDataException if the line does not have two values
+   */
+  private String[] readCoords(byte[] bytes, int start, int end) {
+    if (splitFields(bytes, start, end) != 2) {
+      throw new MissingDataException(
+          "Description file is missing coordinate data, and cannot be used to create a "
+              + "ChaosGameDescription.");
+    }
+    String[] coords = new String[2];
+    for (int i = 0; i < 2; i++) {
+      int fieldStart = fieldBounds[2 * i];
+      coords[i] = new String(bytes, fieldStart, fieldBounds[2 * i + 1] - fieldStart,
+          StandardCharsets.UTF_8);
+    }
+    return coords;
+  }
+
+  /**
+   * Reads a transform from a line. Affine transforms have six values, and Julia transforms have
+   * two values, which are added as two transforms with opposite signs. Both can be followed by a
+   * weight, which is 1 if it is left out. Julia lines can instead be followed by two weights, for
+   * the positive and the negative sign.
+   *
+   * @param bytes the bytes of the file
+   * @param start the start of the line
+   * @param end   the end of the line
+   * @throws MissingDataException     if the line has the wrong number of values
+   * @throws IllegalArgumentException if a value is not a number
+   */
+  private void readTransform(byte[] bytes, int start, int end) {
+    int fields = splitFields(bytes, start, end);
+    if (transformType.contains("Affine")) {
+      if (fields != 6 && fields != 7) {
+        throw new MissingDataException("Invalid transform data");
+      }
+      Matrix2x2 matrix = new Matrix2x2(parseField(bytes, 0), parseField(bytes, 1),
+          parseField(bytes, 2), parseField(bytes, 3));
+      Vector2D vector = new Vector2D(parseField(bytes, 4), parseField(bytes, 5));
+      transforms.add(new AffineTransform2D(matrix, vector));
+      weights.add(fields == 7 ? parseWeight(bytes, 6) : 1);
+    } else {
+      if (fields < 2 || fields > 4) {
+        throw new MissingDataException("Invalid transform data");
+      }
+      Complex complex = new Complex(parseField(bytes, 0), parseField(bytes, 1));
+      int weight = fields >= 3 ? parseWeight(bytes, 2) : 1;
+      transforms.add(new JuliaTransform(complex, 1));
+      transforms.add(new JuliaTransform(complex, -1));
+      weights.add(weight);
+      weights.add(fields == 4 ? parseWeight(bytes, 3) : weight);
+    }
+  }
+
+  /**
+   * Splits a line at the commas, and stores the start and end of each value in the field bounds.
+   * Empty values at the end of the line are ignored, like with {@link String#split(String)}, and
+   * an empty line has one empty value.
+   *
+   * @param bytes the bytes of the file
+   * @param start the start of the line
+   * @param end   the end of the line
+   * @return the number of values
+   */
+  private int splitFields(byte[] bytes, int start, int end) {
+    int count = 0;
+    int fieldStart = start;
+    for (int i = start; i <= end; i++) {
+      if (i == end || bytes[i] == ',') {
+        if (2 * count + 2 > fieldBounds.length) {
+          fieldBounds = Arrays.copyOf(fieldBounds, fieldBounds.length * 2);
+        }
+        fieldBounds[2 * count] = fieldStart;
+        fieldBounds[2 * count + 1] = i;
+        count++;
+        fieldStart = i + 1;
+      }
+    }
+    if (start == end) {
+      return 1;
+    }
+    while (count > 0 && fieldBounds[2 * count - 2] == fieldBounds[2 * count - 1]) {
+      count--;
+    }
+    return count;
+  }
+
+  /**
+   * Parses the value with the given index from the last line that was split.
+   *
+   * @param bytes the bytes of the file
+   * @param field the index of the value
+   * @return the value
+   * @throws IllegalArgumentException if the value is not a number
+   */
+  private double parseField(byte[] bytes, int field) {
+    return parseDouble(bytes, fieldBounds[2 * field], fieldBounds[2 * field + 1]);
+  }
+
+  /**
+   * Parses the weight with the given index from the last line that was split. Weights are
+   * non-negative whole numbers.
+   *
+   * @param bytes the bytes of the file
+   * @param field the index of the weight
+   * @return the weight
+   * @throws IllegalArgumentException if the weight is not a non-negative whole number
+   */
+  private int parseWeight(byte[] bytes, int field) {
+    int start = fieldBounds[2 * field];
+    int end = fieldBounds[2 * field + 1];
+    while (start < end && isWhitespace(bytes[start])) {
+      start++;
+    }
+    while (end > start && isWhitespace(bytes[end - 1])) {
+      end--;
+    }
+    if (start == end || end - start > 9) {
+      throw new IllegalArgumentException("Invalid weight found in the file");
+    }
+    int weight = 0;
+    for (int i = start; i < end; i++) {
+      int digit = bytes[i] - '0';
+      if (digit < 0 || digit > 9) {
+        throw new IllegalArgumentException("Invalid weight found in the file");
+      }
+      weight = weight * 10 + digit;
+    }
+    return weight;
+  }
+
+  /**
+   * Parses a value that was stored as a string.
+   *
+   * @param value the value to parse
+   * @return the value as a double
+   * @throws IllegalArgumentException if the value is not a number
+   */
+  private static double parseDouble(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    return parseDouble(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Creates the 128-bit approximations of the powers of five from 5^-342 to 5^308, as pairs of
+   * longs with the high bits first. Each value is shifted so its highest bit is set. Positive
+   * powers are truncated, and negative powers are rounded up.
+   *
+   * @return the powers of five
+   */
+  private static long[] createPowersOfFive() {
+    long[] powers = new long[2 * (LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1)];
+    BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+    for (int q = SMALLEST_POWER_OF_FIVE; q <= LARGEST_POWER_OF_FIVE; q++) {
+      BigInteger power = BigInteger.valueOf(5).pow(Math.abs(q));
+      BigInteger value;
+      if (q >= 0) {
+        int shift = power.bitLength() - 128;
+        value = shift > 0 ? power.shiftRight(shift) : power.shiftLeft(-shift);
+      } else {
+        int bits = power.bitLength();
+        int exponent = q >= -27 ? bits + 127 : 2 * bits + 128;
+        value = BigInteger.ONE.shiftLeft(exponent).divide(power).add(BigInteger.ONE);
+        if (value.bitLength() > 128) {
+          value = value.shiftRight(value.bitLength() - 128);
+        }
+      }
+      int index = 2 * (q - SMALLEST_POWER_OF_FIVE);
+      powers[index] = value.shiftRight(64).longValue();
+      powers[index + 1] = value.and(mask).longValue();
+    }
+    return powers;
+  }
+
+  /**
+   * Parses a number from the given bytes, with the same result as
+   * {@link Double#parseDouble(String)}. Whitespace around the number is ignored. Plain decimal
+   * numbers with at most 19 significant digits are calculated with
+   * {@link #toDouble(long, int)}, and other numbers are parsed by
+   * {@link Double#parseDouble(String)}.
+   *
+   * @param bytes the bytes to parse
+   * @param start the start of the number
+   * @param end   the end of the number
+   * @return the number
+   * @throws IllegalArgumentException if the bytes are not a number
+   */
+  static double parseDouble(byte[] bytes, int start, int end) {
+    while (start < end && isWhitespace(bytes[start])) {
+      start++;
+    }
+    while (end > start && isWhitespace(bytes[end - 1])) {
+      end--;
+    }
+    int i = start;
+    boolean negative = false;
+    if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+      negative = bytes[i] == '-';
+      i++;
+    }
+    long mantissa = 0;
+    int significantDigits = 0;
+    int digits = 0;
+    int exponent = 0;
+    boolean fast = true;
+    boolean point = false;
+    for (; i < end; i++) {
+      byte b = bytes[i];
+      if (b >= '0' && b <= '9') {
+        digits++;
+        if (mantissa != 0 || b != '0') {
+          significantDigits++;
+          mantissa = mantissa * 10 + (b - '0');
+        }
+        if (point) {
+          exponent--;
+        }
+      } else if (b == '.' && !point) {
+        point = true;
+      } else {
+        break;
+      }
+    }
+    if (digits == 0 || significantDigits > MAX_FAST_DIGITS) {
+      fast = false;
+    }
+    if (fast && i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+      i++;
+      boolean negativeExponent = false;
+      if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+        negativeExponent = bytes[i] == '-';
+        i++;
+      }
+      int exponentDigits = 0;
+      int value = 0;
+      for (; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+        exponentDigits++;
+        if (value < 1000) {
+          value = value * 10 + (bytes[i] - '0');
+        }
+      }
+      if (exponentDigits == 0) {
+        fast = false;
+      }
+      exponent += negativeExponent ? -value : value;
+    }
+    if (fast && i == end) {
+      if (mantissa == 0) {
+        return negative ? -0.0 : 0.0;
+      }
+      double value = toDouble(mantissa, exponent);
+      if (!Double.isNaN(value)) {
+        return negative ? -value : value;
+      }
+    }
+    try {
+      return Double.parseDouble(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Non-double value found in the file");
+    }
+  }
+
+  /**
+   * Calculates mantissa * 10^exponent rounded to the nearest double, or returns NaN if it can not
+   * be calculated exactly this way. The mantissa is unsigned and not zero.
+   *
+   * @param mantissa the digits of the number, as an unsigned long
+   * @param exponent the power of ten
+   * @return the number, or NaN
+   */
+  private static double toDouble(long mantissa, int exponent) {
+    if (Long.compareUnsigned(mantissa, MAX_EXACT_MANTISSA) <= 0 && exponent >= -22
+        && exponent <= 22) {
+      return exponent >= 0
+          ? mantissa * POWERS_OF_TEN[exponent]
+          : mantissa / POWERS_OF_TEN[-exponent];
+    }
+    if (exponent < SMALLEST_POWER_OF_FIVE || exponent > LARGEST_POWER_OF_FIVE) {
+      return Double.NaN;
+    }
+    int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+    long digits = mantissa << leadingZeros;
+    int index = 2 * (exponent - SMALLEST_POWER_OF_FIVE);
+    long high = Math.unsignedMultiplyHigh(digits, POWERS_OF_FIVE[index]);
+    long low = digits * POWERS_OF_FIVE[index];
+    if ((high & 0x1FF) == 0x1FF) {
+      long secondHigh = Math.unsignedMultiplyHigh(digits, POWERS_OF_FIVE[index + 1]);
+      low += secondHigh;
+      if (Long.compareUnsigned(secondHigh, low) > 0) {
+        high++;
+      }
+      if (low == -1L && (exponent < -27 || exponent > 55)) {
+        return Double.NaN;
+      }
+    }
+    int upperBit = (int) (high >>> 63);
+    long bits = high >>> (upperBit + 9);
+    int binaryExponent = (((152170 + 65536) * exponent) >> 16) + 63 + upperBit - leadingZeros
+        + 1023;
+    if (binaryExponent <= 0) {
+      return Double.NaN;
+    }
+    if (Long.compareUnsigned(low, 1) <= 0 && exponent >= -4 && exponent <= 23
+        && (bits & 3) == 1 && (bits << (upperBit + 9)) == high) {
+      bits &= ~1L;
+    }
+    bits += bits & 1;
+    bits >>>= 1;
+    if (bits >= (2L << 52)) {
+      bits = 1L << 52;
+      binaryExponent++;
+    }
+    if (binaryExponent >= 0x7FF) {
+      return Double.NaN;
+    }
+    return Double.longBitsToDouble((bits & ~(1L << 52)) | ((long) binaryExponent << 52));
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given byte, or -1 if it is not found.
+   *
+   * @param bytes the bytes to search
+   * @param start the start of the search
+   * @param end   the end of the search
+   * @param value the byte to find
+   * @return the index of the byte, or -1
+   */
+  private static int indexOf(byte[] bytes, int start, int end, byte value) {
+    for (int i = start; i < end; i++) {
+      if (bytes[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns whether the byte is whitespace the way {@link String#trim()} sees it.
+   *
+   * @param b the byte to check
+   * @return true if the byte is a space or a control character
+   */
+  private static boolean isWhitespace(byte b) {
+    return (b & 0xff) <= ' ';
+  }
+}
@@ -0,0 +1,141 @@
+package org.example.model.chaosgame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <h2>DoubleBufferedCanvas.</h2>
+ * <p>
+ * A set of read-only buffers that the canvas of a game is published to. The game keeps drawing on
+ * its own canvas, which acts as the back buffer, and {@link #publish(ChaosCanvas)} copies it into
+ * a buffer that is not in use and makes that buffer the front buffer. Readers only see the front
+ * buffer, which does not change, so an image made from it never shows a half drawn frame.
+ * </p>
+ * <p>
+ * Games that draw every pixel again for each frame, like {@link JuliaSetGame}, publish with
+ * {@link #swap(ChaosCanvas)} instead. The canvas of the game is then the back buffer in the usual
+ * sense: its array of pixels becomes the front buffer without being copied, and the game gets the
+ * array of a free buffer to draw the next frame into. Games that add to the pixels of the previous
+ * frame, like {@link ChaosGame}, must keep their pixels, so they use
+ * {@link #publish(ChaosCanvas)}, which copies them.
+ * </p>
+ * <p>
+ * A buffer is reused when it is no longer the front buffer and has not been retained with
+ * {@link ChaosCanvas#retain()}. Usually two or three buffers are enough, one being shown and one
+ * being published. New buffers are only created when all buffers are in use, and the buffers are
+ * copied into without creating new arrays, unless the size of the canvas has grown.
+ * </p>
+ * <p>
+ * Buffers are only published and retained by the thread that runs the game, so a buffer that is
+ * free can not be retained while it is being copied into. Buffers can be released from any
+ * thread.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class DoubleBufferedCanvas {
+
+  private final List<ChaosCanvas> buffers = new ArrayList<>();
+  private final AtomicReference<ChaosCanvas> front = new AtomicReference<>();
+
+  /**
+   * Verifies that the given canvas is not null.
+   *
+   * @param canvas the canvas to verify
+   * @throws IllegalArgumentException if the given canvas is null
+   */
+  private void verifyNotNull(ChaosCanvas canvas) {
+    if (canvas == null) {
+      throw new IllegalArgumentException("Canvas cannot be null");
+    }
+  }
+
+  /**
+   * Copies the given canvas into a free buffer, and makes it the front buffer.
+   *
+   * @param source the canvas to publish
+   * @return the new front buffer, which is read-only
+   * @throws IllegalArgumentException if the given canvas is null
+   */
+  public ChaosCanvas publish(ChaosCanvas source) {
+    verifyNotNull(source);
+    ChaosCanvas back = findFreeBuffer();
+    if (back == null) {
+      back = ChaosCanvas.createBuffer(source);
+      buffers.add(back);
+    } else {
+      back.copyFrom(source);
+    }
+    front.set(back);
+    return back;
+  }
+
+  /**
+   * Makes the pixels of the given canvas the front buffer without copying them, and gives the
+   * canvas the pixels of a free buffer in return. The pixels of the given canvas are undefined
+   * afterwards, so this must only be used by games that draw every pixel again before the next
+   * frame is published.
+   *
+   * @param source the canvas to publish
+   * @return the new front buffer, which is read-only
+   * @throws IllegalArgumentException if the given canvas is null
+   */
+  public ChaosCanvas swap(ChaosCanvas source) {
+    verifyNotNull(source);
+    ChaosCanvas back = findFreeBuffer();
+    if (back == null) {
+      back = ChaosCanvas.createEmptyBuffer(source);
+      buffers.add(back);
+    }
+    back.swapPixels(source);
+    front.set(back);
+    return back;
+  }
+
+  /**
+   * Returns a read-only canvas with the pixels of the front buffer that never changes, even when
+   * the front buffer is reused, or null if nothing has been published.
+   *
+   * @return a snapshot of the front buffer
+   */
+  public ChaosCanvas snapshotFront() {
+    ChaosCanvas current = front.get();
+    return current == null ? null : current.shareSnapshot();
+  }
+
+  /**
+   * Returns the front buffer, or null if nothing has been published.
+   *
+   * @return the front buffer
+   */
+  public ChaosCanvas getFront() {
+    return front.get();
+  }
+
+  /**
+   * Returns the number of buffers that have been created.
+   *
+   * @return the number of buffers
+   */
+  public int getBufferCount() {
+    return buffers.size();
+  }
+
+  /**
+   * Returns a buffer that is not the front buffer and has not been retained, or null if all
+   * buffers are in use.
+   *
+   * @return a free buffer, or null
+   */
+  private ChaosCanvas findFreeBuffer() {
+    ChaosCanvas current = front.get();
+    for (ChaosCanvas buffer : buffers) {
+      if (buffer != current && !buffer.isRetained()) {
+        return buffer;
+      }
+    }
+    return null;
+  }
+}
@@ -2,6 +2,7 @@ package org.example.model.chaosgame;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.example.model.observer.ChaosGameObserver;
 
 /**
@@ -10,11 +11,16 @@ import org.example.model.observer.ChaosGameObserver;
  * A class that represents a chaos game. It contains the canvas and description of the game, and
  * notifies observers of changes in the canvas and description.
  * </p>
+ * <p>
+ * Games that run on several threads share one thread pool per game, which is created the first
+ * time it is needed and kept between runs, so rendering a frame does not start new threads. The
+ * pool is replaced when the thread count changes, and shut down with {@link #close()}.
+ * </p>
  *
  * @version 1.0.0
  * @since 0.4.0
  */
-abstract class Game {
+abstract class Game implements AutoCloseable {
 
   protected ChaosCanvas canvas;
   protected ChaosGameDescription description;
@@ -22,6 +28,10 @@ abstract class Game {
   protected int canvasHeight;
   protected final List<ChaosGameObserver> observers = new ArrayList<>();
   protected double zoom = 1.0;
+  protected int threadCount = Runtime.getRuntime().availableProcessors();
+  private final DoubleBufferedCanvas displayCanvas = new DoubleBufferedCanvas();
+  private boolean canvasSwapped = false;
+  private ForkJoinPool pool;
 
 
   /**
@@ -64,6 +74,18 @@ abstract class Game {
     }
   }
 
+  /**
+   * Verifies that the given thread count is positive.
+   *
+   * @param threadCount the thread count to verify
+   * @throws IllegalArgumentException if the given thread count is not positive
+   */
+  protected void verifyPositiveThreadCount(int threadCount) {
+    if (threadCount <= 0) {
+      throw new IllegalArgumentException("Thread count must be positive");
+    }
+  }
+
   /**
    * runs the game with the given parameters.
    *
@@ -72,6 +94,56 @@ abstract class Game {
   public abstract void runSteps(int steps);
 
 
+  /**
+   * Sets the number of threads to use when running the game. The default is the number of
+   * available processors. A thread count of 1 runs the game on the calling thread.
+   *
+   * @param threadCount the number of threads to use.
+   * @throws IllegalArgumentException if the given thread count is not positive.
+   */
+  public void setThreadCount(int threadCount) {
+    verifyPositiveThreadCount(threadCount);
+    this.threadCount = threadCount;
+    if (pool != null && pool.getParallelism() != threadCount) {
+      close();
+    }
+  }
+
+  /**
+   * Returns the number of threads used when running the game.
+   *
+   * @return the number of threads.
+   */
+  public int getThreadCount() {
+    return threadCount;
+  }
+
+  /**
+   * Returns the thread pool of the game, with one thread per thread of the thread count. The pool
+   * is created the first time it is needed, and kept until the thread count changes or the game is
+   * closed.
+   *
+   * @return the thread pool of the game.
+   */
+  protected ForkJoinPool getPool() {
+    if (pool == null) {
+      pool = new ForkJoinPool(threadCount);
+    }
+    return pool;
+  }
+
+  /**
+   * Shuts down the thread pool of the game. Tasks that are running are finished first. The game can
+   * still be used, and creates a new pool the next time it runs on several threads.
+   */
+  @Override
+  public void close() {
+    if (pool != null) {
+      pool.shutdown();
+      pool = null;
+    }
+  }
+
   /**
    * Adds an observer to the list of observers listening to this chaos game.
    *
@@ -91,14 +163,51 @@ abstract class Game {
   }
 
   /**
-   * Notifies all observers that the canvas has changed.
+   * Notifies all observers that the canvas has changed. The canvas is published to the front
+   * buffer of the {@link DoubleBufferedCanvas} of the game, and the observers get the front buffer.
+   * The front buffer is read-only. Observers that keep it after they have been notified retain it
+   * with {@link ChaosCanvas#retain()}, so it is not reused while they read it. Games that draw every
+   * pixel again for each frame swap their pixels into the front buffer instead of copying them, see
+   * {@link #redrawsWholeCanvas()}. Such games only call this method after a new frame has been
+   * drawn, and use {@link #republishCanvas()} otherwise.
    */
   protected void notifyCanvasChanged() {
+    canvasSwapped = redrawsWholeCanvas();
+    ChaosCanvas front = canvasSwapped ? displayCanvas.swap(canvas) : displayCanvas.publish(canvas);
+    for (ChaosGameObserver observer : observers) {
+      observer.updateCanvas(front);
+    }
+  }
+
+  /**
+   * Notifies all observers that the canvas has changed, without drawing a new frame first. When the
+   * pixels of the game have been swapped into the front buffer, the canvas of the game no longer
+   * holds the last frame, so the observers get the current front buffer again instead of a new
+   * swap. Otherwise the canvas is published as with {@link #notifyCanvasChanged()}.
+   */
+  protected void republishCanvas() {
+    ChaosCanvas front = displayCanvas.getFront();
+    if (!canvasSwapped || front == null) {
+      notifyCanvasChanged();
+      return;
+    }
     for (ChaosGameObserver observer : observers) {
-      observer.updateCanvas(canvas);
+      observer.updateCanvas(front);
     }
   }
 
+  /**
+   * Returns whether the game draws every pixel of the canvas again before it notifies the
+   * observers the next time. The pixels of such a game are swapped into the front buffer instead of
+   * copied, and the canvas of the game does not keep them.
+   *
+   * @return true if the game draws the whole canvas for each frame, false if it adds to the
+   *        previous frame
+   */
+  protected boolean redrawsWholeCanvas() {
+    return false;
+  }
+
   /**
    * Notifies all observers that the description has changed.
    */
@@ -125,20 +234,52 @@ abstract class Game {
    */
   public void setCanvasSize(int width, int height) {
     verifyValidCanvasSize(width, height);
-    this.canvas = new ChaosCanvas(width, height, description.getMinCoords(),
-        description.getMaxCoords());
+    resetCanvas(width, height);
     this.canvasWidth = width;
     this.canvasHeight = height;
     notifyCanvasChanged();
   }
 
   /**
-   * Returns the canvas of this chaos game.
+   * Clears the canvas and sets its size and coordinates from the given size and the current
+   * description. The canvas and its array of pixels are reused when possible, so zooming, moving
+   * and resizing do not create a new canvas every time.
+   *
+   * @param width  the width of the canvas
+   * @param height the height of the canvas
+   * @throws IllegalArgumentException if the given width or height is not positive
+   */
+  protected void resetCanvas(int width, int height) {
+    canvasSwapped = false;
+    if (canvas == null) {
+      canvas = new ChaosCanvas(width, height, description.getMinCoords(),
+          description.getMaxCoords());
+    } else {
+      canvas.resize(width, height, description.getMinCoords(), description.getMaxCoords());
+    }
+  }
+
+  /**
+   * Clears the canvas of the game, and notifies all observers that the canvas has changed.
+   */
+  public void clearCanvas() {
+    canvas.clear();
+    notifyCanvasChanged();
+  }
+
+  /**
+   * Returns a read-only snapshot of the canvas of this chaos game. The snapshot does not change
+   * when the game continues. Use the copy constructor of {@link ChaosCanvas} to get a canvas that
+   * can be changed. When the pixels of the game have been swapped into the front buffer, this is
+   * the last frame the observers were notified about.
    *
-   * @return the canvas of this chaos game.
+   * @return a read-only snapshot of the canvas of this chaos game.
    */
   public ChaosCanvas getCanvas() {
-    return new ChaosCanvas(canvas);
+    if (canvasSwapped) {
+      return displayCanvas.snapshotFront();
+    }
+    return canvas.snapshot();
   }
 
   /**
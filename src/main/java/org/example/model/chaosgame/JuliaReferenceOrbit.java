@@ -0,0 +1,148 @@
+package org.example.model.chaosgame;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import org.example.model.math.DoubleDoubleComplex;
+
+/**
+ * <h2>JuliaReferenceOrbit.</h2>
+ * <p>
+ * The orbit of one point of a Julia set, calculated with high precision and stored as doubles.
+ * Used by the deep zoom mode of {@link JuliaSetGame}, where the other pixels are calculated as
+ * small differences from a reference orbit. The points of the orbit are calculated with enough
+ * digits for the zoom, and only rounded to doubles when they are stored, so the rounding errors do
+ * not build up along the orbit. Up to {@value #DOUBLE_DOUBLE_DIGITS} digits the orbit is
+ * calculated with {@link DoubleDoubleComplex}, which is much faster, and with {@link BigDecimal}
+ * beyond that.
+ * </p>
+ * <p>
+ * The orbit is stored until it escapes or reaches the maximum number of iterations. The last
+ * stored point is the first point outside the escape radius, or the point at the maximum number of
+ * iterations.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+final class JuliaReferenceOrbit {
+
+  static final int DOUBLE_DOUBLE_DIGITS = 31;
+
+  private final double[] x;
+  private final double[] y;
+  private final int lastIndex;
+
+  /**
+   * Calculates the orbit of the given starting point, with double-doubles if the precision has at
+   * most {@value #DOUBLE_DOUBLE_DIGITS} digits, and with decimals otherwise.
+   *
+   * @param startX        the x-coordinate of the starting point
+   * @param startY        the y-coordinate of the starting point
+   * @param cx            the real part of the constant of the Julia set
+   * @param cy            the imaginary part of the constant of the Julia set
+   * @param maxIterations the maximum number of iterations
+   * @param escapeRadius  the escape radius, compared with the squared distance from the origin
+   * @param mathContext   the precision to calculate the orbit with
+   */
+  JuliaReferenceOrbit(BigDecimal startX, BigDecimal startY, double cx, double cy,
+      int maxIterations, double escapeRadius, MathContext mathContext) {
+    x = new double[maxIterations + 1];
+    y = new double[maxIterations + 1];
+    if (mathContext.getPrecision() <= DOUBLE_DOUBLE_DIGITS) {
+      lastIndex = calculateWithDoubleDouble(new DoubleDoubleComplex(startX, startY), cx, cy,
+          maxIterations, escapeRadius);
+    } else {
+      lastIndex = calculateWithBigDecimal(startX, startY, cx, cy, maxIterations, escapeRadius,
+          mathContext);
+    }
+  }
+
+  /**
+   * Calculates and stores the orbit with double-doubles.
+   *
+   * @param z             the starting point, which is changed to the last point
+   * @param cx            the real part of the constant of the Julia set
+   * @param cy            the imaginary part of the constant of the Julia set
+   * @param maxIterations the maximum number of iterations
+   * @param escapeRadius  the escape radius
+   * @return the index of the last point
+   */
+  private int calculateWithDoubleDouble(DoubleDoubleComplex z, double cx, double cy,
+      int maxIterations, double escapeRadius) {
+    int index = 0;
+    while (true) {
+      x[index] = z.getReal().doubleValue();
+      y[index] = z.getImaginary().doubleValue();
+      if (!(x[index] * x[index] + y[index] * y[index] < escapeRadius)
+          || index == maxIterations) {
+        return index;
+      }
+      z.square().add(cx, cy);
+      index++;
+    }
+  }
+
+  /**
+   * Calculates and stores the orbit with decimals.
+   *
+   * @param startX        the x-coordinate of the starting point
+   * @param startY        the y-coordinate of the starting point
+   * @param cx            the real part of the constant of the Julia set
+   * @param cy            the imaginary part of the constant of the Julia set
+   * @param maxIterations the maximum number of iterations
+   * @param escapeRadius  the escape radius
+   * @param mathContext   the precision to calculate the orbit with
+   * @return the index of the last point
+   */
+  private int calculateWithBigDecimal(BigDecimal startX, BigDecimal startY, double cx, double cy,
+      int maxIterations, double escapeRadius, MathContext mathContext) {
+    BigDecimal constantX = new BigDecimal(cx);
+    BigDecimal constantY = new BigDecimal(cy);
+    BigDecimal two = BigDecimal.valueOf(2);
+    BigDecimal zx = startX.round(mathContext);
+    BigDecimal zy = startY.round(mathContext);
+    int index = 0;
+    while (true) {
+      x[index] = zx.doubleValue();
+      y[index] = zy.doubleValue();
+      if (!(x[index] * x[index] + y[index] * y[index] < escapeRadius)
+          || index == maxIterations) {
+        return index;
+      }
+      BigDecimal nextX = zx.multiply(zx, mathContext).subtract(zy.multiply(zy, mathContext),
+          mathContext).add(constantX, mathContext);
+      zy = two.multiply(zx, mathContext).multiply(zy, mathContext).add(constantY, mathContext);
+      zx = nextX;
+      index++;
+    }
+  }
+
+  /**
+   * Returns the x-coordinates of the points of the orbit. Only the entries up to the last index
+   * are used.
+   *
+   * @return the x-coordinates
+   */
+  double[] getX() {
+    return x;
+  }
+
+  /**
+   * Returns the y-coordinates of the points of the orbit. Only the entries up to the last index
+   * are used.
+   *
+   * @return the y-coordinates
+   */
+  double[] getY() {
+    return y;
+  }
+
+  /**
+   * Returns the index of the last point of the orbit.
+   *
+   * @return the last index
+   */
+  int getLastIndex() {
+    return lastIndex;
+  }
+}
@@ -1,6 +1,10 @@
 package org.example.model.chaosgame;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.example.model.math.Complex;
 import org.example.model.math.Vector2D;
 import org.example.model.transform.JuliaTransform;
@@ -15,6 +19,51 @@ import org.example.model.transform.JuliaTransform;
  * the canvas based on the Julia set values
  * </p>
  * <p>
+ * Orbits that end in a cycle never escape, so they are stopped as soon as the cycle is found
+ * instead of running the full number of iterations (period checking). The orbit is compared with a
+ * saved point, and the point is saved again after 1, 2, 4, 8 and so on iterations, so cycles of
+ * any length are found within a few times their length plus the time the orbit needs to reach them
+ * (Brent's cycle detection). The points must be exactly equal, so the pixels get the same values
+ * as without period checking. Period checking can be turned off with
+ * {@link #setPeriodChecking(boolean)}.
+ * </p>
+ * <p>
+ * The inside of a connected Julia set often covers a large part of the image, and every pixel
+ * there needs the maximum number of iterations. With rectangle subdivision turned on with
+ * {@link #setRectangleSubdivision(boolean)}, only the borders of rectangles are calculated, and
+ * rectangles whose border is completely inside the set are filled without calculating their
+ * inside (the Mariani-Silver algorithm, see {@link JuliaTileTask}). The outside of a connected
+ * Julia set has no holes, so this gives the same image for connected Julia sets. Julia sets that
+ * are not connected have no inside, so rectangle subdivision only adds work there, and it is off
+ * by default.
+ * </p>
+ * <p>
+ * When the program is started with {@code --add-modules jdk.incubator.vector}, the rows are
+ * calculated with {@link JuliaVectorKernel}, which iterates several pixels at once with the Vector
+ * API and gives the same values as the scalar loop. Without the module, the scalar loop is used.
+ * </p>
+ * <p>
+ * The coordinates of the pixels are doubles, so when the distance between two pixels gets close to
+ * the precision of a double, at a zoom of about 1e-13, neighbouring pixels get the same value and
+ * the image turns into blocks. The centre of the view is therefore also kept as a
+ * {@link BigDecimal}, and in deep zoom mode, turned on with {@link #setDeepZoom(boolean)}, the
+ * orbit of the centre is calculated with enough digits for the zoom (see
+ * {@link JuliaReferenceOrbit}). The other pixels are calculated with doubles as the difference d
+ * from this reference orbit Z, which changes as d' = 2Zd + d^2 (perturbation). When the point
+ * Z + d of a pixel comes closer to 0 than the difference itself, the difference has lost its
+ * precision (a glitch), and the pixel continues from the orbit of 0 instead, with the point as the
+ * new difference (rebasing). The same is done when the reference orbit escapes before the pixel.
+ * Period checking and the vector kernel are not used in deep zoom mode, so it is slower than the
+ * normal mode at a normal zoom, and it is off by default. It is used anyway when the distance
+ * between two pixels is less than {@value #DEEP_ZOOM_SPACING} units in the last place of the
+ * centre, where the normal mode would start to turn into blocks.
+ * </p>
+ * <p>
+ * Up to a zoom of about 1e-21 the reference orbits are calculated with double-double numbers (see
+ * {@link org.example.model.math.DoubleDouble}), which are many times faster than decimals, and with
+ * decimals beyond that.
+ * </p>
+ * <p>
  * The run method is inspired by the pseudocode from <a
  * href="https://en.wikipedia.org/wiki/Julia_set">wikipedia.org/Julia_set</a>
  * </p>
@@ -24,11 +73,28 @@ import org.example.model.transform.JuliaTransform;
  */
 public class JuliaSetGame extends Game {
 
+  private static final double LOG_2 = Math.log(2);
+  private static final int MAX_COLOR_VALUE = 754;
+  private static final int EXTRA_DIGITS = 10;
+  private static final double DEEP_ZOOM_SPACING = 1024;
+  private static final int MAX_ZOOM_DIGITS = 330;
+  private static final boolean VECTOR_KERNEL_AVAILABLE = ModuleLayer.boot()
+      .findModule("jdk.incubator.vector").isPresent();
+
   private int maxIterations;
   private double escapeRadius;
+  private int[] smoothingTable;
 
   private double xoffset = 0;
   private double yoffset = 0;
+  private BigDecimal centerX = BigDecimal.ZERO;
+  private BigDecimal centerY = BigDecimal.ZERO;
+  private boolean periodChecking = true;
+  private boolean rectangleSubdivision = false;
+  private boolean vectorKernel = VECTOR_KERNEL_AVAILABLE;
+  private boolean deepZoom = false;
+  private JuliaReferenceOrbit referenceOrbit;
+  private JuliaReferenceOrbit criticalOrbit;
 
 
   /**
@@ -83,6 +149,7 @@ public class JuliaSetGame extends Game {
     setDescription(description);
     this.maxIterations = maxIterations;
     this.escapeRadius = escapeRadius;
+    this.smoothingTable = createSmoothingTable(maxIterations);
   }
 
   /**
@@ -96,14 +163,31 @@ public class JuliaSetGame extends Game {
     verifyNotNullDescription(description);
     verifyDescriptionJulia(description);
     this.description = description;
-    this.canvas = new ChaosCanvas(canvasWidth, canvasHeight, description.getMinCoords(),
-        description.getMaxCoords());
+    resetCanvas(canvasWidth, canvasHeight);
     zoom = 1.0;
     notifyDescriptionChanged();
   }
 
   /**
-   * Runs the julia set for each pixel.
+   * Returns true, since every pixel is calculated again for each run, so the canvas is swapped into
+   * the front buffer instead of copied.
+   *
+   * @return true
+   */
+  @Override
+  protected boolean redrawsWholeCanvas() {
+    return true;
+  }
+
+  /**
+   * Runs the julia set for each pixel. The canvas is split into tiles that are rendered on the
+   * fork/join pool of the game, with the number of threads set with {@link #setThreadCount(int)}.
+   * The pool is kept between runs, so panning and zooming do not start new threads. The tiles are
+   * split further while they run, so the expensive regions inside the set are shared between the
+   * threads. The coordinates of each
+   * column and row are calculated once per run, so no objects are created per pixel. If the
+   * calling thread is interrupted, the remaining tiles are skipped, and the observers are not
+   * notified.
    *
    * @param maxIterations the maximum number of iterations to run per pixel
    * @throws IllegalArgumentException if the given max iterations is not positive
@@ -111,19 +195,55 @@ public class JuliaSetGame extends Game {
   @Override
   public void runSteps(int maxIterations) {
     verifyPositiveValue(maxIterations, "Max iterations");
-    this.maxIterations = maxIterations;
+    if (maxIterations != this.maxIterations) {
+      this.maxIterations = maxIterations;
+      this.smoothingTable = createSmoothingTable(maxIterations);
+    }
     JuliaTransform transform = (JuliaTransform) description.getTransforms().get(0);
 
     Complex c = transform.getPoint();
     double cx = c.getReal();
     double cy = c.getImaginary();
 
+    boolean perturbation = deepZoom || isBelowDoubleResolution();
+    double[] columnCoords = new double[canvasWidth];
     for (int x0 = 0; x0 < canvasWidth; x0++) {
-      for (int x1 = 0; x1 < canvasHeight; x1++) {
-        calculatePoint(x0, x1, cx, cy);
+      columnCoords[x0] = perturbation ? pixelOffsetX0(x0) : scaleX0(x0);
+    }
+    double[] rowCoords = new double[canvasHeight];
+    for (int x1 = 0; x1 < canvasHeight; x1++) {
+      rowCoords[x1] = perturbation ? pixelOffsetX1(x1) : scaleX1(x1);
+    }
+    if (perturbation) {
+      MathContext mathContext = createMathContext();
+      referenceOrbit = new JuliaReferenceOrbit(centerX, centerY, cx, cy, maxIterations,
+          escapeRadius, mathContext);
+      criticalOrbit = new JuliaReferenceOrbit(BigDecimal.ZERO, BigDecimal.ZERO, cx, cy,
+          maxIterations, escapeRadius, mathContext);
+    }
+
+    AtomicBoolean cancelled = new AtomicBoolean();
+    JuliaTileTask task = new JuliaTileTask(this, canvas.getBuffer(), canvasWidth, columnCoords,
+        rowCoords, 0, 0, canvasWidth, canvasHeight, cx, cy, cancelled);
+    if (threadCount > 1) {
+      getPool().execute(task);
+      try {
+        task.get();
+      } catch (InterruptedException e) {
+        cancelled.set(true);
+        task.quietlyJoin();
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Julia set failed: " + e.getCause().getMessage());
       }
+    } else {
+      task.renderTile();
+    }
+    referenceOrbit = null;
+    criticalOrbit = null;
+    if (!Thread.currentThread().isInterrupted()) {
+      notifyCanvasChanged();
     }
-    notifyCanvasChanged();
 
   }
 
@@ -147,39 +267,370 @@ public class JuliaSetGame extends Game {
    * @param cy the y-coordinate of the complex number
    */
   public void calculatePoint(int x0, int x1, double cx, double cy) {
-    double[] coords = scaleCoords(x0, x1);
-    double zx = coords[0];
-    double zy = coords[1];
+    if (x0 < 0 || x0 >= canvasWidth || x1 < 0 || x1 >= canvasHeight) {
+      return;
+    }
+    canvas.getBuffer()[x1 * canvasWidth + x0] = calculatePixel(scaleX0(x0), scaleX1(x1), cx, cy);
+  }
+
+  /**
+   * Calculates the values of the pixels of one row from the left column inclusive to the right
+   * column exclusive, and writes them to the buffer. The vector kernel is used if it is turned on,
+   * and the scalar loop is used for the rest of the row.
+   *
+   * @param buffer       the row-major pixel buffer to write to
+   * @param offset       the index in the buffer of the first pixel of the row
+   * @param columnCoords the scaled x-coordinate of each column
+   * @param left         the first column
+   * @param right        the column after the last column
+   * @param rowCoord     the scaled y-coordinate of the row
+   * @param cx           the x-coordinate of the complex number
+   * @param cy           the y-coordinate of the complex number
+   */
+  void calculateRow(int[] buffer, int offset, double[] columnCoords, int left, int right,
+      double rowCoord, double cx, double cy) {
+    int column = left;
+    if (vectorKernel && referenceOrbit == null) {
+      column = JuliaVectorKernel.calculateRow(this, buffer, offset, columnCoords, left, right,
+          rowCoord, cx, cy);
+    }
+    for (; column < right; column++) {
+      buffer[offset + column] = calculatePixel(columnCoords[column], rowCoord, cx, cy);
+    }
+  }
+
+  /**
+   * Calculates the value of the pixel with the given scaled coordinates without changing the
+   * canvas.
+   *
+   * @param zx the scaled x-coordinate of the pixel
+   * @param zy the scaled y-coordinate of the pixel
+   * @param cx the x-coordinate of the complex number
+   * @param cy the y-coordinate of the complex number
+   * @return the value of the pixel
+   */
+  int calculatePixel(double zx, double zy, double cx, double cy) {
+    return calculatePixel(zx, zy, cx, cy, null, 0);
+  }
+
+  /**
+   * Calculates the value of the pixel with the given scaled coordinates without changing the
+   * canvas, and records whether the orbit of the pixel stayed inside the escape radius for the
+   * maximum number of iterations.
+   *
+   * @param zx     the scaled x-coordinate of the pixel
+   * @param zy     the scaled y-coordinate of the pixel
+   * @param cx     the x-coordinate of the complex number
+   * @param cy     the y-coordinate of the complex number
+   * @param inside the array to record whether the pixel is inside the set in, or null
+   * @param index  the index in the array to record it at
+   * @return the value of the pixel
+   */
+  int calculatePixel(double zx, double zy, double cx, double cy, boolean[] inside, int index) {
+    if (referenceOrbit != null) {
+      return calculatePerturbedPixel(zx, zy, inside, index);
+    }
+    if (periodChecking) {
+      return calculatePixelWithPeriodChecking(zx, zy, cx, cy, inside, index);
+    }
+    int iteration = 0;
+    while (zx * zx + zy * zy < escapeRadius && iteration < this.maxIterations) {
+      double tmp = zx * zx - zy * zy;
+      zy = 2.0 * zx * zy + cy;
+      zx = tmp + cx;
+      iteration++;
+    }
+    if (inside != null) {
+      inside[index] = iteration == maxIterations;
+    }
+    return calculateValue(iteration, zx, zy);
+  }
 
+  /**
+   * Calculates the value of the pixel like
+   * {@link #calculatePixel(double, double, double, double, boolean[], int)}, but stops as soon as
+   * the orbit returns to a saved point. The saved point did not escape, so an orbit that returns to
+   * it repeats forever and never escapes, and gets the value of a point that reaches the maximum
+   * number of iterations.
+   *
+   * @param zx     the scaled x-coordinate of the pixel
+   * @param zy     the scaled y-coordinate of the pixel
+   * @param cx     the x-coordinate of the complex number
+   * @param cy     the y-coordinate of the complex number
+   * @param inside the array to record whether the pixel is inside the set in, or null
+   * @param index  the index in the array to record it at
+   * @return the value of the pixel
+   */
+  private int calculatePixelWithPeriodChecking(double zx, double zy, double cx, double cy,
+      boolean[] inside, int index) {
+    double savedX = zx;
+    double savedY = zy;
+    int nextSave = 1;
     int iteration = 0;
     while (zx * zx + zy * zy < escapeRadius && iteration < this.maxIterations) {
       double tmp = zx * zx - zy * zy;
       zy = 2.0 * zx * zy + cy;
       zx = tmp + cx;
       iteration++;
+      if (zx == savedX && zy == savedY) {
+        iteration = maxIterations;
+        break;
+      }
+      if (iteration == nextSave) {
+        savedX = zx;
+        savedY = zy;
+        nextSave <<= 1;
+      }
+    }
+    if (inside != null) {
+      inside[index] = iteration == maxIterations;
+    }
+    return calculateValue(iteration, zx, zy);
+  }
+
+  /**
+   * Returns whether the distance between two pixels is so small compared to the centre of the view
+   * that the pixels can not be calculated with doubles.
+   *
+   * @return true if the pixels must be calculated as perturbations, false otherwise
+   */
+  private boolean isBelowDoubleResolution() {
+    double spacing = Math.abs(zoom) * 4.0 / canvasWidth;
+    double center = Math.max(1.0, Math.max(Math.abs(xoffset), Math.abs(yoffset)));
+    return spacing < DEEP_ZOOM_SPACING * Math.ulp(center);
+  }
+
+  /**
+   * Creates the precision of the reference orbits, with enough digits to tell the pixels apart at
+   * the current zoom and some digits to spare. A double can not be smaller than about 1e-324, so
+   * the digits of the zoom are capped there.
+   *
+   * @return the precision of the reference orbits
+   */
+  private MathContext createMathContext() {
+    double zoomDigits = Math.min(Math.ceil(-Math.log10(Math.abs(zoom))), MAX_ZOOM_DIGITS);
+    return new MathContext(EXTRA_DIGITS + (int) Math.max(zoomDigits, 0));
+  }
+
+  /**
+   * Calculates the value of the pixel with the given difference from the centre of the view, as a
+   * perturbation of the reference orbit of the centre. The pixel continues from the orbit of 0
+   * when its point comes closer to 0 than its difference, or when the reference orbit has no more
+   * points.
+   *
+   * @param dx     the x-coordinate of the pixel, relative to the centre of the view
+   * @param dy     the y-coordinate of the pixel, relative to the centre of the view
+   * @param inside the array to record whether the pixel is inside the set in, or null
+   * @param index  the index in the array to record it at
+   * @return the value of the pixel
+   */
+  private int calculatePerturbedPixel(double dx, double dy, boolean[] inside, int index) {
+    double[] orbitX = referenceOrbit.getX();
+    double[] orbitY = referenceOrbit.getY();
+    int lastIndex = referenceOrbit.getLastIndex();
+    int orbitIndex = 0;
+    int iteration = 0;
+    double zx = orbitX[0] + dx;
+    double zy = orbitY[0] + dy;
+    while (zx * zx + zy * zy < escapeRadius && iteration < this.maxIterations) {
+      if (orbitIndex == lastIndex || zx * zx + zy * zy < dx * dx + dy * dy) {
+        orbitX = criticalOrbit.getX();
+        orbitY = criticalOrbit.getY();
+        lastIndex = criticalOrbit.getLastIndex();
+        orbitIndex = 0;
+        dx = zx;
+        dy = zy;
+      }
+      double referenceX = orbitX[orbitIndex];
+      double referenceY = orbitY[orbitIndex];
+      double nextDx = 2.0 * (referenceX * dx - referenceY * dy) + dx * dx - dy * dy;
+      dy = 2.0 * (referenceX * dy + referenceY * dx) + 2.0 * dx * dy;
+      dx = nextDx;
+      orbitIndex++;
+      iteration++;
+      zx = orbitX[orbitIndex] + dx;
+      zy = orbitY[orbitIndex] + dy;
+    }
+    if (inside != null) {
+      inside[index] = iteration == maxIterations;
+    }
+    return calculateValue(iteration, zx, zy);
+  }
+
+  /**
+   * Turns period checking on or off. Period checking gives the same pixel values, but is much
+   * faster for points inside the set. It is on by default.
+   *
+   * @param periodChecking true to stop orbits that end in a cycle early, false to always run the
+   *                       full number of iterations
+   */
+  public void setPeriodChecking(boolean periodChecking) {
+    this.periodChecking = periodChecking;
+  }
+
+  /**
+   * Returns whether orbits that end in a cycle are stopped early.
+   *
+   * @return true if period checking is on, false otherwise
+   */
+  public boolean isPeriodChecking() {
+    return periodChecking;
+  }
+
+  /**
+   * Turns rectangle subdivision on or off. It is off by default.
+   *
+   * @param rectangleSubdivision true to fill rectangles whose border is inside the set without
+   *                             calculating their inside, false to calculate every pixel
+   */
+  public void setRectangleSubdivision(boolean rectangleSubdivision) {
+    this.rectangleSubdivision = rectangleSubdivision;
+  }
+
+  /**
+   * Returns whether rectangles whose border is inside the set are filled without calculating
+   * their inside.
+   *
+   * @return true if rectangle subdivision is on, false otherwise
+   */
+  public boolean isRectangleSubdivision() {
+    return rectangleSubdivision;
+  }
+
+  /**
+   * Returns whether the Vector API can be used, which needs the program to be started with
+   * {@code --add-modules jdk.incubator.vector}.
+   *
+   * @return true if the vector kernel is available, false otherwise
+   */
+  public static boolean isVectorKernelAvailable() {
+    return VECTOR_KERNEL_AVAILABLE;
+  }
+
+  /**
+   * Turns the vector kernel on or off. It is on by default when it is available.
+   *
+   * @param vectorKernel true to calculate several pixels at once with the Vector API, false to
+   *                     use the scalar loop
+   * @throws IllegalStateException if the vector kernel is turned on when it is not available
+   */
+  public void setVectorKernel(boolean vectorKernel) {
+    if (vectorKernel && !VECTOR_KERNEL_AVAILABLE) {
+      throw new IllegalStateException("Vector API is not available");
     }
+    this.vectorKernel = vectorKernel;
+  }
+
+  /**
+   * Returns whether the rows are calculated with the vector kernel.
+   *
+   * @return true if the vector kernel is on, false otherwise
+   */
+  public boolean isVectorKernel() {
+    return vectorKernel;
+  }
+
+  /**
+   * Turns deep zoom mode on or off. It is off by default, but used anyway when the zoom is too deep
+   * for doubles.
+   *
+   * @param deepZoom true to calculate the pixels as perturbations of a reference orbit with high
+   *                 precision, false to calculate every pixel with doubles
+   */
+  public void setDeepZoom(boolean deepZoom) {
+    this.deepZoom = deepZoom;
+  }
+
+  /**
+   * Returns whether the pixels are calculated as perturbations of a reference orbit.
+   *
+   * @return true if deep zoom mode is on, false otherwise
+   */
+  public boolean isDeepZoom() {
+    return deepZoom;
+  }
+
+  /**
+   * Returns the maximum number of iterations per pixel.
+   *
+   * @return the maximum number of iterations
+   */
+  int getMaxIterations() {
+    return maxIterations;
+  }
 
-    Vector2D point = new Vector2D(x1, x0);
-    canvas.setPixelWithPointOnCanvas(point, calculateValue(iteration, zx, zy));
+  /**
+   * Returns the escape radius, which the squared distance of a point from the origin is compared
+   * with.
+   *
+   * @return the escape radius
+   */
+  double getEscapeRadius() {
+    return escapeRadius;
   }
 
 
   /**
-   * Scales the coordinates of the given pixel.
+   * Scales the x-coordinate of the given pixel.
+   *
+   * @param x0 the x-coordinate of the pixel
+   * @return the scaled x-coordinate of the pixel
+   */
+  private double scaleX0(double x0) {
+    return xoffset + pixelOffsetX0(x0);
+  }
+
+  /**
+   * Returns the x-coordinate of the given pixel relative to the centre of the view.
    *
    * @param x0 the x-coordinate of the pixel
+   * @return the x-coordinate relative to the centre
+   */
+  private double pixelOffsetX0(double x0) {
+    return zoom * (x0 - (double) canvasWidth / 2) * 4.0 / canvasWidth;
+  }
+
+  /**
+   * Scales the y-coordinate of the given pixel.
+   *
    * @param x1 the y-coordinate of the pixel
-   * @return the scaled coordinates of the pixel
+   * @return the scaled y-coordinate of the pixel
    */
-  private double[] scaleCoords(double x0, double x1) {
-    double[] coords = new double[2];
-    coords[0] = xoffset + zoom * (x0 - (double) canvasWidth / 2) * 4.0 / canvasWidth;
-    coords[1] = yoffset + zoom * (x1 - (double) canvasHeight / 2) * 4.0 / canvasWidth;
-    return coords;
+  private double scaleX1(double x1) {
+    return yoffset + pixelOffsetX1(x1);
   }
 
   /**
-   * Calculates the value of the pixel at the given iteration.
+   * Returns the y-coordinate of the given pixel relative to the centre of the view.
+   *
+   * @param x1 the y-coordinate of the pixel
+   * @return the y-coordinate relative to the centre
+   */
+  private double pixelOffsetX1(double x1) {
+    return zoom * (x1 - (double) canvasHeight / 2) * 4.0 / canvasWidth;
+  }
+
+  /**
+   * Creates the lookup table for the smoothing curve used by {@link #calculateValue}. Entry v holds
+   * the value of a pixel with the smoothed iteration count v, for v between 0 and the maximum
+   * number of iterations. Smoothed iteration counts outside this range always give 0.
+   *
+   * @param maxIterations the maximum number of iterations
+   * @return the lookup table
+   */
+  private static int[] createSmoothingTable(int maxIterations) {
+    int[] table = new int[maxIterations + 1];
+    for (int v = 0; v <= maxIterations; v++) {
+      double multiplier = Math.pow((double) v / maxIterations, 0.2);
+      int value = (int) (maxIterations - maxIterations * multiplier);
+      table[v] = Math.max((int) ((double) value / maxIterations * MAX_COLOR_VALUE), 0);
+    }
+    return table;
+  }
+
+  /**
+   * Calculates the value of the pixel at the given iteration. The smoothing curve is read from a
+   * lookup table that is created when the maximum number of iterations changes.
    *
    * @param iteration the iteration to calculate the value at
    * @param zx        the x-coordinate of the pixel
@@ -191,16 +642,17 @@ public class JuliaSetGame extends Game {
       return 0;
     } else {
       double absZ = zx * zx + zy * zy;
-      int value = (int) (iteration + 1 - Math.log(Math.log(absZ)) / Math.log(2));
-      double multiplier = Math.pow((double) value / maxIterations, 0.2);
-      value = (int) (maxIterations - maxIterations * multiplier);
-      int maxColorValue = 754;
-      return Math.max((int) ((double) value / maxIterations * maxColorValue), 0);
+      int value = (int) (iteration + 1 - Math.log(Math.log(absZ)) / LOG_2);
+      if (value < 0 || value > maxIterations) {
+        return 0;
+      }
+      return smoothingTable[value];
     }
   }
 
   /**
-   * Changes the zoom of the canvas.
+   * Changes the zoom of the canvas. The observers are notified with the last frame, since the
+   * canvas is only drawn at the new zoom by the next run.
    *
    * @param multiplier the multiplier to change the zoom with.
    */
@@ -208,20 +660,60 @@ public class JuliaSetGame extends Game {
     zoom += zoom * multiplier;
     description.changeZoom(multiplier);
     notifyDescriptionChanged();
-    notifyCanvasChanged();
+    republishCanvas();
   }
 
   /**
-   * Moves the canvas by the given vector.
+   * Moves the canvas by the given vector. The centre of the view is moved exactly, so moves are
+   * not lost at a deep zoom.
    *
    * @param vector the vector to move the canvas by.
    */
   public void moveCanvas(Vector2D vector) {
-    xoffset -= vector.getX0() * zoom / 10;
-    yoffset += vector.getX1() * zoom / 10;
+    centerX = centerX.subtract(new BigDecimal(vector.getX0() * zoom / 10));
+    centerY = centerY.add(new BigDecimal(vector.getX1() * zoom / 10));
+    xoffset = centerX.doubleValue();
+    yoffset = centerY.doubleValue();
+    notifyDescriptionChanged();
+  }
+
+  /**
+   * Sets the centre of the view. The centre is kept with all the given digits, and is used for the
+   * reference orbit in deep zoom mode.
+   *
+   * @param x the x-coordinate of the centre
+   * @param y the y-coordinate of the centre
+   * @throws IllegalArgumentException if a coordinate is null
+   */
+  public void setCenter(BigDecimal x, BigDecimal y) {
+    if (x == null || y == null) {
+      throw new IllegalArgumentException("Center can not be null");
+    }
+    centerX = x;
+    centerY = y;
+    xoffset = x.doubleValue();
+    yoffset = y.doubleValue();
     notifyDescriptionChanged();
   }
 
+  /**
+   * Returns the x-coordinate of the centre of the view.
+   *
+   * @return the x-coordinate of the centre
+   */
+  public BigDecimal getCenterX() {
+    return centerX;
+  }
+
+  /**
+   * Returns the y-coordinate of the centre of the view.
+   *
+   * @return the y-coordinate of the centre
+   */
+  public BigDecimal getCenterY() {
+    return centerY;
+  }
+
 
   /**
    * Returns the zoom level of the Julia set. used for testing purposes
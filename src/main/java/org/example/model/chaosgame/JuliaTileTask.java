@@ -0,0 +1,264 @@
+package org.example.model.chaosgame;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <h2>JuliaTileTask.</h2>
+ * <p>
+ * A fork/join task that renders a rectangular tile of a {@link JuliaSetGame}. Tiles larger than
+ * {@link #TILE_SIZE} pixels in either direction are split in half along the longest side, so the
+ * pool can steal work from threads that are stuck on expensive regions of the set.
+ * </p>
+ * <p>
+ * Every pixel belongs to exactly one tile, so the tiles write directly into the canvas buffer
+ * without any locking. A shared flag lets the game stop the remaining tiles when it is cancelled.
+ * </p>
+ * <p>
+ * When rectangle subdivision is turned on in the game, a tile is rendered with the Mariani-Silver
+ * algorithm: only the border of a rectangle is calculated, and if every pixel on the border is
+ * inside the set, the inside of the rectangle is filled without calculating it. Otherwise the
+ * rectangle is split in two by a line of calculated pixels, and the halves are handled the same
+ * way. Every pixel is calculated at most once. Rectangles with a border of one escape time are not
+ * filled, since the pixels with the same escape time form rings around the set, and such a
+ * rectangle can have the set inside it.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+class JuliaTileTask extends RecursiveAction {
+
+  static final int TILE_SIZE = 64;
+  static final int MIN_SUBDIVISION_SIZE = 4;
+
+  private final JuliaSetGame game;
+  private final int[] buffer;
+  private final int width;
+  private final double[] columnCoords;
+  private final double[] rowCoords;
+  private final int firstColumn;
+  private final int firstRow;
+  private final int lastColumn;
+  private final int lastRow;
+  private final double cx;
+  private final double cy;
+  private final AtomicBoolean cancelled;
+
+  /**
+   * Constructs a task that renders the pixels from (firstColumn, firstRow) inclusive to
+   * (lastColumn, lastRow) exclusive.
+   *
+   * @param game         the game to calculate the pixel values with
+   * @param buffer       the row-major pixel buffer to write to
+   * @param width        the width of the canvas
+   * @param columnCoords the scaled x-coordinate of each column
+   * @param rowCoords    the scaled y-coordinate of each row
+   * @param firstColumn  the first column of the tile
+   * @param firstRow     the first row of the tile
+   * @param lastColumn   the column after the last column of the tile
+   * @param lastRow      the row after the last row of the tile
+   * @param cx           the real part of the constant of the Julia set
+   * @param cy           the imaginary part of the constant of the Julia set
+   * @param cancelled    the flag that is set when the rendering is cancelled
+   */
+  JuliaTileTask(JuliaSetGame game, int[] buffer, int width, double[] columnCoords,
+      double[] rowCoords, int firstColumn, int firstRow, int lastColumn, int lastRow, double cx,
+      double cy, AtomicBoolean cancelled) {
+    this.game = game;
+    this.buffer = buffer;
+    this.width = width;
+    this.columnCoords = columnCoords;
+    this.rowCoords = rowCoords;
+    this.firstColumn = firstColumn;
+    this.firstRow = firstRow;
+    this.lastColumn = lastColumn;
+    this.lastRow = lastRow;
+    this.cx = cx;
+    this.cy = cy;
+    this.cancelled = cancelled;
+  }
+
+  /**
+   * Renders the tile, or splits it in two and renders the halves in parallel if it is larger than
+   * the tile size.
+   */
+  @Override
+  protected void compute() {
+    int columns = lastColumn - firstColumn;
+    int rows = lastRow - firstRow;
+    if (columns <= TILE_SIZE && rows <= TILE_SIZE) {
+      renderTile();
+    } else if (columns >= rows) {
+      int middle = firstColumn + columns / 2;
+      invokeAll(createTask(firstColumn, firstRow, middle, lastRow),
+          createTask(middle, firstRow, lastColumn, lastRow));
+    } else {
+      int middle = firstRow + rows / 2;
+      invokeAll(createTask(firstColumn, firstRow, lastColumn, middle),
+          createTask(firstColumn, middle, lastColumn, lastRow));
+    }
+  }
+
+  /**
+   * Creates a task for a part of this tile.
+   *
+   * @param firstColumn the first column of the part
+   * @param firstRow    the first row of the part
+   * @param lastColumn  the column after the last column of the part
+   * @param lastRow     the row after the last row of the part
+   * @return the task for the part
+   */
+  private JuliaTileTask createTask(int firstColumn, int firstRow, int lastColumn, int lastRow) {
+    return new JuliaTileTask(game, buffer, width, columnCoords, rowCoords, firstColumn, firstRow,
+        lastColumn, lastRow, cx, cy, cancelled);
+  }
+
+  /**
+   * Calculates the value of every pixel in the tile and writes it to the buffer, with rectangle
+   * subdivision if it is turned on in the game. Stops before the next row or rectangle if the
+   * rendering is cancelled or the current thread is interrupted.
+   */
+  void renderTile() {
+    if (game.isRectangleSubdivision()) {
+      subdivideTile();
+    } else {
+      renderRows(firstColumn, firstRow, lastColumn, lastRow);
+    }
+  }
+
+  /**
+   * Returns whether the rendering is cancelled or the current thread is interrupted.
+   *
+   * @return true if the rendering should stop, false otherwise
+   */
+  private boolean isStopped() {
+    return cancelled.get() || Thread.currentThread().isInterrupted();
+  }
+
+  /**
+   * Calculates the value of every pixel from (left, top) inclusive to (right, bottom) exclusive,
+   * one row at a time.
+   *
+   * @param left   the first column
+   * @param top    the first row
+   * @param right  the column after the last column
+   * @param bottom the row after the last row
+   */
+  private void renderRows(int left, int top, int right, int bottom) {
+    for (int row = top; row < bottom; row++) {
+      if (isStopped()) {
+        return;
+      }
+      game.calculateRow(buffer, row * width, columnCoords, left, right, rowCoords[row], cx, cy);
+    }
+  }
+
+  /**
+   * Calculates the value of the pixel at the given column and row, writes it to the buffer, and
+   * records whether the pixel is inside the set.
+   *
+   * @param column the column of the pixel
+   * @param row    the row of the pixel
+   * @param inside whether each pixel of the tile is inside the set, row by row
+   */
+  private void renderPixel(int column, int row, boolean[] inside) {
+    int index = (row - firstRow) * (lastColumn - firstColumn) + column - firstColumn;
+    buffer[row * width + column] = game.calculatePixel(columnCoords[column], rowCoords[row], cx,
+        cy, inside, index);
+  }
+
+  /**
+   * Renders the tile with rectangle subdivision. The border of the tile is calculated first, and
+   * the inside is then handled by {@link #subdivide(int, int, int, int, boolean[])}.
+   */
+  private void subdivideTile() {
+    int right = lastColumn - 1;
+    int bottom = lastRow - 1;
+    if (right - firstColumn < 2 || bottom - firstRow < 2) {
+      renderRows(firstColumn, firstRow, lastColumn, lastRow);
+      return;
+    }
+    boolean[] inside = new boolean[(lastColumn - firstColumn) * (lastRow - firstRow)];
+    for (int column = firstColumn; column <= right; column++) {
+      renderPixel(column, firstRow, inside);
+      renderPixel(column, bottom, inside);
+    }
+    for (int row = firstRow + 1; row < bottom; row++) {
+      renderPixel(firstColumn, row, inside);
+      renderPixel(right, row, inside);
+    }
+    subdivide(firstColumn, firstRow, right, bottom, inside);
+  }
+
+  /**
+   * Fills or splits the rectangle from (left, top) to (right, bottom), both inclusive, whose border
+   * has already been calculated. If the border is inside the set, the inside of the rectangle is
+   * filled with the value of the border. Otherwise small rectangles are calculated pixel by pixel,
+   * and larger ones are split along their longest side by a calculated line, and each half is
+   * handled the same way.
+   *
+   * @param left   the first column of the border
+   * @param top    the first row of the border
+   * @param right  the last column of the border
+   * @param bottom the last row of the border
+   * @param inside whether each pixel of the tile is inside the set, row by row
+   */
+  private void subdivide(int left, int top, int right, int bottom, boolean[] inside) {
+    if (right - left < 2 || bottom - top < 2 || isStopped()) {
+      return;
+    }
+    if (isBorderInside(left, top, right, bottom, inside)) {
+      int value = buffer[top * width + left];
+      for (int row = top + 1; row < bottom; row++) {
+        int offset = row * width;
+        Arrays.fill(buffer, offset + left + 1, offset + right, value);
+      }
+    } else if (right - left <= MIN_SUBDIVISION_SIZE || bottom - top <= MIN_SUBDIVISION_SIZE) {
+      renderRows(left + 1, top + 1, right, bottom);
+    } else if (right - left >= bottom - top) {
+      int middle = (left + right) >>> 1;
+      for (int row = top + 1; row < bottom; row++) {
+        renderPixel(middle, row, inside);
+      }
+      subdivide(left, top, middle, bottom, inside);
+      subdivide(middle, top, right, bottom, inside);
+    } else {
+      int middle = (top + bottom) >>> 1;
+      for (int column = left + 1; column < right; column++) {
+        renderPixel(column, middle, inside);
+      }
+      subdivide(left, top, right, middle, inside);
+      subdivide(left, middle, right, bottom, inside);
+    }
+  }
+
+  /**
+   * Returns whether every pixel on the border of the rectangle is inside the set.
+   *
+   * @param left   the first column of the border
+   * @param top    the first row of the border
+   * @param right  the last column of the border
+   * @param bottom the last row of the border
+   * @param inside whether each pixel of the tile is inside the set, row by row
+   * @return true if the whole border is inside the set, false otherwise
+   */
+  private boolean isBorderInside(int left, int top, int right, int bottom, boolean[] inside) {
+    int tileWidth = lastColumn - firstColumn;
+    int topOffset = (top - firstRow) * tileWidth - firstColumn;
+    int bottomOffset = (bottom - firstRow) * tileWidth - firstColumn;
+    for (int column = left; column <= right; column++) {
+      if (!inside[topOffset + column] || !inside[bottomOffset + column]) {
+        return false;
+      }
+    }
+    for (int row = top + 1; row < bottom; row++) {
+      int offset = (row - firstRow) * tileWidth - firstColumn;
+      if (!inside[offset + left] || !inside[offset + right]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
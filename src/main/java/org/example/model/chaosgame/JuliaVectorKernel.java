@@ -0,0 +1,130 @@
+package org.example.model.chaosgame;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <h2>JuliaVectorKernel.</h2>
+ * <p>
+ * Calculates the escape time of a strip of pixels of a {@link JuliaSetGame} at once with the
+ * Vector API, one pixel per lane. Every lane is iterated until the whole strip is done, and a mask
+ * keeps track of the lanes that are still inside the escape radius. When a lane escapes, its point
+ * is saved for the smoothing in {@link JuliaSetGame#calculateValue(int, double, double)} and the
+ * lane stops counting iterations, so the loop only needs to blend vectors in the iterations where
+ * a lane escapes. The operations are done in the same order as in the scalar loop, so the pixels
+ * get the same values.
+ * </p>
+ * <p>
+ * The Vector API is in the incubator module jdk.incubator.vector, which must be added with
+ * {@code --add-modules jdk.incubator.vector} when the program is started. This class must only be
+ * used when the module is available, see {@link JuliaSetGame#isVectorKernelAvailable()}.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+final class JuliaVectorKernel {
+
+  private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+  /**
+   * The escaped points and iteration counts of the lanes of a strip, stored as the x-coordinates,
+   * the y-coordinates and the counts after each other. Each rendering thread keeps its own array,
+   * so no arrays are created per row.
+   */
+  private static final ThreadLocal<double[]> LANE_VALUES = ThreadLocal.withInitial(
+      () -> new double[3 * SPECIES.length()]);
+
+  private JuliaVectorKernel() {
+  }
+
+  /**
+   * Calculates the values of the pixels of one row from the given column, a strip of lanes at a
+   * time, and writes them to the buffer. Only whole strips are calculated, and the columns after
+   * the last whole strip are left for the caller.
+   *
+   * @param game         the game to calculate the values of the pixels with
+   * @param buffer       the row-major pixel buffer to write to
+   * @param offset       the index in the buffer of the first pixel of the row
+   * @param columnCoords the scaled x-coordinate of each column
+   * @param left         the first column
+   * @param right        the column after the last column
+   * @param rowCoord     the scaled y-coordinate of the row
+   * @param cx           the real part of the constant of the Julia set
+   * @param cy           the imaginary part of the constant of the Julia set
+   * @return the first column that was not calculated
+   */
+  static int calculateRow(JuliaSetGame game, int[] buffer, int offset, double[] columnCoords,
+      int left, int right, double rowCoord, double cx, double cy) {
+    int lanes = SPECIES.length();
+    int maxIterations = game.getMaxIterations();
+    double escapeRadius = game.getEscapeRadius();
+    boolean periodChecking = game.isPeriodChecking();
+    double[] laneValues = LANE_VALUES.get();
+
+    int column = left;
+    for (; column + lanes <= right; column += lanes) {
+      DoubleVector zx = DoubleVector.fromArray(SPECIES, columnCoords, column);
+      DoubleVector zy = DoubleVector.broadcast(SPECIES, rowCoord);
+      DoubleVector escapedX = zx;
+      DoubleVector escapedY = zy;
+      DoubleVector savedX = zx;
+      DoubleVector savedY = zy;
+      DoubleVector count = DoubleVector.zero(SPECIES);
+      VectorMask<Double> active = SPECIES.maskAll(true);
+      int nextSave = 1;
+      int iteration = 0;
+      while (true) {
+        DoubleVector squaredX = zx.mul(zx);
+        DoubleVector squaredY = zy.mul(zy);
+        VectorMask<Double> inside = squaredX.add(squaredY)
+            .compare(VectorOperators.LT, escapeRadius);
+        VectorMask<Double> escaped = active.andNot(inside);
+        if (escaped.anyTrue()) {
+          escapedX = escapedX.blend(zx, escaped);
+          escapedY = escapedY.blend(zy, escaped);
+          active = active.and(inside);
+          if (!active.anyTrue()) {
+            break;
+          }
+        }
+        if (iteration == maxIterations) {
+          escapedX = escapedX.blend(zx, active);
+          escapedY = escapedY.blend(zy, active);
+          break;
+        }
+        DoubleVector nextY = zx.mul(2.0).mul(zy).add(cy);
+        zx = squaredX.sub(squaredY).add(cx);
+        zy = nextY;
+        count = count.add(1.0, active);
+        iteration++;
+        if (periodChecking) {
+          VectorMask<Double> cycled = zx.compare(VectorOperators.EQ, savedX)
+              .and(zy.compare(VectorOperators.EQ, savedY)).and(active);
+          if (cycled.anyTrue()) {
+            count = count.blend((double) maxIterations, cycled);
+            active = active.andNot(cycled);
+            if (!active.anyTrue()) {
+              break;
+            }
+          }
+          if (iteration == nextSave) {
+            savedX = zx;
+            savedY = zy;
+            nextSave <<= 1;
+          }
+        }
+      }
+      escapedX.intoArray(laneValues, 0);
+      escapedY.intoArray(laneValues, lanes);
+      count.intoArray(laneValues, 2 * lanes);
+      for (int lane = 0; lane < lanes; lane++) {
+        buffer[offset + column + lane] = game.calculateValue((int) laneValues[2 * lanes + lane],
+            laneValues[lane], laneValues[lanes + lane]);
+      }
+    }
+    return column;
+  }
+}
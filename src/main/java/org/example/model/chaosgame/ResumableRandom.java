@@ -0,0 +1,75 @@
+package org.example.model.chaosgame;
+
+import java.util.Random;
+
+/**
+ * <h2>ResumableRandom.</h2>
+ * <p>
+ * A random number generator that gives the same numbers as {@link Random} for the same seed, but
+ * whose state can be read and restored. Used by {@link ChaosGame} so a checkpoint can continue
+ * the exact sequence of random numbers of the game it was saved from.
+ * </p>
+ * <p>
+ * The state is the 48-bit state of the linear congruential generator of {@link Random}. The
+ * cached value of {@link #nextGaussian()} is not part of the state. Unlike {@link Random}, the
+ * generator is not safe to use from several threads at once.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+class ResumableRandom extends Random {
+
+  private static final long MULTIPLIER = 0x5DEECE66DL;
+  private static final long ADDEND = 0xBL;
+  private static final long MASK = (1L << 48) - 1;
+
+  private long state;
+
+  /**
+   * Constructs a generator with a seed that is different for every generator.
+   */
+  ResumableRandom() {
+  }
+
+  /**
+   * Sets the seed of the generator, the same way as {@link Random#setSeed(long)}.
+   *
+   * @param seed the seed to use
+   */
+  @Override
+  public synchronized void setSeed(long seed) {
+    super.setSeed(seed);
+    state = (seed ^ MULTIPLIER) & MASK;
+  }
+
+  /**
+   * Returns the next random bits, with the same algorithm as {@link Random}.
+   *
+   * @param bits the number of random bits, at most 32
+   * @return the random bits
+   */
+  @Override
+  protected int next(int bits) {
+    state = (state * MULTIPLIER + ADDEND) & MASK;
+    return (int) (state >>> (48 - bits));
+  }
+
+  /**
+   * Returns the current state of the generator.
+   *
+   * @return the 48-bit state
+   */
+  long getState() {
+    return state;
+  }
+
+  /**
+   * Restores a state returned by {@link #getState()}.
+   *
+   * @param state the state to restore
+   */
+  void setState(long state) {
+    this.state = state & MASK;
+  }
+}
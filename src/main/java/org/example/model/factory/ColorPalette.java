@@ -0,0 +1,107 @@
+package org.example.model.factory;
+
+/**
+ * <h2>ColorPalette.</h2>
+ * <p>
+ * A lookup table that maps canvas values to ARGB colors for one base color. The colors are
+ * calculated once when the palette is created, so converting a canvas to an image only needs one
+ * array lookup per pixel.
+ * </p>
+ * <p>A value of 0 is transparent. Values up to 255 use the base color with an opacity of value /
+ * 255, and larger values fade the base color towards black. Values larger than the maximum value
+ * of the canvas use the color of the maximum value.</p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class ColorPalette {
+
+  /**
+   * The largest value a pixel on the canvas can have.
+   */
+  public static final int MAX_VALUE = 755;
+
+  private final int[] colors = new int[MAX_VALUE + 1];
+
+  /**
+   * Verifies that the given color component is between 0 and 1.
+   *
+   * @param component the component to verify
+   * @throws IllegalArgumentException if the component is not between 0 and 1
+   */
+  private void verifyValidComponent(double component) {
+    if (!(component >= 0 && component <= 1)) {
+      throw new IllegalArgumentException("Color components must be between 0 and 1");
+    }
+  }
+
+  /**
+   * Constructs a palette for the base color with the given red, green and blue components.
+   *
+   * @param red   the red component of the base color, between 0 and 1
+   * @param green the green component of the base color, between 0 and 1
+   * @param blue  the blue component of the base color, between 0 and 1
+   * @throws IllegalArgumentException if a component is not between 0 and 1
+   */
+  public ColorPalette(double red, double green, double blue) {
+    verifyValidComponent(red);
+    verifyValidComponent(green);
+    verifyValidComponent(blue);
+    for (int value = 1; value <= MAX_VALUE; value++) {
+      if (value <= 255) {
+        colors[value] = toArgb(red, green, blue, value / 255.0);
+      } else {
+        double alpha = 1.0 / (1.0 + Math.pow((value - 255) / 100.0, 2));
+        colors[value] = toArgb(red * alpha, green * alpha, blue * alpha, 1.0);
+      }
+    }
+  }
+
+  /**
+   * Converts the given color components to an ARGB value. The components are rounded to float
+   * precision first, the same way as JavaFX colors, so the result is the same as when writing a
+   * JavaFX color to an image.
+   *
+   * @param red     the red component
+   * @param green   the green component
+   * @param blue    the blue component
+   * @param opacity the opacity
+   * @return the ARGB value
+   */
+  private static int toArgb(double red, double green, double blue, double opacity) {
+    int a = (int) Math.round((float) opacity * 255.0);
+    int r = (int) Math.round((float) red * 255.0);
+    int g = (int) Math.round((float) green * 255.0);
+    int b = (int) Math.round((float) blue * 255.0);
+    return (a << 24) | (r << 16) | (g << 8) | b;
+  }
+
+  /**
+   * Returns the ARGB color of the given canvas value.
+   *
+   * @param value the canvas value
+   * @return the ARGB color of the value
+   */
+  public int getArgb(int value) {
+    if (value <= 0) {
+      return colors[0];
+    }
+    return colors[Math.min(value, MAX_VALUE)];
+  }
+
+  /**
+   * Converts the given canvas values to ARGB colors.
+   *
+   * @param values      the canvas values to convert
+   * @param destination the array to write the colors to, at least as long as the values
+   * @throws IllegalArgumentException if the destination is shorter than the values
+   */
+  public void toArgb(int[] values, int[] destination) {
+    if (destination.length < values.length) {
+      throw new IllegalArgumentException("Destination must have room for all values");
+    }
+    for (int i = 0; i < values.length; i++) {
+      destination[i] = getArgb(values[i]);
+    }
+  }
+}
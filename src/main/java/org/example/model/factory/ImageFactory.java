@@ -1,11 +1,12 @@
 package org.example.model.factory;
 
+import java.nio.IntBuffer;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 import org.example.model.chaosgame.ChaosCanvas;
-import org.example.model.math.Vector2D;
 
 
 /**
@@ -14,13 +15,24 @@ import org.example.model.math.Vector2D;
  * The ImageFactory class creates an image from a ChaosCanvas object. The class is used to create
  * images that are displayed on the interface.</p>
  * <p>The color of each pixel is calculated based on the value of the canvas, and the gradient made
- * with the color chosen by the user</p>
+ * with the color chosen by the user. The colors are read from a {@link ColorPalette} that is
+ * cached for the last color used, and written to the image one row at a time.</p>
+ * <p>Canvases in high dynamic range mode hold raw hit counts, which are tone mapped with a
+ * {@link ToneMapper} before they are converted to colors.</p>
  *
  * @version 1.0.0
  * @since 0.3.0
  */
 public class ImageFactory {
 
+  private ColorPalette palette;
+  private Color paletteColor;
+  private WritableImage reusableImage;
+  private int[] rowValues = new int[0];
+  private int[] rowColors = new int[0];
+  private int[] toneMappedValues = new int[0];
+  private ToneMapper toneMapper = new ToneMapper();
+
   /**
    * Constructor for ImageFactory.
    */
@@ -28,6 +40,28 @@ public class ImageFactory {
   }
 
 
+  /**
+   * Sets the tone mapper used for canvases in high dynamic range mode.
+   *
+   * @param toneMapper is the tone mapper to use.
+   * @throws IllegalArgumentException if the tone mapper is null.
+   */
+  public void setToneMapper(ToneMapper toneMapper) {
+    if (toneMapper == null) {
+      throw new IllegalArgumentException("Tone mapper cannot be null");
+    }
+    this.toneMapper = toneMapper;
+  }
+
+  /**
+   * Returns the tone mapper used for canvases in high dynamic range mode.
+   *
+   * @return the tone mapper.
+   */
+  public ToneMapper getToneMapper() {
+    return toneMapper;
+  }
+
   /**
    * Verifies that the canvas is not null.
    *
@@ -63,6 +97,31 @@ public class ImageFactory {
     return createImageInternal(canvas, color);
   }
 
+  /**
+   * Updates the image from the last call to this method with the values of the given canvas, and
+   * returns it. A new image is only created if there is no earlier image, or if the size of the
+   * canvas has changed. Used for images that are redrawn often, like the image displayed in the
+   * interface.
+   *
+   * @param canvas is the canvas to create the image from.
+   * @param color  is the color to use for the image.
+   * @return the updated image.
+   * @throws IllegalArgumentException if the canvas is null.
+   */
+  public Image updateImage(ChaosCanvas canvas, Color color) {
+    try {
+      verifyCanvasNotNull(canvas);
+      if (reusableImage == null || (int) reusableImage.getWidth() != canvas.getWidth()
+          || (int) reusableImage.getHeight() != canvas.getHeight()) {
+        reusableImage = new WritableImage(canvas.getWidth(), canvas.getHeight());
+      }
+      writePixels(canvas, getPalette(color), reusableImage);
+      return reusableImage;
+    } catch (Exception e) {
+      throw new IllegalArgumentException(e.getMessage());
+    }
+  }
+
   /**
    * Creates an image from a ChaosCanvas object with a specified color.
    *
@@ -75,14 +134,7 @@ public class ImageFactory {
     try {
       verifyCanvasNotNull(canvas);
       WritableImage image = new WritableImage(canvas.getWidth(), canvas.getHeight());
-      PixelWriter writer = image.getPixelWriter();
-      for (int i = 0; i < canvas.getWidth(); i++) {
-        for (int j = 0; j < canvas.getHeight(); j++) {
-          int pixelValue = canvas.getPixelFromCanvas(new Vector2D(i, j));
-          Color interpolatedColor = getColorFromValue(pixelValue, color);
-          writer.setColor(i, j, interpolatedColor);
-        }
-      }
+      writePixels(canvas, getPalette(color), image);
       return image;
     } catch (Exception e) {
       throw new IllegalArgumentException(e.getMessage());
@@ -90,23 +142,55 @@ public class ImageFactory {
   }
 
   /**
-   * Gets the color from a value.
+   * Returns the palette for the given color. The palette is only created again when the color
+   * changes.
    *
-   * @param value is the value to get the color from.
-   * @param color is the color to interpolate.
-   * @return the color from the value.
+   * @param color is the color to get the palette for.
+   * @return the palette for the color.
    */
-  private Color getColorFromValue(int value, Color color) {
-    if (value == 0) {
-      return Color.TRANSPARENT;
-    } else {
-      if (value <= 255) {
-        return new Color(color.getRed(), color.getGreen(), color.getBlue(), value / 255.0);
+  private ColorPalette getPalette(Color color) {
+    if (palette == null || !color.equals(paletteColor)) {
+      palette = new ColorPalette(color.getRed(), color.getGreen(), color.getBlue());
+      paletteColor = color;
+    }
+    return palette;
+  }
+
+  /**
+   * Writes the values of the canvas to the image, one row at a time. Each row is converted to
+   * ARGB colors with the palette, and written with a single call to the pixel writer. The raw hit
+   * counts of a high dynamic range canvas are tone mapped as a whole first, since the mapping
+   * depends on the counts of all pixels. They are read through a view of the canvas, so the canvas
+   * is not copied for each frame.
+   *
+   * @param canvas  is the canvas to read the values from.
+   * @param palette is the palette to convert the values with.
+   * @param image   is the image to write to, with the same size as the canvas.
+   */
+  private void writePixels(ChaosCanvas canvas, ColorPalette palette, WritableImage image) {
+    int width = canvas.getWidth();
+    if (rowValues.length != width) {
+      rowValues = new int[width];
+      rowColors = new int[width];
+    }
+    boolean toneMapped = canvas.isHighDynamicRange();
+    if (toneMapped) {
+      IntBuffer counts = canvas.getPixelView();
+      if (toneMappedValues.length != counts.limit()) {
+        toneMappedValues = new int[counts.limit()];
+      }
+      toneMapper.map(counts, toneMappedValues);
+    }
+    PixelWriter writer = image.getPixelWriter();
+    PixelFormat<IntBuffer> format = PixelFormat.getIntArgbInstance();
+    for (int j = 0; j < canvas.getHeight(); j++) {
+      if (toneMapped) {
+        System.arraycopy(toneMappedValues, j * width, rowValues, 0, width);
       } else {
-        double alpha = 1.0 / (1.0 + Math.pow((value - 255) / 100.0, 2));
-        return new Color(color.getRed() * alpha, color.getGreen() * alpha, color.getBlue() * alpha,
-            1.0);
+        canvas.getRow(j, rowValues);
       }
+      palette.toArgb(rowValues, rowColors);
+      writer.setPixels(0, j, width, 1, format, rowColors, 0, width);
     }
   }
 
@@ -0,0 +1,282 @@
+package org.example.model.factory;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * <h2>ToneMapper.</h2>
+ * <p>
+ * Maps the raw hit counts of a canvas in high dynamic range mode to the values used by
+ * {@link ColorPalette}, between 0 and {@link ColorPalette#MAX_VALUE}. The tone mapping is only
+ * done when an image is made, so the counts keep all the density information of the run.
+ * </p>
+ * <p>
+ * The counts are mapped by their log density: a pixel with c hits gets the value
+ * log(1 + c) / log(1 + r), where r is the reference count. The reference count is the count at the
+ * given percentile of the pixels that have been hit, so a few very dense pixels do not make the
+ * rest of the image dark. Values above 1 are cut to 1, and the result is raised to the power of
+ * 1 / gamma to brighten the thin parts of the image. Pixels that have been hit always get a value
+ * of at least 1, and pixels that have not been hit stay 0.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public class ToneMapper {
+
+  /**
+   * The gamma used by the default tone mapper.
+   */
+  public static final double DEFAULT_GAMMA = 2.2;
+
+  /**
+   * The percentile of the reference count used by the default tone mapper.
+   */
+  public static final double DEFAULT_PERCENTILE = 0.995;
+
+  private static final int MAX_CACHED_COUNT = 1 << 16;
+
+  private final double gamma;
+  private final double percentile;
+
+  private int[] histogram;
+  private int[] largeCounts = new int[0];
+  private int[] cache = new int[0];
+
+  /**
+   * Verifies that the given gamma is a positive number.
+   *
+   * @param gamma the gamma to verify
+   * @throws IllegalArgumentException if the gamma is not positive
+   */
+  private void verifyValidGamma(double gamma) {
+    if (!(gamma > 0) || Double.isInfinite(gamma)) {
+      throw new IllegalArgumentException("Gamma must be positive");
+    }
+  }
+
+  /**
+   * Verifies that the given percentile is larger than 0 and at most 1.
+   *
+   * @param percentile the percentile to verify
+   * @throws IllegalArgumentException if the percentile is not larger than 0 and at most 1
+   */
+  private void verifyValidPercentile(double percentile) {
+    if (!(percentile > 0 && percentile <= 1)) {
+      throw new IllegalArgumentException("Percentile must be larger than 0 and at most 1");
+    }
+  }
+
+  /**
+   * Constructs a tone mapper with the default gamma and percentile.
+   */
+  public ToneMapper() {
+    this(DEFAULT_GAMMA, DEFAULT_PERCENTILE);
+  }
+
+  /**
+   * Constructs a tone mapper with the given gamma and percentile.
+   *
+   * @param gamma      the gamma of the mapping, 1 for a plain log density
+   * @param percentile the percentile of the pixels that have been hit whose count is mapped to the
+   *                   largest value, 1 for the largest count
+   * @throws IllegalArgumentException if the gamma is not positive, or the percentile is not larger
+   *                                  than 0 and at most 1
+   */
+  public ToneMapper(double gamma, double percentile) {
+    verifyValidGamma(gamma);
+    verifyValidPercentile(percentile);
+    this.gamma = gamma;
+    this.percentile = percentile;
+  }
+
+  /**
+   * Returns the gamma of the mapping.
+   *
+   * @return the gamma
+   */
+  public double getGamma() {
+    return gamma;
+  }
+
+  /**
+   * Returns the percentile of the reference count.
+   *
+   * @return the percentile
+   */
+  public double getPercentile() {
+    return percentile;
+  }
+
+  /**
+   * Maps the given hit counts to palette values.
+   *
+   * @param counts the hit counts of the pixels
+   * @return the palette values of the pixels
+   */
+  public int[] map(int[] counts) {
+    int[] values = new int[counts.length];
+    map(counts, values);
+    return values;
+  }
+
+  /**
+   * Maps the given hit counts to palette values, and writes them to the destination.
+   *
+   * @param counts      the hit counts of the pixels
+   * @param destination the array to write the values to, at least as long as the counts
+   * @throws IllegalArgumentException if the destination is shorter than the counts
+   */
+  public void map(int[] counts, int[] destination) {
+    map(IntBuffer.wrap(counts), destination);
+  }
+
+  /**
+   * Maps the hit counts from index 0 up to the limit of the given buffer to palette values, and
+   * writes them to the destination. The buffer can be a read-only view of the pixels of a canvas,
+   * see {@link org.example.model.chaosgame.ChaosCanvas#getPixelView()}, so the counts do not have
+   * to be copied for each frame. The arrays used to find the reference count and to cache the
+   * values are kept by the tone mapper and reused.
+   *
+   * @param counts      the hit counts of the pixels
+   * @param destination the array to write the values to, at least as long as the counts
+   * @throws IllegalArgumentException if the destination is shorter than the counts
+   */
+  public synchronized void map(IntBuffer counts, int[] destination) {
+    int length = counts.limit();
+    if (destination.length < length) {
+      throw new IllegalArgumentException("Destination must have room for all values");
+    }
+    int reference = findReferenceCount(counts, length);
+    if (reference == 0) {
+      Arrays.fill(destination, 0, length, 0);
+      return;
+    }
+    double scale = 1 / Math.log1p(reference);
+    int cacheLength = Math.min(reference, MAX_CACHED_COUNT) + 1;
+    if (cache.length < cacheLength) {
+      cache = new int[MAX_CACHED_COUNT + 1];
+    }
+    for (int count = 1; count < cacheLength; count++) {
+      cache[count] = toValue(count, scale);
+    }
+    for (int i = 0; i < length; i++) {
+      int count = counts.get(i);
+      if (count <= 0) {
+        destination[i] = 0;
+      } else if (count < cacheLength) {
+        destination[i] = cache[count];
+      } else if (count >= reference) {
+        destination[i] = ColorPalette.MAX_VALUE;
+      } else {
+        destination[i] = toValue(count, scale);
+      }
+    }
+  }
+
+  /**
+   * Maps one hit count to a palette value.
+   *
+   * @param count the hit count, larger than 0
+   * @param scale one divided by the log density of the reference count
+   * @return the palette value, between 1 and {@link ColorPalette#MAX_VALUE}
+   */
+  private int toValue(int count, double scale) {
+    double density = Math.min(Math.log1p(count) * scale, 1);
+    int value = (int) Math.round(Math.pow(density, 1 / gamma) * ColorPalette.MAX_VALUE);
+    return Math.max(value, 1);
+  }
+
+  /**
+   * Returns the count at the percentile of the pixels that have been hit, or 0 if no pixel has
+   * been hit. Counts below {@link #MAX_CACHED_COUNT} are counted in a histogram, and larger counts
+   * are copied to a second array, where the count is found with a quickselect if it is not in the
+   * histogram. Both arrays are kept between calls, so no arrays are created per frame, and the
+   * result is the same as sorting the counts.
+   *
+   * @param counts the hit counts of the pixels
+   * @param length the number of pixels
+   * @return the reference count
+   */
+  private int findReferenceCount(IntBuffer counts, int length) {
+    if (histogram == null) {
+      histogram = new int[MAX_CACHED_COUNT];
+    }
+    int hitPixels = 0;
+    int largePixels = 0;
+    int largestSmallCount = 0;
+    for (int i = 0; i < length; i++) {
+      int count = counts.get(i);
+      if (count <= 0) {
+        continue;
+      }
+      hitPixels++;
+      if (count < MAX_CACHED_COUNT) {
+        histogram[count]++;
+        largestSmallCount = Math.max(largestSmallCount, count);
+      } else {
+        if (largePixels == largeCounts.length) {
+          largeCounts = Arrays.copyOf(largeCounts, Math.max(largePixels * 2, 16));
+        }
+        largeCounts[largePixels++] = count;
+      }
+    }
+    if (hitPixels == 0) {
+      return 0;
+    }
+    int rank = Math.max((int) Math.ceil(percentile * hitPixels) - 1, 0);
+    int reference = 0;
+    int seen = 0;
+    for (int count = 1; count <= largestSmallCount; count++) {
+      seen += histogram[count];
+      histogram[count] = 0;
+      if (reference == 0 && seen > rank) {
+        reference = count;
+      }
+    }
+    if (reference == 0) {
+      reference = select(largeCounts, largePixels, rank - seen);
+    }
+    return reference;
+  }
+
+  /**
+   * Returns the value that would be at the given index if the first values of the array were
+   * sorted. The order of those values is changed.
+   *
+   * @param values the values to select from
+   * @param length the number of values to select from
+   * @param index  the index in sorted order, from 0 up to, but not including, the length
+   * @return the value at the index in sorted order
+   */
+  private static int select(int[] values, int length, int index) {
+    int low = 0;
+    int high = length - 1;
+    while (low < high) {
+      int pivot = values[(low + high) >>> 1];
+      int i = low;
+      int j = high;
+      while (i <= j) {
+        while (values[i] < pivot) {
+          i++;
+        }
+        while (values[j] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          int swap = values[i];
+          values[i++] = values[j];
+          values[j--] = swap;
+        }
+      }
+      if (index <= j) {
+        high = j;
+      } else if (index >= i) {
+        low = i;
+      } else {
+        return values[index];
+      }
+    }
+    return values[index];
+  }
+}
@@ -0,0 +1,300 @@
+package org.example.model.math;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * <h2>DoubleDouble.</h2>
+ * <p>
+ * A mutable number with about twice the precision of a double (106 bits, about 32 decimal digits),
+ * stored as the unevaluated sum of two doubles, hi + lo, where lo is smaller than half a unit in
+ * the last place of hi. The range is the same as for a double.
+ * </p>
+ * <p>
+ * The operations change this number and return it, so calculations can be chained without
+ * creating any objects. The sums use the error-free transformation of Knuth, and the products
+ * use {@link Math#fma(double, double, double)} to find the rounding error of the product of the
+ * high parts. This is many times faster than {@link BigDecimal} with the same precision.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public final class DoubleDouble {
+
+  private static final MathContext DIGITS = new MathContext(32);
+
+  private double hi;
+  private double lo;
+
+  /**
+   * Checks if the given number is null and throws an IllegalArgumentException if it is.
+   *
+   * @param number the number to check
+   * @param name   the name to use in the exception message
+   * @throws IllegalArgumentException if the given number is null
+   */
+  private static void verifyNotNull(Object number, String name) {
+    if (number == null) {
+      throw new IllegalArgumentException(name + " cannot be null");
+    }
+  }
+
+  /**
+   * Constructs a new number with the value 0.
+   */
+  public DoubleDouble() {
+  }
+
+  /**
+   * Constructs a new number with the given value.
+   *
+   * @param value the value
+   */
+  public DoubleDouble(double value) {
+    set(value);
+  }
+
+  /**
+   * Constructs a new number with the value of the given number.
+   *
+   * @param number the number to copy
+   * @throws IllegalArgumentException if the given number is null
+   */
+  public DoubleDouble(DoubleDouble number) {
+    set(number);
+  }
+
+  /**
+   * Constructs a new number with the value of the given decimal, rounded to the precision of a
+   * double-double.
+   *
+   * @param value the value
+   * @throws IllegalArgumentException if the given value is null
+   */
+  public DoubleDouble(BigDecimal value) {
+    set(value);
+  }
+
+  /**
+   * Returns the high part of this number, which is the value rounded to a double.
+   *
+   * @return the high part
+   */
+  public double getHi() {
+    return hi;
+  }
+
+  /**
+   * Returns the low part of this number, which is the rounding error of the high part.
+   *
+   * @return the low part
+   */
+  public double getLo() {
+    return lo;
+  }
+
+  /**
+   * Sets this number to the given value.
+   *
+   * @param value the value
+   * @return this number
+   */
+  public DoubleDouble set(double value) {
+    hi = value;
+    lo = 0;
+    return this;
+  }
+
+  /**
+   * Sets this number to the value of the given number.
+   *
+   * @param number the number to copy
+   * @return this number
+   * @throws IllegalArgumentException if the given number is null
+   */
+  public DoubleDouble set(DoubleDouble number) {
+    verifyNotNull(number, "Number");
+    hi = number.hi;
+    lo = number.lo;
+    return this;
+  }
+
+  /**
+   * Sets this number to the value of the given decimal, rounded to the precision of a
+   * double-double.
+   *
+   * @param value the value
+   * @return this number
+   * @throws IllegalArgumentException if the given value is null
+   */
+  public DoubleDouble set(BigDecimal value) {
+    verifyNotNull(value, "Value");
+    double high = value.doubleValue();
+    double low = Double.isFinite(high) ? value.subtract(new BigDecimal(high)).doubleValue() : 0;
+    return normalize(high, low);
+  }
+
+  /**
+   * Adds the given number to this number.
+   *
+   * @param number the number to add
+   * @return this number
+   * @throws IllegalArgumentException if the given number is null
+   */
+  public DoubleDouble add(DoubleDouble number) {
+    verifyNotNull(number, "Number");
+    return add(number.hi, number.lo);
+  }
+
+  /**
+   * Adds the given double to this number.
+   *
+   * @param value the value to add
+   * @return this number
+   */
+  public DoubleDouble add(double value) {
+    return add(value, 0);
+  }
+
+  /**
+   * Subtracts the given number from this number.
+   *
+   * @param number the number to subtract
+   * @return this number
+   * @throws IllegalArgumentException if the given number is null
+   */
+  public DoubleDouble subtract(DoubleDouble number) {
+    verifyNotNull(number, "Number");
+    return add(-number.hi, -number.lo);
+  }
+
+  /**
+   * Subtracts the given double from this number.
+   *
+   * @param value the value to subtract
+   * @return this number
+   */
+  public DoubleDouble subtract(double value) {
+    return add(-value, 0);
+  }
+
+  /**
+   * Multiplies this number by the given number.
+   *
+   * @param number the number to multiply by
+   * @return this number
+   * @throws IllegalArgumentException if the given number is null
+   */
+  public DoubleDouble multiply(DoubleDouble number) {
+    verifyNotNull(number, "Number");
+    double product = hi * number.hi;
+    double error = Math.fma(hi, number.hi, -product) + (hi * number.lo + lo * number.hi);
+    return normalize(product, error);
+  }
+
+  /**
+   * Multiplies this number by the given double.
+   *
+   * @param value the value to multiply by
+   * @return this number
+   */
+  public DoubleDouble multiply(double value) {
+    double product = hi * value;
+    double error = Math.fma(hi, value, -product) + lo * value;
+    return normalize(product, error);
+  }
+
+  /**
+   * Multiplies this number by itself.
+   *
+   * @return this number
+   */
+  public DoubleDouble square() {
+    double product = hi * hi;
+    double error = Math.fma(hi, hi, -product) + 2.0 * hi * lo;
+    return normalize(product, error);
+  }
+
+  /**
+   * Changes the sign of this number.
+   *
+   * @return this number
+   */
+  public DoubleDouble negate() {
+    hi = -hi;
+    lo = -lo;
+    return this;
+  }
+
+  /**
+   * Returns the value of this number rounded to a double.
+   *
+   * @return the value as a double
+   */
+  public double doubleValue() {
+    return hi + lo;
+  }
+
+  /**
+   * Returns the exact value of this number as a decimal.
+   *
+   * @return the value as a decimal
+   * @throws NumberFormatException if this number is infinite or not a number
+   */
+  public BigDecimal toBigDecimal() {
+    return new BigDecimal(hi).add(new BigDecimal(lo));
+  }
+
+  /**
+   * Adds the double-double with the given high and low parts to this number. Both the high parts
+   * and the low parts are added with their rounding errors, so the sum keeps the full precision
+   * even when the numbers almost cancel.
+   *
+   * @param otherHi the high part of the number to add
+   * @param otherLo the low part of the number to add
+   * @return this number
+   */
+  private DoubleDouble add(double otherHi, double otherLo) {
+    double sum = hi + otherHi;
+    double virtual = sum - hi;
+    double error = (hi - (sum - virtual)) + (otherHi - virtual);
+    double lowSum = lo + otherLo;
+    double lowVirtual = lowSum - lo;
+    double lowError = (lo - (lowSum - lowVirtual)) + (otherLo - lowVirtual);
+    error += lowSum;
+    double high = sum + error;
+    error = error - (high - sum);
+    error += lowError;
+    return normalize(high, error);
+  }
+
+  /**
+   * Sets this number to the sum of the given high part and error, so that the low part is smaller
+   * than half a unit in the last place of the high part.
+   *
+   * @param high  the high part
+   * @param error the error of the high part, smaller than the high part
+   * @return this number
+   */
+  private DoubleDouble normalize(double high, double error) {
+    double sum = high + error;
+    lo = error - (sum - high);
+    hi = sum;
+    return this;
+  }
+
+  /**
+   * Returns a string representation of this number, with the 32 significant digits of its
+   * precision.
+   *
+   * @return a string representation of this number
+   */
+  @Override
+  public String toString() {
+    if (!Double.isFinite(hi)) {
+      return Double.toString(hi);
+    }
+    return toBigDecimal().round(DIGITS).toString();
+  }
+}
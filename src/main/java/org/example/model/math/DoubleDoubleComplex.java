@@ -0,0 +1,207 @@
+package org.example.model.math;
+
+import java.math.BigDecimal;
+
+/**
+ * <h2>DoubleDoubleComplex.</h2>
+ * <p>
+ * A mutable complex number whose real and imaginary parts are {@link DoubleDouble} numbers, the
+ * high precision counterpart of {@link Complex}.
+ * </p>
+ * <p>
+ * Like {@link DoubleDouble}, the operations change this number and return it. The intermediate
+ * values are kept in fields of the number, so no objects are created by the operations, but a
+ * number must not be used by several threads at once.
+ * </p>
+ *
+ * @version 1.0.0
+ * @since 0.5.0
+ */
+public final class DoubleDoubleComplex {
+
+  private final DoubleDouble real = new DoubleDouble();
+  private final DoubleDouble imaginary = new DoubleDouble();
+  private final DoubleDouble first = new DoubleDouble();
+  private final DoubleDouble second = new DoubleDouble();
+
+  /**
+   * Checks if the given complex number is null and throws an IllegalArgumentException if it is.
+   *
+   * @param complex the complex number to check
+   * @throws IllegalArgumentException if the given complex number is null
+   */
+  private static void verifyNotNull(DoubleDoubleComplex complex) {
+    if (complex == null) {
+      throw new IllegalArgumentException("Complex cannot be null");
+    }
+  }
+
+  /**
+   * Constructs a new complex number with the value 0.
+   */
+  public DoubleDoubleComplex() {
+  }
+
+  /**
+   * Constructs a new complex number with the given real and imaginary parts.
+   *
+   * @param real      the real part
+   * @param imaginary the imaginary part
+   */
+  public DoubleDoubleComplex(double real, double imaginary) {
+    set(real, imaginary);
+  }
+
+  /**
+   * Constructs a new complex number with the given real and imaginary parts, rounded to the
+   * precision of a double-double.
+   *
+   * @param real      the real part
+   * @param imaginary the imaginary part
+   * @throws IllegalArgumentException if a part is null
+   */
+  public DoubleDoubleComplex(BigDecimal real, BigDecimal imaginary) {
+    set(real, imaginary);
+  }
+
+  /**
+   * Returns the real part of this complex number. The returned number is the part itself, so
+   * changing it changes this complex number.
+   *
+   * @return the real part
+   */
+  public DoubleDouble getReal() {
+    return real;
+  }
+
+  /**
+   * Returns the imaginary part of this complex number. The returned number is the part itself, so
+   * changing it changes this complex number.
+   *
+   * @return the imaginary part
+   */
+  public DoubleDouble getImaginary() {
+    return imaginary;
+  }
+
+  /**
+   * Sets the real and imaginary parts of this complex number.
+   *
+   * @param real      the real part
+   * @param imaginary the imaginary part
+   * @return this complex number
+   */
+  public DoubleDoubleComplex set(double real, double imaginary) {
+    this.real.set(real);
+    this.imaginary.set(imaginary);
+    return this;
+  }
+
+  /**
+   * Sets the real and imaginary parts of this complex number, rounded to the precision of a
+   * double-double.
+   *
+   * @param real      the real part
+   * @param imaginary the imaginary part
+   * @return this complex number
+   * @throws IllegalArgumentException if a part is null
+   */
+  public DoubleDoubleComplex set(BigDecimal real, BigDecimal imaginary) {
+    this.real.set(real);
+    this.imaginary.set(imaginary);
+    return this;
+  }
+
+  /**
+   * Sets this complex number to the value of the given complex number.
+   *
+   * @param complex the complex number to copy
+   * @return this complex number
+   * @throws IllegalArgumentException if the given complex number is null
+   */
+  public DoubleDoubleComplex set(DoubleDoubleComplex complex) {
+    verifyNotNull(complex);
+    real.set(complex.real);
+    imaginary.set(complex.imaginary);
+    return this;
+  }
+
+  /**
+   * Adds the given complex number to this complex number.
+   *
+   * @param complex the complex number to add
+   * @return this complex number
+   * @throws IllegalArgumentException if the given complex number is null
+   */
+  public DoubleDoubleComplex add(DoubleDoubleComplex complex) {
+    verifyNotNull(complex);
+    real.add(complex.real);
+    imaginary.add(complex.imaginary);
+    return this;
+  }
+
+  /**
+   * Adds the complex number with the given real and imaginary parts to this complex number.
+   *
+   * @param real      the real part to add
+   * @param imaginary the imaginary part to add
+   * @return this complex number
+   */
+  public DoubleDoubleComplex add(double real, double imaginary) {
+    this.real.add(real);
+    this.imaginary.add(imaginary);
+    return this;
+  }
+
+  /**
+   * Multiplies this complex number by the given complex number.
+   *
+   * @param complex the complex number to multiply by
+   * @return this complex number
+   * @throws IllegalArgumentException if the given complex number is null
+   */
+  public DoubleDoubleComplex multiply(DoubleDoubleComplex complex) {
+    verifyNotNull(complex);
+    first.set(real).multiply(complex.real);
+    second.set(imaginary).multiply(complex.imaginary);
+    first.subtract(second);
+    second.set(real).multiply(complex.imaginary);
+    imaginary.multiply(complex.real).add(second);
+    real.set(first);
+    return this;
+  }
+
+  /**
+   * Multiplies this complex number by itself.
+   *
+   * @return this complex number
+   */
+  public DoubleDoubleComplex square() {
+    first.set(real).square();
+    second.set(imaginary).square();
+    imaginary.multiply(real).multiply(2.0);
+    real.set(first).subtract(second);
+    return this;
+  }
+
+  /**
+   * Returns the squared distance of this complex number from the origin, rounded to a double.
+   *
+   * @return the squared absolute value
+   */
+  public double normSquared() {
+    double x = real.doubleValue();
+    double y = imaginary.doubleValue();
+    return x * x + y * y;
+  }
+
+  /**
+   * Returns a string representation of this complex number.
+   *
+   * @return a string representation of this complex number
+   */
+  @Override
+  public String toString() {
+    return real + " + " + imaginary + "i";
+  }
+}
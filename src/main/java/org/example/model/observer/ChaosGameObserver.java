@@ -26,7 +26,11 @@ public interface ChaosGameObserver {
   void updateDescription(ChaosGameDescription description);
 
   /**
-   * Observes a change in the canvas of the Chaos Game.
+   * Observes a change in the canvas of the Chaos Game. The canvas is a read-only buffer that the
+   * game reuses for later frames once it is no longer shown. An observer that keeps the canvas
+   * after this method returns, for example to draw it later on another thread, must call
+   * {@link ChaosCanvas#retain()} before returning and {@link ChaosCanvas#release()} when it is done
+   * with it. Otherwise the pixels can be overwritten while it reads them.
    *
    * @param canvas the new canvas of the Chaos Game.
    */
@@ -0,0 +1,159 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.example.cli.BatchRenderer;
+import org.example.cli.BatchReport;
+import org.example.cli.BatchResult;
+import org.example.cli.RenderJob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchRendererTest {
+
+  private static final Path TEST_FILES = Path.of("src/test/resources/testfiles");
+
+  private static RenderJob createTemplate() {
+    return new RenderJob("batch", "images", 60, 40, 5_000, 20, 2.0, new double[]{1, 0, 0}, 1L,
+        1);
+  }
+
+  @Nested
+  @DisplayName("Positive tests")
+  class PositiveTests {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("findDescriptions finds the description files of a folder or glob in order")
+    void testFindDescriptions() {
+      try {
+        Files.writeString(folder.resolve("b.txt"), "");
+        Files.writeString(folder.resolve("a.txt"), "");
+        Files.writeString(folder.resolve("c.cgb"), "");
+
+        Files.writeString(folder.resolve("d.png"), "");
+        assertEquals(List.of(folder.resolve("a.txt"), folder.resolve("b.txt"),
+            folder.resolve("c.cgb")), BatchRenderer.findDescriptions(folder.toString()));
+        assertEquals(List.of(folder.resolve("c.cgb")),
+            BatchRenderer.findDescriptions(folder + "/c.*"));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("render writes every valid file and reports the invalid ones")
+    void testRenderIsolatesFailures() {
+      try {
+        List<Path> files = new ArrayList<>();
+        for (String name : List.of("testFile.txt", "testFileEmpyFile.txt", "testFileJulia.txt",
+            "testFileNoCoords.txt")) {
+          files.add(Files.copy(TEST_FILES.resolve(name), folder.resolve(name)));
+        }
+        Path images = folder.resolve("images");
+        List<BatchResult> finished = Collections.synchronizedList(new ArrayList<>());
+
+        BatchReport report = new BatchRenderer(2).render(files, images, createTemplate(),
+            finished::add);
+
+        assertEquals(4, finished.size());
+        assertEquals(2, report.getSucceededCount());
+        assertEquals(2, report.getFailedCount());
+        List<BatchResult> results = report.getResults();
+        assertTrue(results.get(0).isSuccessful());
+        assertTrue(Files.exists(images.resolve("testFile.png")));
+        assertFalse(results.get(1).isSuccessful());
+        assertEquals("Description file is empty", results.get(1).getError());
+        assertTrue(results.get(2).isSuccessful());
+        assertTrue(Files.exists(images.resolve("testFileJulia.png")));
+        assertFalse(results.get(3).isSuccessful());
+        assertFalse(Files.exists(images.resolve("testFileNoCoords.png")));
+        assertTrue(report.toString().startsWith("Rendered 2 of 4 files"));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("render keeps the extension of files that only differ in their extension")
+    void testRenderKeepsExtensionOfSameNames() {
+      try {
+        Files.copy(TEST_FILES.resolve("testFile.txt"), folder.resolve("fern.txt"));
+        Files.copy(TEST_FILES.resolve("testFileJulia.txt"), folder.resolve("julia.txt"));
+        Path copy = folder.resolve("copy");
+        Files.createDirectory(copy);
+        Files.copy(TEST_FILES.resolve("testFile.txt"), copy.resolve("fern.cgb"));
+        List<Path> files = List.of(folder.resolve("fern.txt"), copy.resolve("fern.cgb"),
+            folder.resolve("julia.txt"));
+        Path images = folder.resolve("images");
+
+        BatchReport report = new BatchRenderer(3).render(files, images, createTemplate(),
+            result -> { });
+
+        assertEquals(3, report.getSucceededCount());
+        assertEquals(images.resolve("fern.txt.png"), report.getResults().get(0).getImageFile());
+        assertEquals(images.resolve("fern.cgb.png"), report.getResults().get(1).getImageFile());
+        assertEquals(images.resolve("julia.png"), report.getResults().get(2).getImageFile());
+        assertTrue(Files.exists(images.resolve("fern.txt.png")));
+        assertTrue(Files.exists(images.resolve("fern.cgb.png")));
+        assertFalse(Files.exists(images.resolve("fern.png")));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Constructor throws an exception when the worker count is not positive")
+    void testConstructorThrowsExceptionWithZeroWorkers() {
+      try {
+        new BatchRenderer(0);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Worker count must be positive", e.getMessage());
+      }
+    }
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("render throws an exception when two files would write the same image")
+    void testRenderThrowsExceptionWithSameImage() {
+      try {
+        Path images = folder.resolve("images");
+        new BatchRenderer(2).render(List.of(folder.resolve("a/fern.txt"),
+            folder.resolve("b/fern.txt")), images, createTemplate(), result -> { });
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Several files would be written to: "
+            + folder.resolve("images/fern.txt.png"), e.getMessage());
+        assertFalse(Files.exists(folder.resolve("images")));
+      }
+    }
+
+    @Test
+    @DisplayName("findDescriptions throws an exception when the folder does not exist")
+    void testFindDescriptionsThrowsExceptionWithMissingFolder() {
+      try {
+        BatchRenderer.findDescriptions("src/test/resources/missing/*.txt");
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Folder not found: " + Path.of("src/test/resources/missing"), e.getMessage());
+      }
+    }
+  }
+}
@@ -2,6 +2,7 @@ package org.example.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.IntBuffer;
 import java.util.Arrays;
 import org.example.model.chaosgame.ChaosCanvas;
 import org.example.model.math.Vector2D;
@@ -155,6 +156,52 @@ class ChaosCanvasTest {
       }
     }
 
+    @Test
+    @DisplayName("addToPixel adds the value to the pixel")
+    void testAddToPixelAddsValue() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(100, 100, new Vector2D(0, 0),
+            new Vector2D(200, 200));
+        chaosCanvas.addToPixel(50, 150, 5);
+        chaosCanvas.addToPixel(50, 150, 7);
+        assertEquals(12, chaosCanvas.getPixelFromCoords(new Vector2D(50, 150)));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("addToPixel sets the same pixel as setPixelWithCoords")
+    void testAddToPixelMatchesSetPixelWithCoords() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(37, 23, new Vector2D(-1.3, 0.2),
+            new Vector2D(2.9, 4.7));
+        ChaosCanvas chaosCanvas2 = new ChaosCanvas(37, 23, new Vector2D(-1.3, 0.2),
+            new Vector2D(2.9, 4.7));
+        chaosCanvas.addToPixel(0.77, 3.31, 9);
+        chaosCanvas2.setPixelWithCoords(new Vector2D(0.77, 3.31), 9);
+        assertEquals(chaosCanvas2.toString(), chaosCanvas.toString());
+        assertEquals(9, chaosCanvas.getPixelFromCoords(new Vector2D(0.77, 3.31)));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("addToPixel does not go above 755")
+    void testAddToPixelIsCapped() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(100, 100, new Vector2D(0, 0),
+            new Vector2D(200, 200));
+        for (int i = 0; i < 5; i++) {
+          chaosCanvas.addToPixel(10, 10, 255);
+        }
+        assertEquals(755, chaosCanvas.getPixelFromCoords(new Vector2D(10, 10)));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
     @Test
     @DisplayName("transformCoordsToIndices throws no exceptions with valid input")
     void testTransformCoordsToIndicesThrowsNoExceptions() {
@@ -316,6 +363,167 @@ class ChaosCanvasTest {
       }
     }
 
+    @Test
+    @DisplayName("getCanvasArray returns a deep copy")
+    void testGetCanvasArrayReturnsDeepCopy() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(11, 11, new Vector2D(0, 0),
+            new Vector2D(10, 10));
+        int[][] result = chaosCanvas.getCanvasArray();
+        result[0][10] = 42;
+        assertEquals(0, chaosCanvas.getPixelFromCoords(new Vector2D(0, 0)));
+        chaosCanvas.setPixelWithCoords(new Vector2D(0, 0));
+        assertEquals(255, chaosCanvas.getCanvasArray()[0][10]);
+        assertEquals(42, result[0][10]);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Deep copy constructor does not share pixels with the original")
+    void testDeepCopyConstructorDoesNotSharePixels() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(11, 11, new Vector2D(0, 0),
+            new Vector2D(10, 10));
+        ChaosCanvas chaosCanvas2 = new ChaosCanvas(chaosCanvas);
+        chaosCanvas.setPixelWithCoords(new Vector2D(5, 5));
+        assertEquals(255, chaosCanvas.getPixelFromCoords(new Vector2D(5, 5)));
+        assertEquals(0, chaosCanvas2.getPixelFromCoords(new Vector2D(5, 5)));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Pixels are stored row by row")
+    void testPixelsAreStoredRowByRow() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(4, 3, new Vector2D(0, 0),
+            new Vector2D(3, 2));
+        chaosCanvas.setPixelWithCoords(new Vector2D(3, 2));
+        chaosCanvas.setPixelWithCoords(new Vector2D(1, 0), 7);
+
+        assertEquals(255, chaosCanvas.getPixel(3, 0));
+        assertEquals(255, chaosCanvas.getPixel(3));
+        assertEquals(7, chaosCanvas.getPixel(1, 2));
+        assertEquals(7, chaosCanvas.getPixel(2 * 4 + 1));
+        assertEquals(7, chaosCanvas.getPixels()[9]);
+
+        int[] row = new int[4];
+        chaosCanvas.getRow(0, row);
+        assertArrayEquals(new int[]{0, 0, 0, 255}, row);
+        chaosCanvas.setPixel(4, 3);
+        chaosCanvas.getRow(1, row);
+        assertArrayEquals(new int[]{3, 0, 0, 0}, row);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("reset clears the canvas and uses the new coordinates")
+    void testResetClearsCanvasAndUsesNewCoordinates() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(11, 11, new Vector2D(0, 0),
+            new Vector2D(10, 10));
+        chaosCanvas.setPixelWithCoords(new Vector2D(5, 5));
+        chaosCanvas.reset(new Vector2D(10, 10), new Vector2D(20, 20));
+
+        assertEquals(0, chaosCanvas.getPixel(5, 5));
+        assertEquals(11, chaosCanvas.getWidth());
+        chaosCanvas.setPixelWithCoords(new Vector2D(20, 20));
+        assertEquals(255, chaosCanvas.getPixel(10, 0));
+        assertEquals(new ChaosCanvas(11, 11, new Vector2D(10, 10), new Vector2D(20, 20))
+            .indexOf(13.3, 17.1), chaosCanvas.indexOf(13.3, 17.1));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("resize clears the canvas and changes its size")
+    void testResizeClearsCanvasAndChangesSize() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(10, 10, new Vector2D(0, 0),
+            new Vector2D(9, 9));
+        chaosCanvas.setPixel(99, 7);
+        chaosCanvas.resize(4, 5, new Vector2D(0, 0), new Vector2D(3, 4));
+        assertEquals(4, chaosCanvas.getWidth());
+        assertEquals(5, chaosCanvas.getHeight());
+        assertArrayEquals(new int[20], chaosCanvas.getPixels());
+        chaosCanvas.setPixel(19, 3);
+
+        chaosCanvas.resize(20, 20, new Vector2D(0, 0), new Vector2D(19, 19));
+        assertArrayEquals(new int[400], chaosCanvas.getPixels());
+        chaosCanvas.setPixelWithCoords(new Vector2D(19, 0));
+        assertEquals(255, chaosCanvas.getPixel(19, 19));
+        assertEquals(400, new ChaosCanvas(chaosCanvas).getPixels().length);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("getPixelView shows one read-only value per pixel after a resize")
+    void testGetPixelViewShowsPixelsWithoutCopy() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(10, 10, new Vector2D(0, 0),
+            new Vector2D(9, 9));
+        chaosCanvas.resize(4, 5, new Vector2D(0, 0), new Vector2D(3, 4));
+        chaosCanvas.setPixel(19, 3);
+        IntBuffer view = chaosCanvas.getPixelView();
+        assertEquals(20, view.limit());
+        assertEquals(3, view.get(19));
+        assertTrue(view.isReadOnly());
+        chaosCanvas.setPixel(0, 5);
+        assertEquals(5, view.get(0));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("snapshot keeps its pixels when the canvas changes")
+    void testSnapshotKeepsPixelsWhenCanvasChanges() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(11, 11, new Vector2D(0, 0),
+            new Vector2D(10, 10));
+        chaosCanvas.setPixelWithCoords(new Vector2D(5, 5));
+        ChaosCanvas snapshot = chaosCanvas.snapshot();
+
+        chaosCanvas.addToPixel(5, 5, 10);
+        chaosCanvas.setPixelWithCoords(new Vector2D(1, 1));
+        assertEquals(255, snapshot.getPixelFromCoords(new Vector2D(5, 5)));
+        assertEquals(0, snapshot.getPixelFromCoords(new Vector2D(1, 1)));
+        assertEquals(265, chaosCanvas.getPixelFromCoords(new Vector2D(5, 5)));
+
+        chaosCanvas.clear();
+        assertEquals(255, snapshot.getPixelFromCoords(new Vector2D(5, 5)));
+        assertTrue(snapshot.isReadOnly());
+        assertFalse(chaosCanvas.isReadOnly());
+        assertSame(snapshot, snapshot.snapshot());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Copy of a snapshot can be changed")
+    void testCopyOfSnapshotCanBeChanged() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(11, 11, new Vector2D(0, 0),
+            new Vector2D(10, 10));
+        ChaosCanvas copy = new ChaosCanvas(chaosCanvas.snapshot());
+        copy.setPixelWithCoords(new Vector2D(5, 5));
+        assertFalse(copy.isReadOnly());
+        assertEquals(255, copy.getPixelFromCoords(new Vector2D(5, 5)));
+        assertEquals(0, chaosCanvas.getPixelFromCoords(new Vector2D(5, 5)));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
     @Test
     @DisplayName("clear method clears the canvas")
     void testClearMethodClearsCanvas() {
@@ -378,6 +586,26 @@ class ChaosCanvasTest {
       }
     }
 
+    @Test
+    @DisplayName("addHitCounts adds raw counts without the cap of 755")
+    void testAddHitCountsIsNotCapped() {
+      ChaosCanvas canvas = new ChaosCanvas(2, 2, new Vector2D(0, 0), new Vector2D(1, 1));
+      canvas.setHighDynamicRange(true);
+      canvas.addHitCounts(new int[]{1000, 0, 3, Integer.MAX_VALUE});
+      canvas.addHitCounts(new int[]{1000, 0, 0, 5});
+      assertArrayEquals(new int[]{2000, 0, 3, Integer.MAX_VALUE}, canvas.getPixels());
+    }
+
+    @Test
+    @DisplayName("Snapshots and copies keep the high dynamic range mode")
+    void testSnapshotKeepsHighDynamicRange() {
+      ChaosCanvas canvas = new ChaosCanvas(2, 2, new Vector2D(0, 0), new Vector2D(1, 1));
+      assertFalse(canvas.isHighDynamicRange());
+      canvas.setHighDynamicRange(true);
+      assertTrue(canvas.snapshot().isHighDynamicRange());
+      assertTrue(new ChaosCanvas(canvas).isHighDynamicRange());
+    }
+
   }
 
 
@@ -482,6 +710,111 @@ class ChaosCanvasTest {
       }
     }
 
+    @Test
+    @DisplayName("addToPixel does nothing when given point is not within the given parameters")
+    void addToPixelDoesNothingOnPointNotWithinParameters() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(100, 100, new Vector2D(0, 0),
+            new Vector2D(200, 200));
+        chaosCanvas.addToPixel(300, 300, 5);
+        chaosCanvas.addToPixel(-1, 100, 5);
+        assertEquals(0, Arrays.stream(chaosCanvas.getCanvasArray()).flatMapToInt(Arrays::stream).max().getAsInt());
+      } catch (Exception e) {
+        fail(e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("getPixel throws IllegalArgumentException when the pixel is outside the canvas")
+    void getPixelThrowsExceptionOnPixelOutsideCanvas() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(100, 50, new Vector2D(0, 0),
+            new Vector2D(200, 200));
+        chaosCanvas.getPixel(10, 50);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals(e.getMessage(), "Pixel 10, 50 is outside the canvas");
+      }
+    }
+
+    @Test
+    @DisplayName("getPixel throws an exception for an index outside a resized canvas")
+    void getPixelThrowsExceptionOnIndexOutsideResizedCanvas() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(10, 10, new Vector2D(0, 0),
+            new Vector2D(9, 9));
+        chaosCanvas.resize(5, 5, new Vector2D(0, 0), new Vector2D(4, 4));
+        chaosCanvas.getPixel(25);
+        fail("An exception was not thrown");
+      } catch (IndexOutOfBoundsException e) {
+        assertNotNull(e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("resize throws IllegalArgumentException with invalid coordinates")
+    void resizeThrowsExceptionWithInvalidCoordinates() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(10, 10, new Vector2D(0, 0),
+            new Vector2D(9, 9));
+        chaosCanvas.resize(5, 5, new Vector2D(4, 4), new Vector2D(0, 0));
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Minimum coordinates must be less than maximum coordinates", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("reset throws IllegalArgumentException when given coordinates are null")
+    void resetThrowsExceptionWithNullCoordinates() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(10, 10, new Vector2D(0, 0),
+            new Vector2D(9, 9));
+        chaosCanvas.reset(null, new Vector2D(9, 9));
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Vector cannot be null", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Changing a snapshot throws UnsupportedOperationException")
+    void changingSnapshotThrowsException() {
+      ChaosCanvas snapshot = new ChaosCanvas(10, 10, new Vector2D(0, 0),
+          new Vector2D(9, 9)).snapshot();
+      Runnable[] changes = {
+          () -> snapshot.setPixel(0, 1),
+          () -> snapshot.addToPixel(1, 1, 1),
+          () -> snapshot.setPixelWithCoords(new Vector2D(1, 1)),
+          () -> snapshot.addHits(new int[100], 1),
+          () -> snapshot.addHitCounts(new int[100]),
+          () -> snapshot.setHighDynamicRange(true),
+          () -> snapshot.clear(),
+          () -> snapshot.reset(new Vector2D(0, 0), new Vector2D(1, 1))
+      };
+      for (Runnable change : changes) {
+        try {
+          change.run();
+          fail("An exception was not thrown");
+        } catch (UnsupportedOperationException e) {
+          assertEquals("Canvas is read-only", e.getMessage());
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("getRow throws IllegalArgumentException when the array is too small")
+    void getRowThrowsExceptionOnSmallArray() {
+      try {
+        ChaosCanvas chaosCanvas = new ChaosCanvas(100, 50, new Vector2D(0, 0),
+            new Vector2D(200, 200));
+        chaosCanvas.getRow(0, new int[50]);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals(e.getMessage(), "Destination must have room for a row");
+      }
+    }
+
     @Test
     @DisplayName("setPixel throws IllegalArgumentException when given point is null")
     void setPixelThrowsExceptionWhenPointIsNull() {
@@ -0,0 +1,245 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.example.model.chaosgame.ChaosGame;
+import org.example.model.chaosgame.ChaosGameDescription;
+import org.example.model.exceptions.MissingDataException;
+import org.example.model.factory.ChaosGameDescriptionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChaosGameCheckpointTest {
+
+  private ChaosGameDescription description;
+
+  @BeforeEach
+  void setUp() {
+    description = new ChaosGameDescriptionFactory().createDescription("Barnsley");
+  }
+
+  /**
+   * Creates a seeded game with the given number of threads.
+   *
+   * @param threads the number of threads of the game
+   * @return the game
+   */
+  private ChaosGame createGame(int threads) {
+    ChaosGame game = new ChaosGame(description, 120, 90);
+    game.setThreadCount(threads);
+    game.setSeed(42);
+    return game;
+  }
+
+  @Nested
+  @DisplayName("Positive tests")
+  class PositiveTests {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("A resumed game gives the same canvas as a game that was not stopped")
+    void testResumedGameMatchesUninterruptedGame() {
+      try {
+        ChaosGame uninterrupted = createGame(1);
+        uninterrupted.runSteps(30_000);
+        uninterrupted.runSteps(30_000);
+
+        ChaosGame first = createGame(1);
+        first.runSteps(30_000);
+        String path = folder.resolve("render.cgcp").toString();
+        first.saveCheckpoint(path);
+        ChaosGame resumed = ChaosGame.fromCheckpoint(path);
+        resumed.setThreadCount(1);
+        resumed.runSteps(30_000);
+
+        assertArrayEquals(uninterrupted.getCanvas().getPixels(), resumed.getCanvas().getPixels());
+        assertEquals(60_000, resumed.getStepCount());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("A resumed parallel game gives the same canvas with the same number of threads")
+    void testResumedParallelGameMatchesUninterruptedGame() {
+      try {
+        ChaosGame uninterrupted = createGame(2);
+        uninterrupted.runSteps(200_000);
+        uninterrupted.runSteps(200_000);
+
+        ChaosGame first = createGame(2);
+        first.runSteps(200_000);
+        String path = folder.resolve("parallel.cgcp").toString();
+        first.saveCheckpoint(path);
+        ChaosGame resumed = ChaosGame.fromCheckpoint(path);
+        resumed.setThreadCount(2);
+        resumed.runSteps(200_000);
+
+        assertArrayEquals(uninterrupted.getCanvas().getPixels(), resumed.getCanvas().getPixels());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("A checkpoint keeps the description, the canvas and the number of steps")
+    void testCheckpointKeepsState() {
+      try {
+        ChaosGame game = createGame(1);
+        game.changeZoom(0.5);
+        game.runSteps(10_000);
+        String path = folder.resolve("state.cgcp").toString();
+        game.saveCheckpoint(path);
+
+        ChaosGame resumed = ChaosGame.fromCheckpoint(path);
+        assertTrue(game.getDescription().equals(resumed.getDescription()));
+        assertEquals(game.getDescription().getWeights(), resumed.getDescription().getWeights());
+        assertEquals(game.getCanvas().getWidth(), resumed.getCanvas().getWidth());
+        assertEquals(game.getCanvas().getHeight(), resumed.getCanvas().getHeight());
+        assertArrayEquals(game.getCanvas().getPixels(), resumed.getCanvas().getPixels());
+        assertEquals(10_000, resumed.getStepCount());
+        assertFalse(resumed.isHighDynamicRange());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("A checkpoint keeps the raw hit counts of a high dynamic range game")
+    void testCheckpointKeepsHighDynamicRange() {
+      try {
+        ChaosGame game = createGame(1);
+        game.setHighDynamicRange(true);
+        game.runSteps(50_000);
+        String path = folder.resolve("hdr.cgcp").toString();
+        game.saveCheckpoint(path);
+
+        ChaosGame resumed = ChaosGame.fromCheckpoint(path);
+        assertTrue(resumed.isHighDynamicRange());
+        assertArrayEquals(game.getCanvas().getPixels(), resumed.getCanvas().getPixels());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("The canvas is compressed in the checkpoint file")
+    void testCheckpointIsCompressed() {
+      try {
+        ChaosGame game = new ChaosGame(description, 1000, 1000);
+        game.runSteps(100_000);
+        Path path = folder.resolve("large.cgcp");
+        game.saveCheckpoint(path.toString());
+        assertTrue(Files.size(path) < 1000 * 1000 * Integer.BYTES / 10);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Saving replaces an existing checkpoint without leaving temporary files")
+    void testSaveReplacesCheckpointWithoutTemporaryFiles() {
+      try {
+        ChaosGame game = createGame(1);
+        game.runSteps(10_000);
+        String path = folder.resolve("render.cgcp").toString();
+        game.saveCheckpoint(path);
+        game.runSteps(10_000);
+        game.saveCheckpoint(path);
+
+        assertEquals(20_000, ChaosGame.fromCheckpoint(path).getStepCount());
+        try (var files = Files.list(folder)) {
+          assertEquals(1, files.count());
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Clearing the canvas resets the number of steps")
+    void testClearCanvasResetsStepCount() {
+      ChaosGame game = createGame(1);
+      game.runSteps(1000);
+      assertEquals(1000, game.getStepCount());
+      game.clearCanvas();
+      assertEquals(0, game.getStepCount());
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative tests")
+  class NegativeTests {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("fromCheckpoint throws an exception with a file that is not a checkpoint")
+    void testFromCheckpointThrowsExceptionWithOtherFile() {
+      try {
+        Path path = folder.resolve("other.cgcp");
+        Files.write(path, new byte[100]);
+        ChaosGame.fromCheckpoint(path.toString());
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Not a checkpoint file", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("fromCheckpoint throws MissingDataException with a truncated checkpoint")
+    void testFromCheckpointThrowsExceptionWithTruncatedFile() {
+      try {
+        ChaosGame game = createGame(1);
+        game.runSteps(10_000);
+        Path path = folder.resolve("truncated.cgcp");
+        game.saveCheckpoint(path.toString());
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length / 2));
+        ChaosGame.fromCheckpoint(path.toString());
+        fail("An exception was not thrown");
+      } catch (MissingDataException e) {
+        assertEquals("Checkpoint file is missing data", e.getMessage());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("fromCheckpoint throws an exception with an unsupported version")
+    void testFromCheckpointThrowsExceptionWithUnsupportedVersion() {
+      try {
+        ChaosGame game = createGame(1);
+        Path path = folder.resolve("version.cgcp");
+        game.saveCheckpoint(path.toString());
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[4] = 9;
+        Files.write(path, bytes);
+        ChaosGame.fromCheckpoint(path.toString());
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Unsupported checkpoint file version", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("fromCheckpoint throws IllegalArgumentException when the file does not exist")
+    void testFromCheckpointThrowsExceptionWithMissingFile() {
+      try {
+        ChaosGame.fromCheckpoint(folder.resolve("missing.cgcp").toString());
+        fail("An exception was not thrown");
+      } catch (IllegalArgumentException e) {
+        assertNotNull(e.getMessage());
+      }
+    }
+  }
+}
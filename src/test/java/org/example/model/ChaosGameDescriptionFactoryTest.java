@@ -59,10 +59,10 @@ public class ChaosGameDescriptionFactoryTest {
             Affine    #Transform type
             -2.65, 0.0    #minimum coordinates
             2.65, 10.0    #maximum coordinates
-            0.0, 0.0, 0.0, 0.16, 0.0, 0.0    #transform
-            0.85, 0.04, -0.04, 0.85, 0.0, 1.6    #transform
-            0.2, -0.26, 0.23, 0.22, 0.0, 1.6    #transform
-            -0.15, 0.28, 0.26, 0.24, 0.0, 0.44    #transform
+            0.0, 0.0, 0.0, 0.16, 0.0, 0.0, 1    #transform
+            0.85, 0.04, -0.04, 0.85, 0.0, 1.6, 85    #transform
+            0.2, -0.26, 0.23, 0.22, 0.0, 1.6, 12    #transform
+            -0.15, 0.28, 0.26, 0.24, 0.0, 0.44, 12    #transform
             """);
 
       } catch (IllegalArgumentException e) {
@@ -80,8 +80,7 @@ public class ChaosGameDescriptionFactoryTest {
             Julia    #Transform type
             -1.6, -1.2    #minimum coordinates
             1.6, 1.2    #maximum coordinates
-            -0.74543, 0.11301    #transform
-            -0.74543, 0.11301    #transform
+            -0.74543, 0.11301, 1, 5    #transform
             """);
 
       } catch (IllegalArgumentException e) {
@@ -100,7 +99,6 @@ public class ChaosGameDescriptionFactoryTest {
             -1.6, -1.2    #minimum coordinates
             1.6, 1.2    #maximum coordinates
             0.15546, -0.6369    #transform
-            0.15546, -0.6369    #transform
             """);
 
       } catch (IllegalArgumentException e) {
@@ -119,7 +117,6 @@ public class ChaosGameDescriptionFactoryTest {
             -1.6, -1.2    #minimum coordinates
             1.6, 1.2    #maximum coordinates
             0.42428198918101634, 0.14423276134020324    #transform
-            0.42428198918101634, 0.14423276134020324    #transform
             """);
 
       } catch (IllegalArgumentException e) {
@@ -137,8 +134,8 @@ public class ChaosGameDescriptionFactoryTest {
             Affine    #Transform type
             -0.25, -0.75    #minimum coordinates
             1.25, 0.5    #maximum coordinates
-            -0.035359, -0.45328, 0.61167, -0.30323, 0.0765966, -0.740269    #transform
-            0.87527, -0.9741, 0.9323, -0.2067, 0.067495, -0.54111    #transform
+            -0.035359, -0.45328, 0.61167, -0.30323, 0.0765966, -0.740269, 1    #transform
+            0.87527, -0.9741, 0.9323, -0.2067, 0.067495, -0.54111, 5    #transform
             """);
 
       } catch (IllegalArgumentException e) {
@@ -156,8 +153,8 @@ public class ChaosGameDescriptionFactoryTest {
             Affine    #Transform type
             -6.0, -2.5    #minimum coordinates
             2.5, 6.0    #maximum coordinates
-            0.7735, 0.2473, -0.3505, 0.868, -1.5435, -0.0778    #transform
-            -0.1939, -0.6283, -0.5006, 0.0103, 0.4887, -1.0326    #transform
+            0.7735, 0.2473, -0.3505, 0.868, -1.5435, -0.0778, 8    #transform
+            -0.1939, -0.6283, -0.5006, 0.0103, 0.4887, -1.0326, 5    #transform
             """);
 
       } catch (IllegalArgumentException e) {
@@ -237,8 +234,8 @@ public class ChaosGameDescriptionFactoryTest {
           Affine    #Transform type
           -3.5, -7.9    #minimum coordinates
           8.5, 3.8    #maximum coordinates
-          0.94, 0.25, -0.17, 0.73, 1.9, -0.8    #transform
-          -0.13, 0.38, -0.66, -0.57, 0.37, 0.04    #transform
+          0.94, 0.25, -0.17, 0.73, 1.9, -0.8, 3    #transform
+          -0.13, 0.38, -0.66, -0.57, 0.37, 0.04, 1    #transform
           """);
     } catch (IllegalArgumentException e) {
       fail("Exception thrown");
@@ -273,7 +270,6 @@ public class ChaosGameDescriptionFactoryTest {
           -1.6, -1.2    #minimum coordinates
           1.6, 1.2    #maximum coordinates
           0.0, 0.0    #transform
-          0.0, 0.0    #transform
           """);
     } catch (IllegalArgumentException e) {
       fail("Exception thrown");
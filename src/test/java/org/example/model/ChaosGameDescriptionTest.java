@@ -262,6 +262,78 @@ public class ChaosGameDescriptionTest {
     }
 
 
+    @Test
+    @DisplayName("getTransformWithWeight skips transforms with zero weight")
+    void getTransformWithWeightSkipsZeroWeights() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        JuliaTransform juliaTransform1 = new JuliaTransform(new Complex(1, 3), 1);
+        JuliaTransform juliaTransform2 = new JuliaTransform(new Complex(2, 3), 1);
+        JuliaTransform juliaTransform3 = new JuliaTransform(new Complex(3, 3), 1);
+        transforms.add(juliaTransform1);
+        transforms.add(juliaTransform2);
+        transforms.add(juliaTransform3);
+        List<Integer> weights = new ArrayList<>(List.of(2, 0, 3));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(1, 2),
+            new Vector2D(3, 4), transforms, weights);
+        assertEquals(juliaTransform1, chaosGameDescription.getTransformWithWeight(1));
+        assertEquals(juliaTransform3, chaosGameDescription.getTransformWithWeight(2));
+        assertEquals(juliaTransform3, chaosGameDescription.getTransformWithWeight(4));
+
+        chaosGameDescription.setWeight(1, 1);
+        assertEquals(juliaTransform2, chaosGameDescription.getTransformWithWeight(2));
+        assertEquals(6, chaosGameDescription.sumOfWeightsBelowIndex(3));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("sampleTransformIndex selects transforms with the correct frequency")
+    void sampleTransformIndexFollowsWeights() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+          transforms.add(new JuliaTransform(new Complex(i, 0), 1));
+        }
+        List<Integer> weights = new ArrayList<>(List.of(1, 85, 0, 14));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(1, 2),
+            new Vector2D(3, 4), transforms, weights);
+
+        int samples = 100_000;
+        int[] counts = new int[4];
+        for (int i = 0; i < samples; i++) {
+          counts[chaosGameDescription.sampleTransformIndex((i + 0.5) / samples)]++;
+        }
+        assertEquals(1000, counts[0], 5);
+        assertEquals(85000, counts[1], 5);
+        assertEquals(0, counts[2]);
+        assertEquals(14000, counts[3], 5);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("sampleTransformIndex uses the new weights after setWeights")
+    void sampleTransformIndexUsesNewWeights() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(1, 3), 1));
+        transforms.add(new JuliaTransform(new Complex(1, 3), -1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(1, 2),
+            new Vector2D(3, 4), transforms);
+        chaosGameDescription.setWeights(new ArrayList<>(List.of(0, 1)));
+        assertEquals(1, chaosGameDescription.sampleTransformIndex(0.0));
+        assertEquals(1, chaosGameDescription.sampleTransformIndex(0.99));
+        chaosGameDescription.setWeight(0, 1);
+        chaosGameDescription.setWeight(1, 0);
+        assertEquals(0, chaosGameDescription.sampleTransformIndex(0.75));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message " + e.getMessage());
+      }
+    }
+
     @Test
     @DisplayName("getMinCoords returns the correct minCoords values.")
     void getMinCoordsReturnsCorrectValue() {
@@ -633,6 +705,45 @@ public class ChaosGameDescriptionTest {
       }
     }
 
+    @Test
+    @DisplayName("changeZoom stops zooming in at the precision of a double")
+    void testChangeZoomStopsAtDoublePrecision() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(1, 0, 0, 1), new Vector2D(0, 0)));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(1, 1),
+            new Vector2D(2, 2), transforms);
+        int zooms = 0;
+        while (chaosGameDescription.changeZoom(-.5)) {
+          zooms++;
+        }
+        double width = chaosGameDescription.getMaxCoords().getX0()
+            - chaosGameDescription.getMinCoords().getX0();
+        assertTrue(zooms > 20 && zooms < 53);
+        assertTrue(width > 0);
+        assertTrue(chaosGameDescription.getMinCoords().getX0()
+            < chaosGameDescription.getMaxCoords().getX0());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("moveCanvas keeps a small view from collapsing")
+    void testMoveCanvasKeepsSmallView() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(1, 0, 0, 1), new Vector2D(0, 0)));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(1, 1),
+            new Vector2D(1.00000001, 1.00000001), transforms);
+        chaosGameDescription.moveCanvas(new Vector2D(10, 10));
+        assertEquals(0.999999999, chaosGameDescription.getMinCoords().getX0(), 1e-15);
+        assertEquals(1.000000009, chaosGameDescription.getMaxCoords().getX0(), 1e-15);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message " + e.getMessage());
+      }
+    }
+
     @Test
     @DisplayName("moveCanvas moves left the canvas with correct values")
     void testMoveCanvasMovesLeft() {
@@ -716,6 +827,38 @@ public class ChaosGameDescriptionTest {
   class NegativeTests {
 
 
+    @Test
+    @DisplayName("sampleTransformIndex throws IllegalArgumentException when the value is not below 1")
+    void sampleTransformIndexThrowsExceptionOnValueOutOfRange() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(1, 3), 1));
+        transforms.add(new JuliaTransform(new Complex(2, 4), -1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(1, 2),
+            new Vector2D(3, 4), transforms);
+        chaosGameDescription.sampleTransformIndex(1.0);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals(e.getMessage(), "Value must be between 0 and 1");
+      }
+    }
+
+    @Test
+    @DisplayName("sampleTransformIndex throws IllegalArgumentException when all weights are zero")
+    void sampleTransformIndexThrowsExceptionOnZeroWeights() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(1, 3), 1));
+        transforms.add(new JuliaTransform(new Complex(2, 4), -1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(1, 2),
+            new Vector2D(3, 4), transforms, new ArrayList<>(List.of(0, 0)));
+        chaosGameDescription.sampleTransformIndex(0.5);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals(e.getMessage(), "Invalid weights");
+      }
+    }
+
     @Test
     @DisplayName("Constructor throws IllegalArgumentException when given vector 1 is null")
     void constructorThrowsExceptionOnNullVector1() {
@@ -899,6 +1042,22 @@ public class ChaosGameDescriptionTest {
       }
     }
 
+    @Test
+    @DisplayName("setWeights throws IllegalArgumentException when given the wrong number of weights")
+    void setWeightsThrowsExceptionOnWrongSize() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(1, 3), -1));
+        transforms.add(new JuliaTransform(new Complex(1, 3), 1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(1, 2),
+            new Vector2D(3, 4), transforms);
+        chaosGameDescription.setWeights(new ArrayList<>(List.of(1, 2, 3)));
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("There must be one weight per transform", e.getMessage());
+      }
+    }
+
     @Test
     @DisplayName("setWeights throws IllegalArgumentException when given list is null")
     void setWeightsThrowsExceptionOnListNull() {
@@ -2,12 +2,18 @@ package org.example.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Random;
 import org.example.model.chaosgame.ChaosGameDescription;
 import org.example.model.chaosgame.ChaosGameFileHandler;
 import org.example.model.exceptions.DescriptionFileEmptyException;
 import org.example.model.exceptions.MissingDataException;
+import org.example.model.factory.ChaosGameDescriptionFactory;
 import org.example.model.math.Complex;
 import org.example.model.math.Matrix2x2;
 import org.example.model.math.Vector2D;
@@ -18,6 +24,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ChaosGameFileHandlerTest {
 
@@ -47,6 +54,9 @@ class ChaosGameFileHandlerTest {
   @DisplayName("Positive tests")
   class PositiveTests {
 
+    @TempDir
+    Path folder;
+
     @Test
     @DisplayName("WriteToFile throws no exceptions with valid input")
     void testWriteToFileThrowsNoExceptions() {
@@ -200,12 +210,275 @@ class ChaosGameFileHandlerTest {
         fail("An exception was thrown with the message: " + e.getMessage());
       }
     }
+
+    @Test
+    @DisplayName("readFromFile parses numbers the same way as Double.parseDouble")
+    void testReadFromFileParsesNumbersLikeParseDouble() {
+      try {
+        List<String> values = new ArrayList<>(List.of("0", "-0.0", "+1.5", "1.", ".5", "1e-30",
+            "2.5E+7", "0x1p-3", "NaN", "-Infinity", "1.0d", "123456789012345678901234567890",
+            "0.00000000000000000000000000001", " 3.25 ", "9007199254740993", "1e22", "1e23",
+            "9999999999999999999", "-1.234567890123456789e-300", "4.9e-324"));
+        Random random = new Random(7);
+        for (int i = 0; i < 3000; i++) {
+          double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20);
+          values.add(switch (i % 3) {
+            case 0 -> Double.toString(value);
+            case 1 -> String.format(Locale.ROOT, "%.6f", value);
+            default -> String.format(Locale.ROOT, "%.12e", value);
+          });
+        }
+        while (values.size() % 6 != 0) {
+          values.add("1");
+        }
+        StringBuilder file = new StringBuilder("Affine\n0, 0\n1, 1\n");
+        for (int i = 0; i < values.size(); i += 6) {
+          file.append(String.join(",", values.subList(i, i + 6))).append("\n");
+        }
+        Path path = folder.resolve("numbers.txt");
+        Files.writeString(path, file);
+
+        ChaosGameDescription description = new ChaosGameFileHandler().readFromFile(
+            path.toString());
+        for (int i = 0; i < values.size(); i += 6) {
+          AffineTransform2D transform = (AffineTransform2D) description.getTransforms()
+              .get(i / 6);
+          double[] matrix = transform.getMatrix().getValues();
+          for (int j = 0; j < 4; j++) {
+            assertEquals(Double.parseDouble(values.get(i + j)), matrix[j], values.get(i + j));
+          }
+          assertEquals(Double.parseDouble(values.get(i + 4)), transform.getVector().getX0());
+          assertEquals(Double.parseDouble(values.get(i + 5)), transform.getVector().getX1());
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("readFromFile reads files with other line breaks and long lines")
+    void testReadFromFileWithLineBreaksAndLongLines() {
+      try {
+        String padding = " ".repeat(100_000);
+        Path path = folder.resolve("lines.txt");
+        Files.writeString(path, "Julia # type\r\n-1.6, -1 # min\r1.6, 1\n\r\n"
+            + "-0.74543," + padding + "0.11301 # c\r\n");
+
+        ChaosGameDescription description = new ChaosGameFileHandler().readFromFile(
+            path.toString());
+        assertEquals("-1.6, -1.0", description.getMinCoords().toString());
+        assertEquals("1.6, 1.0", description.getMaxCoords().toString());
+        assertEquals(2, description.getTransforms().size());
+        assertEquals(-0.74543, ((JuliaTransform) description.getTransforms().get(0)).getPoint()
+            .getReal());
+        assertEquals(0.11301, ((JuliaTransform) description.getTransforms().get(0)).getPoint()
+            .getImaginary());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("writeToFile and readFromFile keep affine descriptions in the binary format")
+    void testBinaryFileKeepsAffineDescription() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.85, 0.04, -0.04, 0.85),
+            new Vector2D(0, 1.6)));
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.1 / 3, 0, 0, 0.16),
+            new Vector2D(0, 0)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(-2.65, 0),
+            new Vector2D(2.65, 10), transforms, new ArrayList<>(List.of(85, 7)));
+        Path path = folder.resolve("barnsley.cgb");
+        ChaosGameFileHandler chaosGameFileHandler = new ChaosGameFileHandler();
+        chaosGameFileHandler.writeToFile(description, path.toString());
+
+        assertEquals(48 + 2 * 6 * 8 + 2 * 4, Files.size(path));
+        ChaosGameDescription read = chaosGameFileHandler.readFromFile(path.toString());
+        assertEquals(description.getMinCoords().toString(), read.getMinCoords().toString());
+        assertEquals(description.getMaxCoords().toString(), read.getMaxCoords().toString());
+        assertEquals(List.of(85, 7), read.getWeights());
+        for (int i = 0; i < transforms.size(); i++) {
+          AffineTransform2D expected = (AffineTransform2D) transforms.get(i);
+          AffineTransform2D actual = (AffineTransform2D) read.getTransforms().get(i);
+          assertArrayEquals(expected.getMatrix().getValues(), actual.getMatrix().getValues());
+          assertEquals(expected.getVector().toString(), actual.getVector().toString());
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("readFromFile recognises binary Julia files by their magic number")
+    void testBinaryFileIsRecognisedByMagicNumber() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(-0.74543, 0.11301), 1));
+        transforms.add(new JuliaTransform(new Complex(-0.74543, 0.11301), -1));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(-1.6, -1),
+            new Vector2D(1.6, 1), transforms);
+        ChaosGameFileHandler chaosGameFileHandler = new ChaosGameFileHandler();
+        Path binary = folder.resolve("julia.cgb");
+        chaosGameFileHandler.writeToFile(description, binary.toString());
+        Path renamed = Files.copy(binary, folder.resolve("julia.txt"));
+
+        ChaosGameDescription read = chaosGameFileHandler.readFromFile(renamed.toString());
+        assertEquals("Julia", read.getTransformType());
+        JuliaTransform second = (JuliaTransform) read.getTransforms().get(1);
+        assertEquals(-0.74543, second.getPoint().getReal());
+        assertEquals(0.11301, second.getPoint().getImaginary());
+        assertEquals(-1, second.getSign());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("writeToFile and readFromFile keep the weights of the transforms")
+    void testTextFileKeepsWeights() {
+      try {
+        ChaosGameFileHandler chaosGameFileHandler = new ChaosGameFileHandler();
+        ChaosGameDescription description = new ChaosGameDescriptionFactory()
+            .createDescription("Barnsley");
+        Path path = folder.resolve("barnsley.txt");
+        chaosGameFileHandler.writeToFile(description, path.toString());
+
+        ChaosGameDescription read = chaosGameFileHandler.readFromFile(path.toString());
+        assertEquals(List.of(1, 85, 12, 12), read.getWeights());
+        assertTrue(description.equals(read));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("writeToFile and readFromFile keep Julia descriptions and their weights")
+    void testTextFileKeepsJuliaWeights() {
+      try {
+        ChaosGameFileHandler chaosGameFileHandler = new ChaosGameFileHandler();
+        ChaosGameDescription description = new ChaosGameDescriptionFactory()
+            .createDescription("Julia");
+        for (List<Integer> weights : List.of(List.of(1, 1), List.of(3, 3), List.of(1, 5))) {
+          description.setWeights(new ArrayList<>(weights));
+          Path path = folder.resolve("julia" + weights.get(1) + ".txt");
+          chaosGameFileHandler.writeToFile(description, path.toString());
+
+          ChaosGameDescription read = chaosGameFileHandler.readFromFile(path.toString());
+          assertEquals(weights, read.getWeights());
+          assertTrue(description.equals(read));
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("readFromFile gives weight 1 to transforms without a weight")
+    void testReadFromFileWithMissingWeights() {
+      try {
+        Path path = folder.resolve("weights.txt");
+        Files.writeString(path, "Affine\n0, 0\n1, 1\n0.5, 0, 0, 0.5, 0, 0, 4\n"
+            + "0.5, 0, 0, 0.5, 0.5, 0\n");
+        ChaosGameDescription read = new ChaosGameFileHandler().readFromFile(path.toString());
+        assertEquals(List.of(4, 1), read.getWeights());
+
+        Path juliaPath = folder.resolve("juliaWeights.txt");
+        Files.writeString(juliaPath, "Julia\n-1.6, -1.2\n1.6, 1.2\n-0.74543, 0.11301, 3\n");
+        ChaosGameDescription julia = new ChaosGameFileHandler().readFromFile(
+            juliaPath.toString());
+        assertEquals(List.of(3, 3), julia.getWeights());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
   }
 
   @Nested
   @DisplayName("Negative tests")
   class NegativeTests {
 
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("readFromFile throws MissingDataException with a truncated binary file")
+    void testReadFromFileThrowsExceptionWithTruncatedBinaryFile() {
+      try {
+        ChaosGameFileHandler chaosGameFileHandler = new ChaosGameFileHandler();
+        Path path = folder.resolve("truncated.cgb");
+        chaosGameFileHandler.writeToFile(
+            chaosGameFileHandler.readFromFile("src/test/resources/testfiles/testFile.txt"),
+            path.toString());
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        chaosGameFileHandler.readFromFile(path.toString());
+        fail("An exception was not thrown");
+      } catch (MissingDataException e) {
+        assertEquals("Description file is missing data", e.getMessage());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("readFromFile throws exception with an unsupported binary version")
+    void testReadFromFileThrowsExceptionWithUnsupportedVersion() {
+      try {
+        ChaosGameFileHandler chaosGameFileHandler = new ChaosGameFileHandler();
+        Path path = folder.resolve("version.cgb");
+        chaosGameFileHandler.writeToFile(
+            chaosGameFileHandler.readFromFile("src/test/resources/testfiles/testFile.txt"),
+            path.toString());
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[4] = 9;
+        Files.write(path, bytes);
+        chaosGameFileHandler.readFromFile(path.toString());
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Unsupported binary file version", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("readFromFile throws exception with a malformed number")
+    void testReadFromFileThrowsExceptionWithMalformedNumber() {
+      try {
+        Path path = folder.resolve("malformed.txt");
+        Files.writeString(path, "Affine\n0, 0\n1, 1\n0.5, 0, 0, 0.5, 1..5, 0\n");
+        new ChaosGameFileHandler().readFromFile(path.toString());
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Non-double value found in the file", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("readFromFile throws exception with a weight that is not a whole number")
+    void testReadFromFileThrowsExceptionWithInvalidWeight() {
+      try {
+        Path path = folder.resolve("invalidWeight.txt");
+        Files.writeString(path, "Affine\n0, 0\n1, 1\n0.5, 0, 0, 0.5, 1, 0, 0.5\n");
+        new ChaosGameFileHandler().readFromFile(path.toString());
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Invalid weight found in the file", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("readFromFile throws exception with a line of spaces between transforms")
+    void testReadFromFileThrowsExceptionWithLineOfSpaces() {
+      try {
+        Path path = folder.resolve("spaces.txt");
+        Files.writeString(path, "Affine\n0, 0\n1, 1\n   \n0.5, 0, 0, 0.5, 1, 0\n");
+        new ChaosGameFileHandler().readFromFile(path.toString());
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Invalid transform data", e.getMessage());
+      }
+    }
+
     @Test
     @DisplayName("readFromFile throws exception with invalid input")
     void testReadFromFileThrowsExceptionWithInvalidInput() {
@@ -0,0 +1,207 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.example.model.chaosgame.ChaosCanvas;
+import org.example.model.chaosgame.ChaosGameDescription;
+import org.example.model.chaosgame.ChaosGameKernel;
+import org.example.model.math.Complex;
+import org.example.model.math.Matrix2x2;
+import org.example.model.math.Vector2D;
+import org.example.model.transform.AffineTransform2D;
+import org.example.model.transform.JuliaTransform;
+import org.example.model.transform.Transform2D;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ChaosGameKernelTest {
+
+  @Nested
+  @DisplayName("Positive tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("Constructor throws no exceptions with valid input")
+    void testConstructorThrowsNoExceptions() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(0, 0)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms);
+        ChaosGameKernel kernel = new ChaosGameKernel(description);
+        assertEquals(0, kernel.getX0());
+        assertEquals(0, kernel.getX1());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("step gives the same result as the affine transform")
+    void testStepMatchesAffineTransform() {
+      try {
+        AffineTransform2D transform = new AffineTransform2D(
+            new Matrix2x2(0.85, 0.04, -0.04, 0.85), new Vector2D(0, 1.6));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(-3, 0),
+            new Vector2D(3, 10), new ArrayList<>(List.of(transform)));
+        ChaosGameKernel kernel = new ChaosGameKernel(description);
+        kernel.setPoint(0.3, 0.7);
+        kernel.step(0);
+        Vector2D expected = transform.transform(new Vector2D(0.3, 0.7));
+        assertEquals(expected.getX0(), kernel.getX0());
+        assertEquals(expected.getX1(), kernel.getX1());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("step gives the same result as the julia transform")
+    void testStepMatchesJuliaTransform() {
+      try {
+        JuliaTransform positive = new JuliaTransform(new Complex(-0.74543, 0.11301), 1);
+        JuliaTransform negative = new JuliaTransform(new Complex(-0.74543, 0.11301), -1);
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(-1.6, -1),
+            new Vector2D(1.6, 1), new ArrayList<>(List.of(positive, negative)));
+        ChaosGameKernel kernel = new ChaosGameKernel(description);
+
+        kernel.setPoint(0.4, -0.2);
+        kernel.step(1);
+        Vector2D expected = negative.transform(new Complex(0.4, -0.2));
+        assertEquals(expected.getX0(), kernel.getX0());
+        assertEquals(expected.getX1(), kernel.getX1());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("run draws the points on the canvas")
+    void testRunDrawsOnCanvas() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(0.5, 0.5)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms);
+        ChaosCanvas canvas = new ChaosCanvas(11, 11, new Vector2D(0, 0), new Vector2D(1, 1));
+        ChaosGameKernel kernel = new ChaosGameKernel(description);
+
+        kernel.run(3, new Random(1), canvas, 5);
+        assertEquals(15, canvas.getPixelFromCoords(new Vector2D(0.5, 0.5)));
+        assertEquals(0.5, kernel.getX0());
+        assertEquals(0.5, kernel.getX1());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("count counts the hits instead of drawing on the canvas")
+    void testCountCountsHits() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(0.5, 0.5)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms);
+        ChaosCanvas canvas = new ChaosCanvas(11, 11, new Vector2D(0, 0), new Vector2D(1, 1));
+        ChaosGameKernel kernel = new ChaosGameKernel(description);
+        int[] hits = new int[11 * 11];
+
+        kernel.count(4, new Random(1), canvas, hits);
+        assertEquals(4, hits[canvas.indexOf(0.5, 0.5)]);
+        assertEquals(0, canvas.getPixelFromCoords(new Vector2D(0.5, 0.5)));
+
+        canvas.addHits(hits, 3);
+        assertEquals(12, canvas.getPixelFromCoords(new Vector2D(0.5, 0.5)));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("run keeps the weights the kernel was created with")
+    void testRunKeepsWeightsOfCreation() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(0.5, 0.5)));
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(0.1, 0.1)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms, new ArrayList<>(List.of(1, 0)));
+        ChaosCanvas canvas = new ChaosCanvas(11, 11, new Vector2D(0, 0), new Vector2D(1, 1));
+        ChaosGameKernel kernel = new ChaosGameKernel(description);
+
+        description.setWeights(new ArrayList<>(List.of(0, 1)));
+        kernel.run(10, new Random(1), canvas, 1);
+        assertEquals(10, canvas.getPixelFromCoords(new Vector2D(0.5, 0.5)));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Constructor throws an exception with null description")
+    void testConstructorThrowsExceptionWithNullDescription() {
+      try {
+        new ChaosGameKernel(null);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Description cannot be null", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Constructor throws an exception when all weights are zero")
+    void testConstructorThrowsExceptionWithZeroWeights() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(0, 0)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms, new ArrayList<>(List.of(0)));
+        new ChaosGameKernel(description);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Invalid description", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Constructor throws an exception when there is not one weight per transform")
+    void testConstructorThrowsExceptionWithTooManyWeights() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(0, 0)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms, new ArrayList<>(List.of(1, 1)));
+        new ChaosGameKernel(description);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Invalid description", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Constructor throws an exception with negative weights")
+    void testConstructorThrowsExceptionWithNegativeWeights() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(0, 0)));
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(0.5, 0)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms, new ArrayList<>(List.of(3, -1)));
+        new ChaosGameKernel(description);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Invalid description", e.getMessage());
+      }
+    }
+  }
+}
@@ -3,11 +3,15 @@ package org.example.model;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import org.example.model.chaosgame.ChaosCanvas;
 import org.example.model.chaosgame.ChaosGame;
 import org.example.model.chaosgame.ChaosGameDescription;
+import org.example.model.factory.ChaosGameDescriptionFactory;
 import org.example.model.math.Matrix2x2;
 import org.example.model.math.Vector2D;
+import org.example.model.observer.ChaosGameObserver;
 import org.example.model.transform.AffineTransform2D;
 import org.example.model.transform.Transform2D;
 import org.junit.jupiter.api.DisplayName;
@@ -100,6 +104,285 @@ class ChaosGameTest {
       }
     }
 
+    @Test
+    @DisplayName("runSteps stops without notifying observers when the thread is interrupted")
+    void testRunStepsStopsWhenInterrupted() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(50, 50)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        for (int threads : new int[]{1, 4}) {
+          ChaosGame chaosGame = new ChaosGame(description, 100, 100);
+          chaosGame.setThreadCount(threads);
+          TestListener listener = new TestListener();
+          chaosGame.addObserver(listener);
+
+          Thread.currentThread().interrupt();
+          chaosGame.runSteps(1_000_000);
+          assertTrue(Thread.interrupted());
+          assertFalse(listener.isNotifiedCanvas());
+          assertEquals(0, chaosGame.getCanvas().getPixelFromCoords(new Vector2D(50, 50)));
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      } finally {
+        Thread.interrupted();
+      }
+    }
+
+    @Test
+    @DisplayName("runSteps in progressive mode gives the same canvas as without")
+    void testRunStepsProgressiveMatchesNormalRun() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(0, 0)));
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(50, 0)));
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(25, 50)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        for (int threads : new int[]{1, 3}) {
+          ChaosGame expected = new ChaosGame(description, 300, 300);
+          expected.setThreadCount(threads);
+          expected.setSeed(7);
+          expected.runSteps(600_000);
+
+          ChaosGame chaosGame = new ChaosGame(description, 300, 300);
+          chaosGame.setThreadCount(threads);
+          chaosGame.setSeed(7);
+          chaosGame.setFrameRate(1000);
+          chaosGame.runSteps(600_000);
+
+          assertEquals(1000, chaosGame.getFrameRate());
+          assertArrayEquals(expected.getCanvas().getPixels(), chaosGame.getCanvas().getPixels());
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("runSteps in progressive mode notifies observers while running")
+    void testRunStepsProgressiveNotifiesWhileRunning() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(0, 0)));
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(50, 0)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        ChaosGame chaosGame = new ChaosGame(description, 100, 100);
+        chaosGame.setThreadCount(1);
+        chaosGame.setFrameRate(1_000_000);
+        int[] notifications = new int[1];
+        chaosGame.addObserver(new ChaosGameObserver() {
+          @Override
+          public void updateDescription(ChaosGameDescription description) {
+          }
+
+          @Override
+          public void updateCanvas(ChaosCanvas canvas) {
+            notifications[0]++;
+          }
+        });
+
+        chaosGame.runSteps(10 * 65536);
+        assertEquals(10, notifications[0]);
+
+        chaosGame.setFrameRate(0);
+        chaosGame.runSteps(10 * 65536);
+        assertEquals(11, notifications[0]);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("runSteps on several threads works after the canvas size changes")
+    void testRunStepsParallelAfterCanvasSizeChange() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(50, 50)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        ChaosGame chaosGame = new ChaosGame(description, 100, 100);
+        chaosGame.setThreadCount(2);
+        chaosGame.runSteps(100_000);
+        chaosGame.setCanvasSize(40, 30);
+        assertEquals(0, chaosGame.getCanvas().getPixelFromCoords(new Vector2D(50, 50)));
+
+        chaosGame.runSteps(100_000);
+        ChaosCanvas canvas = chaosGame.getCanvas();
+        assertEquals(40, canvas.getWidth());
+        assertEquals(755, canvas.getPixelFromCoords(new Vector2D(50, 50)));
+        assertEquals(755, Arrays.stream(canvas.getPixels()).sum());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("getCanvas and observers get read-only canvases that do not change")
+    void testGetCanvasReturnsSnapshot() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(50, 50)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        ChaosGame chaosGame = new ChaosGame(description, 100, 100);
+        chaosGame.runSteps(1);
+        ChaosCanvas[] notified = new ChaosCanvas[1];
+        chaosGame.addObserver(new ChaosGameObserver() {
+          @Override
+          public void updateDescription(ChaosGameDescription description) {
+          }
+
+          @Override
+          public void updateCanvas(ChaosCanvas canvas) {
+            notified[0] = canvas;
+          }
+        });
+        ChaosCanvas canvas = chaosGame.getCanvas();
+        chaosGame.runSteps(1);
+        ChaosCanvas afterSecondRun = notified[0];
+        afterSecondRun.retain();
+        chaosGame.runSteps(1);
+        chaosGame.runSteps(1);
+        chaosGame.runSteps(1);
+
+        assertTrue(canvas.isReadOnly());
+        assertTrue(afterSecondRun.isReadOnly());
+        assertEquals(11, canvas.getPixelFromCoords(new Vector2D(50, 50)));
+        assertEquals(22, afterSecondRun.getPixelFromCoords(new Vector2D(50, 50)));
+        assertEquals(55, notified[0].getPixelFromCoords(new Vector2D(50, 50)));
+        afterSecondRun.release();
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("clearCanvas clears the canvas and notifies observers")
+    void testClearCanvasClearsCanvas() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(50, 50)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        ChaosGame chaosGame = new ChaosGame(description, 100, 100);
+        chaosGame.runSteps(10);
+        TestListener listener = new TestListener();
+        chaosGame.addObserver(listener);
+
+        chaosGame.clearCanvas();
+        assertTrue(listener.isNotifiedCanvas());
+        assertEquals(0, chaosGame.getCanvas().getPixelFromCoords(new Vector2D(50, 50)));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("runSteps with several threads gives the same canvas as with one thread")
+    void testRunStepsParallelMatchesSingleThread() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(50, 50)));
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(10, 90)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        ChaosGame chaosGame = new ChaosGame(description, 100, 100);
+        chaosGame.setThreadCount(1);
+        chaosGame.runSteps(200_000);
+
+        ChaosGame chaosGame2 = new ChaosGame(description, 100, 100);
+        chaosGame2.setThreadCount(4);
+        chaosGame2.runSteps(200_000);
+
+        assertEquals(4, chaosGame2.getThreadCount());
+        assertEquals(chaosGame.getCanvas().toString(), chaosGame2.getCanvas().toString());
+        assertEquals(755, chaosGame2.getCanvas().getPixelFromCoords(new Vector2D(50, 50)));
+        assertEquals(755, chaosGame2.getCanvas().getPixelFromCoords(new Vector2D(10, 90)));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("runSteps on several threads counts every hit when the size and threads change")
+    void testRunStepsParallelCountsHitsAfterResizes() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(50, 50)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        ChaosGame chaosGame = new ChaosGame(description, 100, 100);
+        chaosGame.setHighDynamicRange(true);
+        int[][] sizes = {{100, 100}, {40, 30}, {120, 90}, {60, 60}};
+        int[] threadCounts = {4, 4, 2, 3};
+        for (int i = 0; i < sizes.length; i++) {
+          chaosGame.setThreadCount(threadCounts[i]);
+          chaosGame.setCanvasSize(sizes[i][0], sizes[i][1]);
+          chaosGame.runSteps(200_000);
+          assertEquals(200_000, Arrays.stream(chaosGame.getCanvas().getPixels()).sum());
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("runSteps on several threads gives the same canvas after the game is closed")
+    void testRunStepsParallelAfterClose() {
+      try {
+        ChaosGameDescription description = new ChaosGameDescriptionFactory()
+            .createDescription("Barnsley");
+        ChaosGame expected = new ChaosGame(description, 80, 60);
+        expected.setThreadCount(3);
+        expected.setSeed(7);
+        expected.runSteps(200_000);
+        expected.runSteps(200_000);
+
+        ChaosGame chaosGame = new ChaosGame(description, 80, 60);
+        chaosGame.setThreadCount(3);
+        chaosGame.setSeed(7);
+        chaosGame.runSteps(200_000);
+        chaosGame.close();
+        chaosGame.runSteps(200_000);
+        chaosGame.close();
+        assertArrayEquals(expected.getCanvas().getPixels(), chaosGame.getCanvas().getPixels());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("runSteps in high dynamic range mode counts every hit without a cap")
+    void testRunStepsHighDynamicRangeCountsHits() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(50, 50)));
+        transforms.add(new AffineTransform2D(new Matrix2x2(0, 0, 0, 0), new Vector2D(10, 90)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        for (int threads : new int[]{1, 4}) {
+          ChaosGame chaosGame = new ChaosGame(description, 100, 100);
+          chaosGame.setThreadCount(threads);
+          chaosGame.setHighDynamicRange(true);
+          chaosGame.runSteps(200_000);
+
+          ChaosCanvas canvas = chaosGame.getCanvas();
+          assertTrue(chaosGame.isHighDynamicRange());
+          assertTrue(canvas.isHighDynamicRange());
+          int first = canvas.getPixelFromCoords(new Vector2D(50, 50));
+          int second = canvas.getPixelFromCoords(new Vector2D(10, 90));
+          assertEquals(200_000, first + second);
+          assertTrue(first > 755 && second > 755);
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
     @Test
     @DisplayName("changeDescription changes the description")
     void testChangeDescriptionChangesDescription() {
@@ -266,6 +549,38 @@ class ChaosGameTest {
       }
     }
 
+    @Test
+    @DisplayName("setFrameRate throws an exception with a negative frame rate")
+    void testSetFrameRateThrowsExceptionWithNegativeFrameRate() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(0, 0)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        ChaosGame chaosGame = new ChaosGame(description, 100, 100);
+        chaosGame.setFrameRate(-1);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Frame rate cannot be negative", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("setThreadCount throws an exception with zero threads")
+    void testSetThreadCountThrowsExceptionWithZeroThreads() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new AffineTransform2D(new Matrix2x2(0.5, 0, 0, 0.5), new Vector2D(50, 0)));
+        ChaosGameDescription description = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(100, 100), transforms);
+        ChaosGame chaosGame = new ChaosGame(description, 100, 100);
+        chaosGame.setThreadCount(0);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals(e.getMessage(), "Thread count must be positive");
+      }
+    }
+
     @Test
     @DisplayName("setDescription throws an exception with null description")
     void testSetDescriptionThrowsExceptionWithNullDescription() {
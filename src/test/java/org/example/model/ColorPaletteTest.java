@@ -0,0 +1,87 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.model.factory.ColorPalette;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ColorPaletteTest {
+
+  @Nested
+  @DisplayName("Positive tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("getArgb returns transparent for 0 and the base color for 255")
+    void testGetArgbReturnsCorrectColors() {
+      try {
+        ColorPalette palette = new ColorPalette(1, 0, 0);
+        assertEquals(0x00000000, palette.getArgb(0));
+        assertEquals(0xFFFF0000, palette.getArgb(255));
+        assertEquals(0x80FF0000, palette.getArgb(128));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("getArgb darkens the color after 255 and clamps large values")
+    void testGetArgbDarkensAndClamps() {
+      try {
+        ColorPalette palette = new ColorPalette(1, 1, 1);
+        assertTrue((palette.getArgb(355) & 0xFF) < 0xFF);
+        assertEquals(0xFF, palette.getArgb(355) >>> 24);
+        assertEquals(palette.getArgb(ColorPalette.MAX_VALUE), palette.getArgb(10_000));
+        assertEquals(0, palette.getArgb(-5));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("toArgb converts every value")
+    void testToArgbConvertsEveryValue() {
+      try {
+        ColorPalette palette = new ColorPalette(0, 0, 1);
+        int[] values = {0, 255, 755};
+        int[] colors = new int[4];
+        palette.toArgb(values, colors);
+        for (int i = 0; i < values.length; i++) {
+          assertEquals(palette.getArgb(values[i]), colors[i]);
+        }
+        assertEquals(0, colors[3]);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Constructor throws an exception with a component outside 0 to 1")
+    void testConstructorThrowsExceptionWithInvalidComponent() {
+      try {
+        new ColorPalette(0, 1.5, 0);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Color components must be between 0 and 1", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("toArgb throws an exception when the destination is too small")
+    void testToArgbThrowsExceptionWithSmallDestination() {
+      try {
+        new ColorPalette(0, 0, 0).toArgb(new int[3], new int[2]);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Destination must have room for all values", e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.example.model.chaosgame.ChaosCanvas;
+import org.example.model.chaosgame.DoubleBufferedCanvas;
+import org.example.model.math.Vector2D;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DoubleBufferedCanvasTest {
+
+  @Nested
+  @DisplayName("Positive tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("publish copies the canvas into a read-only front buffer")
+    void testPublishCopiesCanvas() {
+      try {
+        DoubleBufferedCanvas buffers = new DoubleBufferedCanvas();
+        assertNull(buffers.getFront());
+        ChaosCanvas canvas = new ChaosCanvas(10, 10, new Vector2D(0, 0), new Vector2D(9, 9));
+        canvas.setPixelWithCoords(new Vector2D(5, 5));
+
+        ChaosCanvas front = buffers.publish(canvas);
+        canvas.setPixelWithCoords(new Vector2D(1, 1));
+
+        assertSame(front, buffers.getFront());
+        assertTrue(front.isReadOnly());
+        assertEquals(255, front.getPixelFromCoords(new Vector2D(5, 5)));
+        assertEquals(0, front.getPixelFromCoords(new Vector2D(1, 1)));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("publish swaps between two buffers when nothing is retained")
+    void testPublishSwapsBuffers() {
+      try {
+        DoubleBufferedCanvas buffers = new DoubleBufferedCanvas();
+        ChaosCanvas canvas = new ChaosCanvas(10, 10, new Vector2D(0, 0), new Vector2D(9, 9));
+
+        ChaosCanvas first = buffers.publish(canvas);
+        ChaosCanvas second = buffers.publish(canvas);
+        ChaosCanvas third = buffers.publish(canvas);
+
+        assertNotSame(first, second);
+        assertSame(first, third);
+        assertEquals(2, buffers.getBufferCount());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("swap moves the pixels into the front buffer and reuses the buffers")
+    void testSwapMovesPixels() {
+      try {
+        DoubleBufferedCanvas buffers = new DoubleBufferedCanvas();
+        ChaosCanvas canvas = new ChaosCanvas(10, 10, new Vector2D(0, 0), new Vector2D(9, 9));
+        canvas.setPixelWithCoords(new Vector2D(5, 5));
+
+        ChaosCanvas first = buffers.swap(canvas);
+        canvas.clear();
+        canvas.setPixelWithCoords(new Vector2D(1, 1));
+        ChaosCanvas second = buffers.swap(canvas);
+        canvas.clear();
+        ChaosCanvas third = buffers.swap(canvas);
+
+        assertTrue(second.isReadOnly());
+        assertEquals(255, second.getPixelFromCoords(new Vector2D(1, 1)));
+        assertEquals(0, second.getPixelFromCoords(new Vector2D(5, 5)));
+        assertNotSame(first, second);
+        assertSame(first, third);
+        assertEquals(2, buffers.getBufferCount());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("snapshotFront does not change when the buffers are reused")
+    void testSnapshotFrontDoesNotChange() {
+      try {
+        DoubleBufferedCanvas buffers = new DoubleBufferedCanvas();
+        ChaosCanvas canvas = new ChaosCanvas(10, 10, new Vector2D(0, 0), new Vector2D(9, 9));
+        canvas.setPixelWithCoords(new Vector2D(5, 5));
+        buffers.swap(canvas);
+        ChaosCanvas snapshot = buffers.snapshotFront();
+
+        for (int i = 0; i < 3; i++) {
+          canvas.clear();
+          buffers.swap(canvas);
+        }
+        assertEquals(255, snapshot.getPixelFromCoords(new Vector2D(5, 5)));
+        assertTrue(snapshot.isReadOnly());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("publish does not reuse a retained buffer until it is released")
+    void testPublishKeepsRetainedBuffer() {
+      try {
+        DoubleBufferedCanvas buffers = new DoubleBufferedCanvas();
+        ChaosCanvas canvas = new ChaosCanvas(10, 10, new Vector2D(0, 0), new Vector2D(9, 9));
+        ChaosCanvas shown = buffers.publish(canvas);
+        shown.retain();
+
+        canvas.setPixelWithCoords(new Vector2D(5, 5));
+        buffers.publish(canvas);
+        buffers.publish(canvas);
+        assertEquals(0, shown.getPixelFromCoords(new Vector2D(5, 5)));
+        assertEquals(3, buffers.getBufferCount());
+
+        shown.release();
+        ChaosCanvas reused = buffers.publish(canvas);
+        assertSame(shown, reused);
+        assertEquals(255, reused.getPixelFromCoords(new Vector2D(5, 5)));
+        assertEquals(3, buffers.getBufferCount());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("publish follows changes in the size of the canvas")
+    void testPublishFollowsCanvasSize() {
+      try {
+        DoubleBufferedCanvas buffers = new DoubleBufferedCanvas();
+        ChaosCanvas canvas = new ChaosCanvas(10, 10, new Vector2D(0, 0), new Vector2D(9, 9));
+        buffers.publish(canvas);
+        buffers.publish(canvas);
+
+        canvas.resize(20, 15, new Vector2D(0, 0), new Vector2D(19, 14));
+        canvas.setPixelWithCoords(new Vector2D(9, 9));
+        ChaosCanvas front = buffers.publish(canvas);
+
+        assertEquals(20, front.getWidth());
+        assertEquals(15, front.getHeight());
+        assertArrayEquals(canvas.getPixels(), front.getPixels());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("publish throws an exception with null canvas")
+    void testPublishThrowsExceptionWithNullCanvas() {
+      try {
+        new DoubleBufferedCanvas().publish(null);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Canvas cannot be null", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("release throws an exception when the canvas is not retained")
+    void testReleaseThrowsExceptionWhenNotRetained() {
+      try {
+        new ChaosCanvas(10, 10, new Vector2D(0, 0), new Vector2D(9, 9)).release();
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Canvas is not retained", e.getMessage());
+      }
+    }
+  }
+}
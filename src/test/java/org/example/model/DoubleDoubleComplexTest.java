@@ -0,0 +1,131 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import org.example.model.math.DoubleDoubleComplex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DoubleDoubleComplexTest {
+
+  private static final MathContext DIGITS = new MathContext(40);
+
+  @Nested
+  @DisplayName("Positive tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("constructor sets the values correctly")
+    void testConstructorSetsValuesCorrectly() {
+      try {
+        DoubleDoubleComplex complex = new DoubleDoubleComplex(1, 2);
+        assertEquals(1, complex.getReal().doubleValue());
+        assertEquals(2, complex.getImaginary().doubleValue());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("multiply multiplies the complex numbers correctly")
+    void testMultiply() {
+      try {
+        DoubleDoubleComplex complex = new DoubleDoubleComplex(1, 2)
+            .multiply(new DoubleDoubleComplex(3, 4));
+        assertEquals(-5, complex.getReal().doubleValue());
+        assertEquals(10, complex.getImaginary().doubleValue());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("square matches multiply")
+    void testSquareMatchesMultiply() {
+      try {
+        BigDecimal real = BigDecimal.ONE.divide(BigDecimal.valueOf(3), DIGITS);
+        BigDecimal imaginary = BigDecimal.valueOf(2).sqrt(DIGITS);
+        DoubleDoubleComplex squared = new DoubleDoubleComplex(real, imaginary).square();
+        DoubleDoubleComplex multiplied = new DoubleDoubleComplex(real, imaginary)
+            .multiply(new DoubleDoubleComplex(real, imaginary));
+        assertEquals(multiplied.toString(), squared.toString());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("iterating z^2 + c matches a decimal calculation")
+    void testIterationMatchesDecimal() {
+      try {
+        BigDecimal zx = new BigDecimal("0.3000000000000000000000000001");
+        BigDecimal zy = new BigDecimal("0.2");
+        DoubleDoubleComplex complex = new DoubleDoubleComplex(zx, zy);
+        for (int i = 0; i < 10; i++) {
+          BigDecimal nextX = zx.multiply(zx, DIGITS).subtract(zy.multiply(zy, DIGITS), DIGITS)
+              .add(new BigDecimal(-0.4), DIGITS);
+          zy = zx.multiply(zy, DIGITS).multiply(BigDecimal.valueOf(2), DIGITS)
+              .add(new BigDecimal(0.6), DIGITS);
+          zx = nextX;
+          complex.square().add(-0.4, 0.6);
+        }
+        BigDecimal error = complex.getReal().toBigDecimal().subtract(zx).abs()
+            .add(complex.getImaginary().toBigDecimal().subtract(zy).abs());
+        assertTrue(error.compareTo(new BigDecimal("1e-26")) < 0);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("normSquared returns the squared distance from the origin")
+    void testNormSquared() {
+      try {
+        assertEquals(25, new DoubleDoubleComplex(3, 4).normSquared());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("multiply throws IllegalArgumentException when given null")
+    void testMultiplyThrowsOnNull() {
+      try {
+        new DoubleDoubleComplex(1, 2).multiply(null);
+        fail("An exception was not thrown");
+      } catch (IllegalArgumentException e) {
+        assertEquals("Complex cannot be null", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("add throws IllegalArgumentException when given null")
+    void testAddThrowsOnNull() {
+      try {
+        new DoubleDoubleComplex(1, 2).add(null);
+        fail("An exception was not thrown");
+      } catch (IllegalArgumentException e) {
+        assertEquals("Complex cannot be null", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("constructor throws IllegalArgumentException when given a null part")
+    void testConstructorThrowsOnNullPart() {
+      try {
+        new DoubleDoubleComplex(BigDecimal.ONE, null);
+        fail("An exception was not thrown");
+      } catch (IllegalArgumentException e) {
+        assertEquals("Value cannot be null", e.getMessage());
+      }
+    }
+  }
+}
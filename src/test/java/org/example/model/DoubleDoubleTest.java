@@ -0,0 +1,146 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import org.example.model.math.DoubleDouble;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DoubleDoubleTest {
+
+  private static final MathContext DIGITS = new MathContext(40);
+
+  @Nested
+  @DisplayName("Positive tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("constructor sets the value correctly")
+    void testConstructorSetsValueCorrectly() {
+      try {
+        DoubleDouble number = new DoubleDouble(1.5);
+        assertEquals(1.5, number.getHi());
+        assertEquals(0, number.getLo());
+        assertEquals(1.5, number.doubleValue());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("add keeps digits that a double loses")
+    void testAddKeepsDigitsBeyondDouble() {
+      try {
+        DoubleDouble number = new DoubleDouble(1).add(1e-20).subtract(1);
+        assertEquals(1e-20, number.doubleValue());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("constructor rounds a decimal to about 32 digits")
+    void testConstructorRoundsDecimal() {
+      try {
+        BigDecimal value = new BigDecimal("0.1234567890123456789012345678901234567");
+        DoubleDouble number = new DoubleDouble(value);
+        BigDecimal error = number.toBigDecimal().subtract(value).abs();
+        assertTrue(error.compareTo(new BigDecimal("1e-32")) < 0);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("multiply matches a decimal calculation")
+    void testMultiplyMatchesDecimal() {
+      try {
+        BigDecimal first = BigDecimal.ONE.divide(BigDecimal.valueOf(3), DIGITS);
+        BigDecimal second = BigDecimal.valueOf(2).sqrt(DIGITS);
+        DoubleDouble number = new DoubleDouble(first).multiply(new DoubleDouble(second));
+        BigDecimal error = number.toBigDecimal().subtract(first.multiply(second, DIGITS)).abs();
+        assertTrue(error.compareTo(new BigDecimal("1e-31")) < 0);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("square matches a decimal calculation")
+    void testSquareMatchesDecimal() {
+      try {
+        BigDecimal value = BigDecimal.valueOf(5).sqrt(DIGITS);
+        DoubleDouble number = new DoubleDouble(value).square();
+        BigDecimal error = number.toBigDecimal().subtract(BigDecimal.valueOf(5)).abs();
+        assertTrue(error.compareTo(new BigDecimal("1e-30")) < 0);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("operations change the number and return it")
+    void testOperationsReturnSameNumber() {
+      try {
+        DoubleDouble number = new DoubleDouble(2);
+        assertSame(number, number.add(1).multiply(2.0).negate());
+        assertEquals(-6, number.doubleValue());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("toString returns 32 significant digits")
+    void testToString() {
+      try {
+        DoubleDouble number = new DoubleDouble(BigDecimal.ONE.divide(BigDecimal.valueOf(3),
+            DIGITS));
+        assertEquals("0.33333333333333333333333333333333", number.toString());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("add throws IllegalArgumentException when given null")
+    void testAddThrowsOnNull() {
+      try {
+        new DoubleDouble(1).add(null);
+        fail("An exception was not thrown");
+      } catch (IllegalArgumentException e) {
+        assertEquals("Number cannot be null", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("multiply throws IllegalArgumentException when given null")
+    void testMultiplyThrowsOnNull() {
+      try {
+        new DoubleDouble(1).multiply(null);
+        fail("An exception was not thrown");
+      } catch (IllegalArgumentException e) {
+        assertEquals("Number cannot be null", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("constructor throws IllegalArgumentException when given a null decimal")
+    void testConstructorThrowsOnNullDecimal() {
+      try {
+        new DoubleDouble((BigDecimal) null);
+        fail("An exception was not thrown");
+      } catch (IllegalArgumentException e) {
+        assertEquals("Value cannot be null", e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.example.cli.ChaosGameCli;
+import org.example.cli.HeadlessRenderer;
+import org.example.cli.RenderJob;
+import org.example.model.chaosgame.ChaosCanvas;
+import org.example.model.chaosgame.ChaosGame;
+import org.example.model.chaosgame.ChaosGameFileHandler;
+import org.example.model.factory.ColorPalette;
+import org.example.model.factory.ToneMapper;
+import org.example.model.math.Vector2D;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HeadlessRendererTest {
+
+  private static final String AFFINE_FILE = "src/test/resources/testfiles/testFile.txt";
+  private static final String JULIA_FILE = "src/test/resources/testfiles/testFileJulia.txt";
+
+  @Nested
+  @DisplayName("Positive tests")
+  class PositiveTests {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("parseJob uses the defaults for options that are not given")
+    void testParseJobUsesDefaults() {
+      try {
+        RenderJob job = ChaosGameCli.parseJob(new String[]{"--input", "in.txt",
+            "--output", "out.png", "--width", "300", "--seed", "7"});
+        assertEquals("in.txt", job.getDescriptionPath());
+        assertEquals("out.png", job.getOutputPath());
+        assertEquals(300, job.getWidth());
+        assertEquals(600, job.getHeight());
+        assertEquals(1_000_000, job.getSteps());
+        assertEquals(255, job.getMaxIterations());
+        assertEquals(3.0, job.getEscapeRadius());
+        assertArrayEquals(new double[]{1, 0, 0}, job.getColor());
+        assertEquals(7L, job.getSeed());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("toImage converts the canvas with the color palette")
+    void testToImageUsesPalette() {
+      try {
+        ChaosCanvas canvas = new ChaosCanvas(4, 3, new Vector2D(0, 0), new Vector2D(3, 2));
+        canvas.setPixel(1, 2);
+        canvas.addToPixel(3, 0, 400);
+        BufferedImage image = new HeadlessRenderer().toImage(canvas, new double[]{0, 0.5, 1});
+        ColorPalette palette = new ColorPalette(0, 0.5, 1);
+
+        assertEquals(4, image.getWidth());
+        assertEquals(3, image.getHeight());
+        for (int row = 0; row < 3; row++) {
+          for (int column = 0; column < 4; column++) {
+            assertEquals(palette.getArgb(canvas.getPixel(row * 4 + column)),
+                image.getRGB(column, row));
+          }
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("toImage tone maps a high dynamic range canvas")
+    void testToImageToneMapsHighDynamicRange() {
+      try {
+        ChaosCanvas canvas = new ChaosCanvas(3, 1, new Vector2D(0, 0), new Vector2D(2, 1));
+        canvas.setHighDynamicRange(true);
+        canvas.addHitCounts(new int[]{0, 10, 100_000});
+        ToneMapper toneMapper = new ToneMapper(1, 1);
+        BufferedImage image = new HeadlessRenderer().toImage(canvas, new double[]{1, 0, 0},
+            toneMapper);
+        ColorPalette palette = new ColorPalette(1, 0, 0);
+        int[] values = toneMapper.map(canvas.getPixels());
+
+        for (int column = 0; column < 3; column++) {
+          assertEquals(palette.getArgb(values[column]), image.getRGB(column, 0));
+        }
+        assertEquals(palette.getArgb(ColorPalette.MAX_VALUE), image.getRGB(2, 0));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("parseJob creates a tone mapper when a gamma is given")
+    void testParseJobCreatesToneMapper() {
+      try {
+        RenderJob job = ChaosGameCli.parseJob(new String[]{"--input", "in.txt",
+            "--output", "out.png", "--gamma", "1.5"});
+        assertEquals(1.5, job.getToneMapper().getGamma());
+        assertEquals(ToneMapper.DEFAULT_PERCENTILE, job.getToneMapper().getPercentile());
+        assertNull(ChaosGameCli.parseJob(new String[]{"--input", "in.txt",
+            "--output", "out.png"}).getToneMapper());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("renderCanvas with a seed gives the same canvas as the chaos game")
+    void testRenderCanvasMatchesChaosGame() {
+      try {
+        RenderJob job = new RenderJob(AFFINE_FILE, "out.png", 60, 40, 20_000, 255, 3.0,
+            new double[]{1, 0, 0}, 3L, 1);
+        ChaosCanvas canvas = new HeadlessRenderer().renderCanvas(
+            new ChaosGameFileHandler().readFromFile(AFFINE_FILE), job);
+
+        ChaosGame chaosGame = new ChaosGame(new ChaosGameFileHandler().readFromFile(AFFINE_FILE),
+            60, 40);
+        chaosGame.setThreadCount(1);
+        chaosGame.setSeed(3);
+        chaosGame.runSteps(20_000);
+        assertArrayEquals(chaosGame.getCanvas().getPixels(), canvas.getPixels());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("render writes chaos games and Julia sets as PNG files")
+    void testRenderWritesPng() {
+      try {
+        HeadlessRenderer renderer = new HeadlessRenderer();
+        File affine = folder.resolve("images/affine.png").toFile();
+        File julia = folder.resolve("julia.png").toFile();
+        renderer.render(new RenderJob(AFFINE_FILE, affine.getPath(), 80, 50, 10_000, 255, 3.0,
+            new double[]{1, 0, 0}, null, 2));
+        renderer.render(new RenderJob(JULIA_FILE, julia.getPath(), 70, 30, 10, 50, 2.0,
+            new double[]{0, 1, 0}, null, 2));
+
+        BufferedImage affineImage = ImageIO.read(affine);
+        BufferedImage juliaImage = ImageIO.read(julia);
+        assertEquals(80, affineImage.getWidth());
+        assertEquals(50, affineImage.getHeight());
+        assertEquals(70, juliaImage.getWidth());
+        assertEquals(30, juliaImage.getHeight());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("renderCheckpoint continues the render from the checkpoint file")
+    void testRenderCheckpointContinuesRender() {
+      try {
+        HeadlessRenderer renderer = new HeadlessRenderer();
+        String checkpoint = folder.resolve("render.cgcp").toString();
+        File image = folder.resolve("render.png").toFile();
+        RenderJob job = new RenderJob(AFFINE_FILE, image.getPath(), 80, 50, 10_000, 255, 3.0,
+            new double[]{1, 0, 0}, 5L, 1);
+
+        assertEquals(10_000, renderer.renderCheckpoint(job, checkpoint));
+        assertEquals(20_000, renderer.renderCheckpoint(job, checkpoint));
+        assertEquals(20_000, ChaosGame.fromCheckpoint(checkpoint).getStepCount());
+        assertEquals(80, ImageIO.read(image).getWidth());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("parseJob throws an exception with an unknown option")
+    void testParseJobThrowsExceptionWithUnknownOption() {
+      try {
+        ChaosGameCli.parseJob(new String[]{"--input", "in.txt", "--size", "10"});
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Unknown option --size", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("parseJob throws an exception when a value is missing")
+    void testParseJobThrowsExceptionWithMissingValue() {
+      try {
+        ChaosGameCli.parseJob(new String[]{"--input", "in.txt", "--output"});
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Missing value for --output", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("parseJob throws an exception without an output file")
+    void testParseJobThrowsExceptionWithoutOutput() {
+      try {
+        ChaosGameCli.parseJob(new String[]{"--input", "in.txt"});
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Output path cannot be empty", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("parseJob throws an exception with an invalid number")
+    void testParseJobThrowsExceptionWithInvalidNumber() {
+      try {
+        ChaosGameCli.parseJob(new String[]{"--input", "in.txt", "--output", "out.png",
+            "--width", "wide"});
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Invalid value for --width", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("RenderJob throws an exception with an invalid color")
+    void testRenderJobThrowsExceptionWithInvalidColor() {
+      try {
+        new RenderJob("in.txt", "out.png", 10, 10, 10, 10, 2.0, new double[]{1, 2, 0}, null, 1);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Color components must be between 0 and 1", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("RenderJob throws an exception with a size that is not positive")
+    void testRenderJobThrowsExceptionWithInvalidSize() {
+      try {
+        new RenderJob("in.txt", "out.png", 0, 10, 10, 10, 2.0, new double[]{1, 0, 0}, null, 1);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Width must be positive", e.getMessage());
+      }
+    }
+  }
+}
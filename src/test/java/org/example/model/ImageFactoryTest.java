@@ -2,13 +2,19 @@ package org.example.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 import org.example.model.chaosgame.ChaosCanvas;
+import org.example.model.factory.ColorPalette;
 import org.example.model.factory.ImageFactory;
+import org.example.model.factory.ToneMapper;
 import org.example.model.math.Vector2D;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -102,6 +108,22 @@ public class ImageFactoryTest {
       assertEquals(0x00000000,image.getPixelReader().getArgb(1, 1));
     }
 
+    @Test
+    @DisplayName("createImage tone maps the hit counts of a high dynamic range canvas")
+    void testCreateImageToneMapsHighDynamicRange() {
+      ChaosCanvas hdrCanvas = new ChaosCanvas(2, 1, new Vector2D(0, 0), new Vector2D(1, 1));
+      hdrCanvas.setHighDynamicRange(true);
+      hdrCanvas.addHitCounts(new int[]{5, 100_000});
+      ImageFactory hdrFactory = new ImageFactory();
+      hdrFactory.setToneMapper(new ToneMapper(1, 1));
+      int[] values = hdrFactory.getToneMapper().map(hdrCanvas.getPixels());
+      ColorPalette palette = new ColorPalette(1, 0, 0);
+
+      Image image = hdrFactory.createImage(hdrCanvas, Color.RED);
+      assertEquals(palette.getArgb(values[0]), image.getPixelReader().getArgb(0, 0));
+      assertEquals(palette.getArgb(ColorPalette.MAX_VALUE), image.getPixelReader().getArgb(1, 0));
+    }
+
     @Test
     @DisplayName("createImage starts darkening the color after 255")
     void testCreateImageDarkensColorAfter255() {
@@ -112,6 +134,52 @@ public class ImageFactoryTest {
       assertTrue(image.getPixelReader().getArgb(0, 0) < 0xFFFF0000);
     }
 
+    @Test
+    @DisplayName("createImage gives the same colors as writing each color to the image")
+    void testCreateImageMatchesWritingEachColor() {
+      ChaosCanvas valueCanvas = new ChaosCanvas(28, 27, new Vector2D(0, 0), new Vector2D(1, 1));
+      for (int i = 0; i < 28 * 27; i++) {
+        valueCanvas.setPixel(i, i);
+      }
+      for (Color color : new Color[]{Color.BLACK, Color.CORNFLOWERBLUE, new Color(.3, .6, .9, 1)}) {
+        WritableImage expected = new WritableImage(28, 27);
+        PixelWriter writer = expected.getPixelWriter();
+        for (int i = 0; i < 28 * 27; i++) {
+          if (i == 0) {
+            writer.setColor(0, 0, Color.TRANSPARENT);
+          } else if (i <= 255) {
+            writer.setColor(i % 28, i / 28,
+                new Color(color.getRed(), color.getGreen(), color.getBlue(), i / 255.0));
+          } else {
+            double alpha = 1.0 / (1.0 + Math.pow((i - 255) / 100.0, 2));
+            writer.setColor(i % 28, i / 28, new Color(color.getRed() * alpha,
+                color.getGreen() * alpha, color.getBlue() * alpha, 1.0));
+          }
+        }
+        Image image = factory.createImage(valueCanvas, color);
+        for (int i = 0; i < 28 * 27; i++) {
+          assertEquals(expected.getPixelReader().getArgb(i % 28, i / 28),
+              image.getPixelReader().getArgb(i % 28, i / 28));
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("updateImage reuses the image while the size is unchanged")
+    void testUpdateImageReusesImage() {
+      ImageFactory imageFactory = new ImageFactory();
+      Image first = imageFactory.updateImage(canvas, Color.RED);
+      canvas.setPixelWithPointOnCanvas(new Vector2D(0, 0), 255);
+      Image second = imageFactory.updateImage(canvas, Color.RED);
+      assertSame(first, second);
+      assertEquals(0xFFFF0000, second.getPixelReader().getArgb(0, 0));
+
+      Image third = imageFactory.updateImage(
+          new ChaosCanvas(5, 5, new Vector2D(0, 0), new Vector2D(1, 1)), Color.RED);
+      assertNotSame(second, third);
+      assertEquals(5, third.getWidth());
+    }
+
   }
 
   @Nested
@@ -128,6 +196,17 @@ public class ImageFactoryTest {
         }
       }
 
+      @Test
+      @DisplayName("updateImage throws an exception with a null canvas")
+      void testUpdateImageThrowsExceptionWithNullCanvas() {
+        try {
+          factory.updateImage(null, Color.BLACK);
+          fail("Exception not thrown");
+        } catch (IllegalArgumentException e) {
+          assertEquals(e.getMessage(), "Canvas cannot be null");
+        }
+      }
+
   }
 
 }
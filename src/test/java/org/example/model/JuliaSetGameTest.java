@@ -1,9 +1,14 @@
 package org.example.model;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import org.example.model.chaosgame.ChaosCanvas;
 import org.example.model.chaosgame.ChaosGameDescription;
 import org.example.model.chaosgame.JuliaSetGame;
 import org.example.model.math.Complex;
@@ -205,6 +210,32 @@ class JuliaSetGameTest {
       }
     }
 
+    @Test
+    @DisplayName("calculateValue gives the same values as the smoothing formula")
+    void testCalculateValueMatchesSmoothingFormula() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(.7, .1), 1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms);
+
+        JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 100, 100, 255, 2.0);
+        for (int iteration = 0; iteration < 255; iteration++) {
+          for (double zx = 0.5; zx < 1e6; zx *= 1.7) {
+            double absZ = zx * zx + 0.25;
+            int value = (int) (iteration + 1 - Math.log(Math.log(absZ)) / Math.log(2));
+            double multiplier = Math.pow((double) value / 255, 0.2);
+            value = (int) (255 - 255 * multiplier);
+            int expected = Math.max((int) ((double) value / 255 * 754), 0);
+            assertEquals(expected, juliaSetGame.calculateValue(iteration, zx, 0.5));
+          }
+        }
+        assertEquals(0, juliaSetGame.calculateValue(255, 3, 3));
+      } catch (Exception e) {
+        fail("calculateValue should not throw an exception with valid parameters");
+      }
+    }
+
     @Test
     @DisplayName("calculatePoint throws no exception with valid parameters")
     void testCalculatePointThrowsNoExceptions() {
@@ -237,6 +268,375 @@ class JuliaSetGameTest {
       }
     }
 
+    @Test
+    @DisplayName("runSteps on several threads gives the same canvas as calculatePoint")
+    void testRunStepsOnSeveralThreadsMatchesCalculatePoint() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(-0.74543, 0.11301), 1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms);
+
+        JuliaSetGame expected = new JuliaSetGame(chaosGameDescription, 150, 130, 100, 2.0);
+        for (int x0 = 0; x0 < 150; x0++) {
+          for (int x1 = 0; x1 < 130; x1++) {
+            expected.calculatePoint(x0, x1, -0.74543, 0.11301);
+          }
+        }
+        JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 150, 130, 100, 2.0);
+        juliaSetGame.setThreadCount(4);
+        juliaSetGame.runSteps(100);
+
+        assertArrayEquals(expected.getCanvas().getPixels(), juliaSetGame.getCanvas().getPixels());
+        assertEquals(4, juliaSetGame.getThreadCount());
+      } catch (Exception e) {
+        fail("runSteps should not throw an exception with valid parameters");
+      }
+    }
+
+    @Test
+    @DisplayName("runSteps gives the same canvas when the thread count changes or after close")
+    void testRunStepsReusesPoolAfterThreadCountChangeAndClose() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(-0.74543, 0.11301), 1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms);
+        JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 150, 130, 100, 2.0);
+        juliaSetGame.setThreadCount(1);
+        juliaSetGame.runSteps(100);
+        int[] expected = juliaSetGame.getCanvas().getPixels();
+
+        for (int threads : new int[]{4, 4, 2}) {
+          juliaSetGame.setThreadCount(threads);
+          juliaSetGame.runSteps(100);
+          assertArrayEquals(expected, juliaSetGame.getCanvas().getPixels());
+        }
+        juliaSetGame.close();
+        juliaSetGame.runSteps(100);
+        juliaSetGame.close();
+        assertArrayEquals(expected, juliaSetGame.getCanvas().getPixels());
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("runSteps gives the same canvas with and without period checking")
+    void testPeriodCheckingGivesSameCanvas() {
+      try {
+        double[][] constants = {{-0.74543, 0.11301}, {-1, 0}, {-0.123, 0.745}};
+        for (double[] c : constants) {
+          List<Transform2D> transforms = new ArrayList<>();
+          transforms.add(new JuliaTransform(new Complex(c[0], c[1]), 1));
+          ChaosGameDescription chaosGameDescription = new ChaosGameDescription(
+              new Vector2D(-1.6, -1.2), new Vector2D(1.6, 1.2), transforms);
+
+          JuliaSetGame expected = new JuliaSetGame(chaosGameDescription, 120, 90, 2000, 4.0);
+          expected.setPeriodChecking(false);
+          expected.runSteps(2000);
+          JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 120, 90, 2000, 4.0);
+          juliaSetGame.runSteps(2000);
+
+          assertArrayEquals(expected.getCanvas().getPixels(),
+              juliaSetGame.getCanvas().getPixels());
+        }
+      } catch (Exception e) {
+        fail("runSteps should not throw an exception with valid parameters");
+      }
+    }
+
+    @Test
+    @DisplayName("getCanvas returns the last frame, which does not change in later runs")
+    void testGetCanvasKeepsFrameAcrossRuns() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(-0.123, 0.745), 1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(
+            new Vector2D(-1.6, -1.2), new Vector2D(1.6, 1.2), transforms);
+        JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 60, 40, 200, 4.0);
+        JuliaSetGame expected = new JuliaSetGame(chaosGameDescription, 60, 40, 200, 4.0);
+        expected.runSteps(200);
+        int[] expectedPixels = expected.getCanvas().getPixels();
+
+        juliaSetGame.runSteps(200);
+        ChaosCanvas first = juliaSetGame.getCanvas();
+        assertArrayEquals(expectedPixels, first.getPixels());
+        for (int i = 0; i < 4; i++) {
+          juliaSetGame.changeZoom(-0.5);
+          juliaSetGame.runSteps(200);
+        }
+        assertArrayEquals(expectedPixels, first.getPixels());
+        assertFalse(Arrays.equals(expectedPixels, juliaSetGame.getCanvas().getPixels()));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("changeZoom after a run keeps the last frame in getCanvas and for observers")
+    void testChangeZoomKeepsLastFrame() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(-0.123, 0.745), 1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(
+            new Vector2D(-1.6, -1.2), new Vector2D(1.6, 1.2), transforms);
+        JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 60, 40, 200, 4.0);
+        List<int[]> notifiedPixels = new ArrayList<>();
+        juliaSetGame.addObserver(new TestListener() {
+          @Override
+          public void updateCanvas(ChaosCanvas canvas) {
+            notifiedPixels.add(canvas.getPixels());
+          }
+        });
+
+        juliaSetGame.runSteps(200);
+        int[] frame = juliaSetGame.getCanvas().getPixels();
+        assertTrue(Arrays.stream(frame).anyMatch(value -> value != 0));
+        juliaSetGame.changeZoom(-0.5);
+
+        assertArrayEquals(frame, juliaSetGame.getCanvas().getPixels());
+        assertEquals(2, notifiedPixels.size());
+        assertArrayEquals(frame, notifiedPixels.get(1));
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Period checking is on by default and can be turned off")
+    void testSetPeriodChecking() {
+      List<Transform2D> transforms = new ArrayList<>();
+      transforms.add(new JuliaTransform(new Complex(.7, .1), 1));
+      ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(0, 0),
+          new Vector2D(1, 1), transforms);
+
+      JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 100, 100, 100, 2.0);
+      assertTrue(juliaSetGame.isPeriodChecking());
+      juliaSetGame.setPeriodChecking(false);
+      assertFalse(juliaSetGame.isPeriodChecking());
+    }
+
+    @Test
+    @DisplayName("Rectangle subdivision gives the same canvas for connected Julia sets")
+    void testRectangleSubdivisionGivesSameCanvas() {
+      try {
+        double[][] constants = {{-1, 0}, {-0.123, 0.745}};
+        for (double[] c : constants) {
+          List<Transform2D> transforms = new ArrayList<>();
+          transforms.add(new JuliaTransform(new Complex(c[0], c[1]), 1));
+          ChaosGameDescription chaosGameDescription = new ChaosGameDescription(
+              new Vector2D(-1.6, -1.2), new Vector2D(1.6, 1.2), transforms);
+
+          JuliaSetGame expected = new JuliaSetGame(chaosGameDescription, 200, 150, 500, 4.0);
+          expected.runSteps(500);
+          for (int threads : new int[]{1, 4}) {
+            JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 200, 150, 500,
+                4.0);
+            juliaSetGame.setRectangleSubdivision(true);
+            juliaSetGame.setThreadCount(threads);
+            juliaSetGame.runSteps(500);
+
+            assertArrayEquals(expected.getCanvas().getPixels(),
+                juliaSetGame.getCanvas().getPixels());
+          }
+        }
+      } catch (Exception e) {
+        fail("runSteps should not throw an exception with valid parameters");
+      }
+    }
+
+    @Test
+    @DisplayName("Rectangle subdivision is off by default and can be turned on")
+    void testSetRectangleSubdivision() {
+      List<Transform2D> transforms = new ArrayList<>();
+      transforms.add(new JuliaTransform(new Complex(.7, .1), 1));
+      ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(0, 0),
+          new Vector2D(1, 1), transforms);
+
+      JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 100, 100, 100, 2.0);
+      assertFalse(juliaSetGame.isRectangleSubdivision());
+      juliaSetGame.setRectangleSubdivision(true);
+      assertTrue(juliaSetGame.isRectangleSubdivision());
+    }
+
+    @Test
+    @DisplayName("The vector kernel gives the same canvas as the scalar loop")
+    void testVectorKernelGivesSameCanvas() {
+      assumeTrue(JuliaSetGame.isVectorKernelAvailable());
+      try {
+        double[][] constants = {{-0.74543, 0.11301}, {-1, 0}, {-0.123, 0.745}};
+        for (double[] c : constants) {
+          List<Transform2D> transforms = new ArrayList<>();
+          transforms.add(new JuliaTransform(new Complex(c[0], c[1]), 1));
+          ChaosGameDescription chaosGameDescription = new ChaosGameDescription(
+              new Vector2D(-1.6, -1.2), new Vector2D(1.6, 1.2), transforms);
+          for (boolean periodChecking : new boolean[]{true, false}) {
+            JuliaSetGame expected = new JuliaSetGame(chaosGameDescription, 123, 91, 1000, 4.0);
+            expected.setVectorKernel(false);
+            expected.setPeriodChecking(periodChecking);
+            expected.runSteps(1000);
+            JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 123, 91, 1000,
+                4.0);
+            juliaSetGame.setVectorKernel(true);
+            juliaSetGame.setPeriodChecking(periodChecking);
+            juliaSetGame.runSteps(1000);
+
+            assertArrayEquals(expected.getCanvas().getPixels(),
+                juliaSetGame.getCanvas().getPixels());
+          }
+        }
+      } catch (Exception e) {
+        fail("runSteps should not throw an exception with valid parameters");
+      }
+    }
+
+    @Test
+    @DisplayName("The vector kernel is on by default when it is available and can be turned off")
+    void testSetVectorKernel() {
+      List<Transform2D> transforms = new ArrayList<>();
+      transforms.add(new JuliaTransform(new Complex(.7, .1), 1));
+      ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(0, 0),
+          new Vector2D(1, 1), transforms);
+
+      JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 100, 100, 100, 2.0);
+      assertEquals(JuliaSetGame.isVectorKernelAvailable(), juliaSetGame.isVectorKernel());
+      juliaSetGame.setVectorKernel(false);
+      assertFalse(juliaSetGame.isVectorKernel());
+    }
+
+    @Test
+    @DisplayName("Deep zoom mode gives the same canvas as the normal mode at a normal zoom")
+    void testDeepZoomMatchesNormalModeAtNormalZoom() {
+      try {
+        double[][] constants = {{-0.74543, 0.11301}, {-1, 0}, {-0.123, 0.745}};
+        for (double[] c : constants) {
+          List<Transform2D> transforms = new ArrayList<>();
+          transforms.add(new JuliaTransform(new Complex(c[0], c[1]), 1));
+          ChaosGameDescription chaosGameDescription = new ChaosGameDescription(
+              new Vector2D(-1.6, -1.2), new Vector2D(1.6, 1.2), transforms);
+
+          JuliaSetGame expected = new JuliaSetGame(chaosGameDescription, 160, 120, 500, 4.0);
+          expected.setCenter(new BigDecimal("0.3"), new BigDecimal("0.1"));
+          expected.runSteps(500);
+          JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 160, 120, 500, 4.0);
+          juliaSetGame.setCenter(new BigDecimal("0.3"), new BigDecimal("0.1"));
+          juliaSetGame.setDeepZoom(true);
+          juliaSetGame.runSteps(500);
+
+          int[] expectedPixels = expected.getCanvas().getPixels();
+          int[] pixels = juliaSetGame.getCanvas().getPixels();
+          int matching = 0;
+          for (int i = 0; i < pixels.length; i++) {
+            if (pixels[i] == expectedPixels[i]) {
+              matching++;
+            }
+          }
+          assertTrue(matching >= pixels.length * 0.99);
+        }
+      } catch (Exception e) {
+        fail("runSteps should not throw an exception with valid parameters");
+      }
+    }
+
+    @Test
+    @DisplayName("Deep zoom mode matches a BigDecimal calculation with double-doubles and decimals")
+    void testDeepZoomMatchesBigDecimalCalculation() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(-1, 0), 1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(
+            new Vector2D(-1.6, -1.2), new Vector2D(1.6, 1.2), transforms);
+        MathContext mathContext = new MathContext(60);
+        BigDecimal fixedPoint = BigDecimal.ONE.add(BigDecimal.valueOf(5).sqrt(mathContext))
+            .divide(BigDecimal.valueOf(2), mathContext);
+
+        for (int steps : new int[]{20, 30}) {
+          JuliaSetGame automatic = new JuliaSetGame(chaosGameDescription, 40, 30, 300, 4.0);
+          JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 40, 30, 300, 4.0);
+          for (JuliaSetGame game : new JuliaSetGame[]{automatic, juliaSetGame}) {
+            game.setCenter(fixedPoint, BigDecimal.ZERO);
+            for (int i = 0; i < steps; i++) {
+              game.changeZoom(-0.9);
+            }
+          }
+          juliaSetGame.setDeepZoom(true);
+          automatic.runSteps(300);
+          juliaSetGame.runSteps(300);
+
+          int[] pixels = juliaSetGame.getCanvas().getPixels();
+          for (int x1 = 0; x1 < 30; x1++) {
+            for (int x0 = 0; x0 < 40; x0++) {
+              BigDecimal zx = fixedPoint.add(
+                  new BigDecimal(juliaSetGame.getZoom() * (x0 - 20.0) * 4.0 / 40), mathContext);
+              BigDecimal zy = new BigDecimal(juliaSetGame.getZoom() * (x1 - 15.0) * 4.0 / 40);
+              int iteration = 0;
+              while (iteration < 300 && Math.pow(zx.doubleValue(), 2)
+                  + Math.pow(zy.doubleValue(), 2) < 4) {
+                BigDecimal nextX = zx.multiply(zx, mathContext)
+                    .subtract(zy.multiply(zy, mathContext), mathContext)
+                    .subtract(BigDecimal.ONE, mathContext);
+                zy = zx.multiply(zy, mathContext).multiply(BigDecimal.valueOf(2), mathContext);
+                zx = nextX;
+                iteration++;
+              }
+              assertEquals(juliaSetGame.calculateValue(iteration, zx.doubleValue(),
+                  zy.doubleValue()), pixels[x1 * 40 + x0]);
+            }
+          }
+          assertArrayEquals(pixels, automatic.getCanvas().getPixels());
+        }
+      } catch (Exception e) {
+        fail("runSteps should not throw an exception with valid parameters");
+      }
+    }
+
+    @Test
+    @DisplayName("moveCanvas keeps moves at a deep zoom in the centre")
+    void testMoveCanvasKeepsCenterAtDeepZoom() {
+      List<Transform2D> transforms = new ArrayList<>();
+      transforms.add(new JuliaTransform(new Complex(.7, .1), 1));
+      ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(0, 0),
+          new Vector2D(1, 1), transforms);
+
+      JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 100, 100, 100, 2.0);
+      juliaSetGame.setCenter(BigDecimal.ONE, BigDecimal.ONE);
+      for (int i = 0; i < 20; i++) {
+        juliaSetGame.changeZoom(-0.9);
+      }
+      juliaSetGame.moveCanvas(new Vector2D(-1.0, 1.0));
+      assertEquals(1.0, juliaSetGame.getOffsetX());
+      assertTrue(juliaSetGame.getCenterX().compareTo(BigDecimal.ONE) > 0);
+      assertTrue(juliaSetGame.getCenterY().compareTo(BigDecimal.ONE) > 0);
+      assertFalse(juliaSetGame.isDeepZoom());
+    }
+
+    @Test
+    @DisplayName("runSteps stops without notifying observers when the thread is interrupted")
+    void testRunStepsStopsWhenInterrupted() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(-0.74543, 0.11301), 1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms);
+        for (int threads : new int[]{1, 4}) {
+          JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 150, 130, 100, 2.0);
+          juliaSetGame.setThreadCount(threads);
+          TestListener observer = new TestListener();
+          juliaSetGame.addObserver(observer);
+
+          Thread.currentThread().interrupt();
+          juliaSetGame.runSteps(100);
+          assertTrue(Thread.interrupted());
+          assertFalse(observer.isNotifiedCanvas());
+        }
+      } catch (Exception e) {
+        fail("runSteps should not throw an exception when interrupted");
+      } finally {
+        Thread.interrupted();
+      }
+    }
+
     @Test
     @DisplayName("setDescription sets the description correctly")
     void testSetDescriptionSetsDescriptionCorrectly() {
@@ -365,6 +765,22 @@ class JuliaSetGameTest {
   @Nested
   class NegativeTests {
 
+    @Test
+    @DisplayName("setCenter throws an exception with a null coordinate")
+    void testSetCenterThrowsExceptionWithNull() {
+      try {
+        List<Transform2D> transforms = new ArrayList<>();
+        transforms.add(new JuliaTransform(new Complex(.7, .1), 1));
+        ChaosGameDescription chaosGameDescription = new ChaosGameDescription(new Vector2D(0, 0),
+            new Vector2D(1, 1), transforms);
+        JuliaSetGame juliaSetGame = new JuliaSetGame(chaosGameDescription, 100, 100, 100, 2.0);
+        juliaSetGame.setCenter(null, BigDecimal.ZERO);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Center can not be null", e.getMessage());
+      }
+    }
+
     @Test
     @DisplayName("constructor throws exception with null ChaosGameDescription")
     void testConstructorThrowsExceptionWithNullChaosGameDescription() {
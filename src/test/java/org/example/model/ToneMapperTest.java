@@ -0,0 +1,172 @@
+package org.example.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import org.example.model.factory.ColorPalette;
+import org.example.model.factory.ToneMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ToneMapperTest {
+
+  @Nested
+  @DisplayName("Positive tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("map gives 0 to empty pixels and at least 1 to pixels that have been hit")
+    void testMapKeepsEmptyPixels() {
+      try {
+        int[] values = new ToneMapper().map(new int[]{0, 1, 0, 1_000_000});
+        assertEquals(0, values[0]);
+        assertTrue(values[1] >= 1);
+        assertEquals(0, values[2]);
+        assertEquals(ColorPalette.MAX_VALUE, values[3]);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("map with gamma 1 maps the counts by their log density")
+    void testMapUsesLogDensity() {
+      try {
+        int[] values = new ToneMapper(1, 1).map(new int[]{1, 9, 99, 999});
+        assertEquals(Math.round(ColorPalette.MAX_VALUE * Math.log(2) / Math.log(1000)),
+            values[0]);
+        assertEquals(Math.round(ColorPalette.MAX_VALUE / 3.0), values[1]);
+        assertEquals(Math.round(ColorPalette.MAX_VALUE * 2 / 3.0), values[2]);
+        assertEquals(ColorPalette.MAX_VALUE, values[3]);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("map gives the largest value to all counts above the percentile")
+    void testMapCutsCountsAbovePercentile() {
+      try {
+        int[] counts = new int[100];
+        for (int i = 0; i < counts.length; i++) {
+          counts[i] = i + 1;
+        }
+        counts[99] = 1_000_000;
+        int[] values = new ToneMapper(1, 0.9).map(counts);
+        assertEquals(ColorPalette.MAX_VALUE, values[89]);
+        assertEquals(ColorPalette.MAX_VALUE, values[99]);
+        assertTrue(values[88] < ColorPalette.MAX_VALUE);
+        for (int i = 1; i < counts.length; i++) {
+          assertTrue(values[i] >= values[i - 1]);
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("map finds the percentile among small and large counts, also when reused")
+    void testMapFindsPercentileOfMixedCounts() {
+      try {
+        int[] counts = {7_000_000, 3, 0, 10_000_000, 1, 5_000_000, 9, 2_000_000, 70_000, 5,
+            8_000_000, 0, 2, 1_000_000, 4, 9_000_000, 6, 3_000_000, 200_000, 8, 4_000_000};
+        int[] sorted = Arrays.stream(counts).filter(count -> count > 0).sorted().toArray();
+        for (int rank = 0; rank < sorted.length; rank++) {
+          ToneMapper toneMapper = new ToneMapper(1, (rank + 1.0) / sorted.length);
+          for (int run = 0; run < 2; run++) {
+            int[] values = toneMapper.map(counts);
+            for (int i = 0; i < counts.length; i++) {
+              assertEquals(counts[i] >= sorted[rank], values[i] == ColorPalette.MAX_VALUE);
+            }
+          }
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("map of a view of the counts gives the same values as map of the array")
+    void testMapOfViewMatchesArray() {
+      try {
+        int[] counts = {0, 4, 90_000, 17, 0, 3_000, 250_000, 1};
+        int[] expected = new ToneMapper().map(counts);
+        int[] values = new int[counts.length];
+        new ToneMapper().map(IntBuffer.wrap(counts).asReadOnlyBuffer(), values);
+        assertArrayEquals(expected, values);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("A larger gamma brightens the thin parts of the image")
+    void testLargerGammaBrightens() {
+      try {
+        int[] counts = {1, 10, 100, 10_000};
+        int[] linear = new ToneMapper(1, 1).map(counts);
+        int[] bright = new ToneMapper(2.2, 1).map(counts);
+        for (int i = 0; i < 3; i++) {
+          assertTrue(bright[i] > linear[i]);
+        }
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Longer runs brighten thin parts and keep the densest pixel at the top")
+    void testMapBrightensLongerRuns() {
+      try {
+        int[] counts = {0, 3, 30, 300, 3000};
+        int[] longer = {0, 30, 300, 3000, 30_000};
+        int[] values = new ToneMapper(2.2, 1).map(counts);
+        int[] longerValues = new ToneMapper(2.2, 1).map(longer);
+        assertEquals(values[4], longerValues[4]);
+        assertTrue(longerValues[1] > values[1]);
+      } catch (Exception e) {
+        fail("An exception was thrown with the message: " + e.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Constructor throws an exception with a gamma that is not positive")
+    void testConstructorThrowsExceptionWithInvalidGamma() {
+      try {
+        new ToneMapper(0, 0.5);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Gamma must be positive", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("Constructor throws an exception with a percentile outside 0 to 1")
+    void testConstructorThrowsExceptionWithInvalidPercentile() {
+      try {
+        new ToneMapper(2.2, 1.5);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Percentile must be larger than 0 and at most 1", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("map throws an exception when the destination is too small")
+    void testMapThrowsExceptionWithSmallDestination() {
+      try {
+        new ToneMapper().map(new int[3], new int[2]);
+        fail("An exception was not thrown");
+      } catch (Exception e) {
+        assertEquals("Destination must have room for all values", e.getMessage());
+      }
+    }
+  }
+}